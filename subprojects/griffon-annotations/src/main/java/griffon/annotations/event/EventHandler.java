@@ -34,7 +34,9 @@ import java.lang.annotation.Target;
 public @interface EventHandler {
     /**
      * Defines filters for this event handler. All filters are evaluated before the handler is invoked, which
-     * can only happen if all filters return {@code true}.
+     * can only happen if all filters return {@code true}. Filter instances are resolved once and shared by all
+     * invocations of the handler, unless the filter type is annotated with {@link griffon.annotations.inject.Prototype}
+     * in which case a fresh instance is created per invocation.
      */
     Class<? extends EventFilter<?>>[] filters() default {};
 
@@ -45,6 +45,7 @@ public interface ObservableConstants extends BaseConstants {
     String METHOD_REMOVE_PROPERTY_CHANGE_LISTENER = "removePropertyChangeListener";
     String METHOD_GET_PROPERTY_CHANGE_LISTENERS = "getPropertyChangeListeners";
     String METHOD_FIRE_PROPERTY_CHANGE = "firePropertyChange";
+    String METHOD_HAS_LISTENERS = "hasListeners";
     String OLD_VALUE = "oldValue";
     String NEW_VALUE = "newValue";
     String EVENT = "event";
@@ -103,6 +104,42 @@ public interface ObservableConstants extends BaseConstants {
                 annotatedType(annotations(ANNOTATION_NONNULL), JAVA_LANG_STRING),
                 annotatedType(annotations(ANNOTATION_NULLABLE), JAVA_LANG_OBJECT),
                 annotatedType(annotations(ANNOTATION_NULLABLE), JAVA_LANG_OBJECT))
+        ),
+        method(
+            Modifier.PROTECTED,
+            type(VOID),
+            METHOD_FIRE_PROPERTY_CHANGE,
+            args(
+                annotatedType(annotations(ANNOTATION_NONNULL), JAVA_LANG_STRING),
+                type(INT),
+                type(INT))
+        ),
+        method(
+            Modifier.PROTECTED,
+            type(VOID),
+            METHOD_FIRE_PROPERTY_CHANGE,
+            args(
+                annotatedType(annotations(ANNOTATION_NONNULL), JAVA_LANG_STRING),
+                type(LONG),
+                type(LONG))
+        ),
+        method(
+            Modifier.PROTECTED,
+            type(VOID),
+            METHOD_FIRE_PROPERTY_CHANGE,
+            args(
+                annotatedType(annotations(ANNOTATION_NONNULL), JAVA_LANG_STRING),
+                type(DOUBLE),
+                type(DOUBLE))
+        ),
+        method(
+            Modifier.PROTECTED,
+            type(VOID),
+            METHOD_FIRE_PROPERTY_CHANGE,
+            args(
+                annotatedType(annotations(ANNOTATION_NONNULL), JAVA_LANG_STRING),
+                type(BOOLEAN),
+                type(BOOLEAN))
         )
     };
 }
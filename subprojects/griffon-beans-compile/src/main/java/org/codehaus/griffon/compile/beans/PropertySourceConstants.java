@@ -104,6 +104,42 @@ public interface PropertySourceConstants extends BaseConstants {
                 annotatedType(annotations(ANNOTATION_NONNULL), JAVA_LANG_STRING),
                 annotatedType(annotations(ANNOTATION_NULLABLE), JAVA_LANG_OBJECT),
                 annotatedType(annotations(ANNOTATION_NULLABLE), JAVA_LANG_OBJECT))
+        ),
+        method(
+            Modifier.PROTECTED,
+            type(VOID),
+            METHOD_FIRE_PROPERTY_CHANGE,
+            args(
+                annotatedType(annotations(ANNOTATION_NONNULL), JAVA_LANG_STRING),
+                type(INT),
+                type(INT))
+        ),
+        method(
+            Modifier.PROTECTED,
+            type(VOID),
+            METHOD_FIRE_PROPERTY_CHANGE,
+            args(
+                annotatedType(annotations(ANNOTATION_NONNULL), JAVA_LANG_STRING),
+                type(LONG),
+                type(LONG))
+        ),
+        method(
+            Modifier.PROTECTED,
+            type(VOID),
+            METHOD_FIRE_PROPERTY_CHANGE,
+            args(
+                annotatedType(annotations(ANNOTATION_NONNULL), JAVA_LANG_STRING),
+                type(DOUBLE),
+                type(DOUBLE))
+        ),
+        method(
+            Modifier.PROTECTED,
+            type(VOID),
+            METHOD_FIRE_PROPERTY_CHANGE,
+            args(
+                annotatedType(annotations(ANNOTATION_NONNULL), JAVA_LANG_STRING),
+                type(BOOLEAN),
+                type(BOOLEAN))
         )
     };
 }
@@ -67,7 +67,11 @@ class ConstantsSpec extends Specification implements BaseConstants {
         '@griffon.annotations.core.Nonnull public java.beans.PropertyChangeListener[] getPropertyChangeListeners()',
         '@griffon.annotations.core.Nonnull public java.beans.PropertyChangeListener[] getPropertyChangeListeners(@griffon.annotations.core.Nullable java.lang.String arg0)',
         'protected void firePropertyChange(@griffon.annotations.core.Nonnull java.beans.PropertyChangeEvent arg0)',
-        'protected void firePropertyChange(@griffon.annotations.core.Nonnull java.lang.String arg0, @griffon.annotations.core.Nullable java.lang.Object arg1, @griffon.annotations.core.Nullable java.lang.Object arg2)'
+        'protected void firePropertyChange(@griffon.annotations.core.Nonnull java.lang.String arg0, @griffon.annotations.core.Nullable java.lang.Object arg1, @griffon.annotations.core.Nullable java.lang.Object arg2)',
+        'protected void firePropertyChange(@griffon.annotations.core.Nonnull java.lang.String arg0, int arg1, int arg2)',
+        'protected void firePropertyChange(@griffon.annotations.core.Nonnull java.lang.String arg0, long arg1, long arg2)',
+        'protected void firePropertyChange(@griffon.annotations.core.Nonnull java.lang.String arg0, double arg1, double arg2)',
+        'protected void firePropertyChange(@griffon.annotations.core.Nonnull java.lang.String arg0, boolean arg1, boolean arg2)'
     ]
 
     private static final List<String> VETOABLE_METHODS = [
@@ -89,7 +93,11 @@ class ConstantsSpec extends Specification implements BaseConstants {
         '@griffon.annotations.core.Nonnull public griffon.core.properties.PropertyChangeListener[] getPropertyChangeListeners()',
         '@griffon.annotations.core.Nonnull public griffon.core.properties.PropertyChangeListener[] getPropertyChangeListeners(@griffon.annotations.core.Nullable java.lang.String arg0)',
         'protected void firePropertyChange(@griffon.annotations.core.Nonnull griffon.core.properties.PropertyChangeEvent arg0)',
-        'protected void firePropertyChange(@griffon.annotations.core.Nonnull java.lang.String arg0, @griffon.annotations.core.Nullable java.lang.Object arg1, @griffon.annotations.core.Nullable java.lang.Object arg2)'
+        'protected void firePropertyChange(@griffon.annotations.core.Nonnull java.lang.String arg0, @griffon.annotations.core.Nullable java.lang.Object arg1, @griffon.annotations.core.Nullable java.lang.Object arg2)',
+        'protected void firePropertyChange(@griffon.annotations.core.Nonnull java.lang.String arg0, int arg1, int arg2)',
+        'protected void firePropertyChange(@griffon.annotations.core.Nonnull java.lang.String arg0, long arg1, long arg2)',
+        'protected void firePropertyChange(@griffon.annotations.core.Nonnull java.lang.String arg0, double arg1, double arg2)',
+        'protected void firePropertyChange(@griffon.annotations.core.Nonnull java.lang.String arg0, boolean arg1, boolean arg2)'
     ]
 
     private static final List<String> VETOABLE_PROPERTY_SOURCE_METHODS = [
@@ -34,9 +34,11 @@ import static java.util.Objects.requireNonNull;
  */
 public abstract class AbstractObservable implements Observable {
     protected final PropertyChangeSupport pcs;
+    private final PropertyChangeBatchSupport batchSupport;
 
     public AbstractObservable() {
         pcs = new PropertyChangeSupport(this);
+        batchSupport = new PropertyChangeBatchSupport(this, pcs);
     }
 
     @Override
@@ -71,11 +73,41 @@ public abstract class AbstractObservable implements Observable {
         return pcs.getPropertyChangeListeners(propertyName);
     }
 
+    /**
+     * Executes the given {@code Runnable} delivering all changes it makes once it completes.
+     *
+     * @param runnable the code that performs the changes.
+     *
+     * @see PropertyChangeBatchSupport#batch(Runnable)
+     * @since 3.0.0
+     */
+    public void batch(@Nonnull Runnable runnable) {
+        batchSupport.batch(runnable);
+    }
+
+    public void beginBatch() {
+        batchSupport.begin();
+    }
+
+    public void commitBatch() {
+        batchSupport.commit();
+    }
+
+    public boolean isBatching() {
+        return batchSupport.isBatching();
+    }
+
     protected void firePropertyChange(@Nonnull PropertyChangeEvent event) {
-        pcs.firePropertyChange(requireNonNull(event, "Argument 'event' must not be null"));
+        requireNonNull(event, "Argument 'event' must not be null");
+        if (!batchSupport.record(event)) {
+            pcs.firePropertyChange(event);
+        }
     }
 
     protected void firePropertyChange(@Nonnull String propertyName, @Nullable Object oldValue, @Nullable Object newValue) {
-        pcs.firePropertyChange(requireNonBlank(propertyName, "Argument 'propertyName' must not be blank"), oldValue, newValue);
+        requireNonBlank(propertyName, "Argument 'propertyName' must not be blank");
+        if (!batchSupport.record(propertyName, oldValue, newValue)) {
+            pcs.firePropertyChange(propertyName, oldValue, newValue);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.beans;
+
+import griffon.annotations.core.Nonnull;
+import griffon.annotations.core.Nullable;
+import griffon.util.PropertyChangeBatch;
+import griffon.util.PropertyChangeBatchListener;
+
+import java.beans.IndexedPropertyChangeEvent;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeListenerProxy;
+import java.beans.PropertyChangeSupport;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Groups changes delivered through a {@code java.beans.PropertyChangeSupport}.
+ * <p>
+ * Changes recorded while a batch is open on the current thread are delivered when the outermost batch is committed,
+ * see {@link PropertyChangeBatch}. Changes of indexed properties are grouped by index. Listeners registered for
+ * all properties that implement {@link PropertyChangeBatchListener} are notified once per batch.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public class PropertyChangeBatchSupport {
+    private final Object source;
+    private final PropertyChangeSupport pcs;
+    private final PropertyChangeBatch<PropertyChangeEvent> changes;
+
+    public PropertyChangeBatchSupport(@Nonnull Object source, @Nonnull PropertyChangeSupport pcs) {
+        this.source = requireNonNull(source, "Argument 'source' must not be null");
+        this.pcs = requireNonNull(pcs, "Argument 'pcs' must not be null");
+        this.changes = new PropertyChangeBatch<>(PropertyChangeBatchSupport::keyOf,
+            this::merge,
+            event -> valuesAreEqual(event.getOldValue(), event.getNewValue()));
+    }
+
+    /**
+     * Executes the given {@code Runnable} inside a batch. The batch is committed even if the {@code Runnable} fails,
+     * in which case any failure of the commit is added as suppressed to the failure of the {@code Runnable}.
+     *
+     * @param runnable the code that performs the changes.
+     */
+    public void batch(@Nonnull Runnable runnable) {
+        requireNonNull(runnable, "Argument 'runnable' must not be null");
+        begin();
+        try {
+            runnable.run();
+        } catch (RuntimeException | Error e) {
+            try {
+                commit();
+            } catch (RuntimeException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        commit();
+    }
+
+    /**
+     * Opens a batch on the current thread. Batches may be nested, changes are delivered when the outermost batch is committed.
+     */
+    public void begin() {
+        changes.begin();
+    }
+
+    /**
+     * Closes the current batch. Recorded changes are delivered if this was the outermost batch.
+     *
+     * @throws IllegalStateException if the current thread has no open batch.
+     */
+    public void commit() {
+        deliver(changes.commit());
+    }
+
+    public boolean isBatching() {
+        return changes.isBatching();
+    }
+
+    /**
+     * Records a change if the current thread has an open batch.
+     *
+     * @return {@code true} if the change was recorded, {@code false} if it should be delivered right away.
+     */
+    public boolean record(@Nonnull PropertyChangeEvent event) {
+        return changes.record(event);
+    }
+
+    /**
+     * Records a change if the current thread has an open batch. The event is only created when a batch is open.
+     *
+     * @return {@code true} if the change was recorded, {@code false} if it should be delivered right away.
+     */
+    public boolean record(@Nullable String propertyName, @Nullable Object oldValue, @Nullable Object newValue) {
+        return propertyName != null && changes.isBatching() && changes.record(new PropertyChangeEvent(source, propertyName, oldValue, newValue));
+    }
+
+    private void deliver(@Nonnull List<PropertyChangeEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        // a failing listener must not keep the remaining listeners from being notified
+        RuntimeException failure = null;
+        for (PropertyChangeListener listener : pcs.getPropertyChangeListeners()) {
+            if (listener instanceof PropertyChangeListenerProxy) {
+                String propertyName = ((PropertyChangeListenerProxy) listener).getPropertyName();
+                for (PropertyChangeEvent event : events) {
+                    if (propertyName.equals(event.getPropertyName())) {
+                        failure = notifyListener(failure, () -> listener.propertyChange(event));
+                    }
+                }
+            } else if (listener instanceof PropertyChangeBatchListener) {
+                failure = notifyListener(failure, () -> batchListener(listener).propertiesChanged(events));
+            } else {
+                for (PropertyChangeEvent event : events) {
+                    failure = notifyListener(failure, () -> listener.propertyChange(event));
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Nullable
+    private static RuntimeException notifyListener(@Nullable RuntimeException failure, @Nonnull Runnable notification) {
+        try {
+            notification.run();
+        } catch (RuntimeException e) {
+            if (failure == null) {
+                return e;
+            }
+            failure.addSuppressed(e);
+        }
+        return failure;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PropertyChangeBatchListener<PropertyChangeEvent> batchListener(@Nonnull PropertyChangeListener listener) {
+        return (PropertyChangeBatchListener<PropertyChangeEvent>) listener;
+    }
+
+    @Nullable
+    private static Object keyOf(@Nonnull PropertyChangeEvent event) {
+        String propertyName = event.getPropertyName();
+        if (propertyName == null) {
+            // unspecified changes are delivered right away
+            return null;
+        }
+        if (event instanceof IndexedPropertyChangeEvent) {
+            return propertyName + "[" + ((IndexedPropertyChangeEvent) event).getIndex() + "]";
+        }
+        return propertyName;
+    }
+
+    @Nonnull
+    private PropertyChangeEvent merge(@Nonnull PropertyChangeEvent first, @Nonnull PropertyChangeEvent last) {
+        if (last instanceof IndexedPropertyChangeEvent) {
+            return new IndexedPropertyChangeEvent(source, last.getPropertyName(), first.getOldValue(), last.getNewValue(), ((IndexedPropertyChangeEvent) last).getIndex());
+        }
+        return new PropertyChangeEvent(source, last.getPropertyName(), first.getOldValue(), last.getNewValue());
+    }
+
+    private static boolean valuesAreEqual(@Nullable Object oldValue, @Nullable Object newValue) {
+        // same semantics as java.beans.PropertyChangeSupport
+        return oldValue != null && newValue != null && oldValue.equals(newValue);
+    }
+}
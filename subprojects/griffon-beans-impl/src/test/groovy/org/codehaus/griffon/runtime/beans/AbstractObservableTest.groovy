@@ -17,8 +17,10 @@
  */
 package org.codehaus.griffon.runtime.beans
 
+import griffon.util.PropertyChangeBatchListener
 import org.junit.jupiter.api.Test
 
+import java.beans.IndexedPropertyChangeEvent
 import java.beans.PropertyChangeEvent
 import java.beans.PropertyChangeListener
 
@@ -64,6 +66,152 @@ class AbstractObservableTest {
         // then:
         assert !observable.getPropertyChangeListeners('value2')
     }
+
+    @Test
+    void batchedChangesAreCoalesced() {
+        // given:
+        MyObservable observable = new MyObservable()
+        List<String> events = []
+        List<Integer> batches = []
+        observable.addPropertyChangeListener({ PropertyChangeEvent e -> events << "${e.propertyName}:${e.oldValue}:${e.newValue}".toString() } as PropertyChangeListener)
+        observable.addPropertyChangeListener(new BatchListenerWitness(batches))
+
+        // when:
+        observable.batch {
+            observable.value1 = 'a'
+            observable.value2 = 'b'
+            observable.batch { observable.value1 = 'c' }
+            assert observable.batching
+            assert !events
+        }
+
+        // then:
+        assert events == ['value1:null:c', 'value2:null:b']
+        assert batches == [2]
+        assert !observable.batching
+
+        // when:
+        events.clear()
+        observable.beginBatch()
+        observable.value1 = 'd'
+        observable.value1 = 'c'
+        observable.commitBatch()
+
+        // then:
+        assert !events
+    }
+
+    @Test
+    void batchesBelongToTheThreadThatOpenedThem() {
+        // given:
+        MyObservable observable = new MyObservable()
+        List<String> events = []
+        observable.addPropertyChangeListener({ PropertyChangeEvent e -> events << "${e.propertyName}:${e.newValue}".toString() } as PropertyChangeListener)
+
+        // when:
+        observable.beginBatch()
+        observable.value1 = 'a'
+        Thread.start {
+            assert !observable.batching
+            observable.value2 = 'b'
+        }.join()
+
+        // then:
+        assert events == ['value2:b']
+
+        // when:
+        observable.commitBatch()
+
+        // then:
+        assert events == ['value2:b', 'value1:a']
+    }
+
+    @Test
+    void batchedIndexedChangesKeepTheirIndex() {
+        // given:
+        MyObservable observable = new MyObservable()
+        List<PropertyChangeEvent> events = []
+        observable.addPropertyChangeListener({ PropertyChangeEvent e -> events << e } as PropertyChangeListener)
+
+        // when:
+        observable.batch {
+            observable.firePropertyChange(new IndexedPropertyChangeEvent(observable, 'items', 'a', 'b', 0))
+            observable.firePropertyChange(new IndexedPropertyChangeEvent(observable, 'items', 'x', 'y', 1))
+            observable.firePropertyChange(new IndexedPropertyChangeEvent(observable, 'items', 'b', 'c', 0))
+        }
+
+        // then:
+        assert events.every { it instanceof IndexedPropertyChangeEvent }
+        assert events.collect { "${it.index}:${it.oldValue}:${it.newValue}".toString() } == ['0:a:c', '1:x:y']
+    }
+
+    @Test
+    void failingListenersDoNotStopBatchDelivery() {
+        // given:
+        MyObservable observable = new MyObservable()
+        List<String> events = []
+        observable.addPropertyChangeListener({ throw new IllegalStateException('first') } as PropertyChangeListener)
+        observable.addPropertyChangeListener({ PropertyChangeEvent e -> events << e.propertyName } as PropertyChangeListener)
+        observable.addPropertyChangeListener('value1', { throw new IllegalStateException('second') } as PropertyChangeListener)
+
+        // when:
+        IllegalStateException failure = null
+        try {
+            observable.batch {
+                observable.value1 = 'a'
+                observable.value2 = 'b'
+            }
+        } catch (IllegalStateException e) {
+            failure = e
+        }
+
+        // then:
+        assert events == ['value1', 'value2']
+        assert failure.message == 'first'
+        assert failure.suppressed*.message.sort() == ['first', 'second']
+        assert !observable.batching
+    }
+
+    @Test
+    void commitFailuresDoNotMaskTheFailureOfTheBatch() {
+        // given:
+        MyObservable observable = new MyObservable()
+        observable.addPropertyChangeListener({ throw new IllegalStateException('listener') } as PropertyChangeListener)
+
+        // when:
+        IllegalArgumentException failure = null
+        try {
+            observable.batch {
+                observable.value1 = 'a'
+                throw new IllegalArgumentException('batch')
+            }
+        } catch (IllegalArgumentException e) {
+            failure = e
+        }
+
+        // then:
+        assert failure.message == 'batch'
+        assert failure.suppressed*.message == ['listener']
+        assert !observable.batching
+    }
+}
+
+class BatchListenerWitness implements PropertyChangeListener, PropertyChangeBatchListener<PropertyChangeEvent> {
+    final List<Integer> batches
+
+    BatchListenerWitness(List<Integer> batches) {
+        this.batches = batches
+    }
+
+    @Override
+    void propertyChange(PropertyChangeEvent evt) {
+        batches << 0
+    }
+
+    @Override
+    void propertiesChanged(List<PropertyChangeEvent> changes) {
+        batches << changes.size()
+    }
 }
 
 class PropertyChangeListenerWitness implements PropertyChangeListener {
@@ -59,6 +59,40 @@ public interface ConverterRegistry {
     @Nullable
     <T> Converter<T> findConverter(@Nonnull Class<T> targetType);
 
+    /**
+     * Locates a value converter for a given target type, converter class and format.<p>
+     * Implementations may hand out the same instance to subsequent calls with matching arguments made by the same
+     * thread, thus the returned converter must not be reconfigured by callers nor shared with other threads.
+     *
+     * @param targetType     The Class object for the type to be converter. Must not be {@code null}
+     * @param converterClass the class of the converter to be instantiated. The registered converter for {@code targetType}
+     *                       is used if {@code null} or a {@code NoopConverter}.
+     * @param format         the format applied to {@code FormattingConverter} instances. Ignored if {@code null}.
+     *
+     * @return A converter object for the given target class.
+     * The result is {@code null} if no suitable converter can be found.
+     * @since 3.0.0
+     */
+    @Nullable
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    default <T> Converter<T> findConverter(@Nonnull Class<T> targetType, @Nullable Class<? extends Converter> converterClass, @Nullable String format) {
+        Converter<T> converter;
+        if (converterClass == null || NoopConverter.class.isAssignableFrom(converterClass)) {
+            converter = findConverter(targetType);
+        } else {
+            try {
+                converter = converterClass.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Could not instantiate converter with " + converterClass, e);
+            }
+        }
+
+        if (format != null && converter instanceof FormattingConverter) {
+            ((FormattingConverter) converter).setFormat(format);
+        }
+        return converter;
+    }
+
     /**
      * Removes all currently registered converters.
      */
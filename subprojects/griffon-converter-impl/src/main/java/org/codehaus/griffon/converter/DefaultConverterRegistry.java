@@ -21,20 +21,30 @@ import griffon.annotations.core.Nonnull;
 import griffon.annotations.core.Nullable;
 import griffon.converter.Converter;
 import griffon.converter.ConverterRegistry;
+import griffon.converter.FormattingConverter;
+import griffon.converter.NoopConverter;
 import griffon.converter.spi.ConverterProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.ServiceLoader;
-import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import static java.util.Objects.requireNonNull;
 
 /**
+ * Lookups read an immutable snapshot of the registered converters and never block; registrations copy the
+ * current snapshot and swap it. Converters that do not implement {@code FormattingConverter} hold no state,
+ * a single instance per target type is shared until registrations change.
+ *
  * @author Andres Almiray
  * @since 3.0.0
  */
@@ -43,10 +53,10 @@ public final class DefaultConverterRegistry implements ConverterRegistry {
     private static final String ERROR_TARGET_TYPE_NULL = "Argument 'targetType' must not be null";
     private static final String ERROR_CONVERTER_CLASS_NULL = "Argument 'converterClass' must not be null";
     private final Object lock = new Object[0];
-    // @GuardedBy("lock")
-    private final WeakCache<String, Class<? extends Converter<?>>> converterCache = new WeakCache<>();
-    // @GuardedBy("lock")
-    private final Map<String, CompositeConverter<?>> compositeConverterCache = new ConcurrentHashMap<>();
+    // written while holding lock
+    private volatile Registrations registrations = Registrations.EMPTY;
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder instantiations = new LongAdder();
 
     public DefaultConverterRegistry() {
         loadConverters();
@@ -59,13 +69,13 @@ public final class DefaultConverterRegistry implements ConverterRegistry {
                 registerConverter(provider.getTargetType(), provider.getConverterType());
             }
 
-            registerConverter(Integer.TYPE, (Class<Converter<Integer>>) converterCache.get(Integer.class.getName()));
-            registerConverter(Boolean.TYPE, (Class<Converter<Boolean>>) converterCache.get(Boolean.class.getName()));
-            registerConverter(Byte.TYPE, (Class<Converter<Byte>>) converterCache.get(Byte.class.getName()));
-            registerConverter(Short.TYPE, (Class<Converter<Short>>) converterCache.get(Short.class.getName()));
-            registerConverter(Long.TYPE, (Class<Converter<Long>>) converterCache.get(Long.class.getName()));
-            registerConverter(Float.TYPE, (Class<Converter<Float>>) converterCache.get(Float.class.getName()));
-            registerConverter(Double.TYPE, (Class<Converter<Double>>) converterCache.get(Double.class.getName()));
+            registerConverter(Integer.TYPE, (Class<Converter<Integer>>) registrations.getConverterType(Integer.class.getName()));
+            registerConverter(Boolean.TYPE, (Class<Converter<Boolean>>) registrations.getConverterType(Boolean.class.getName()));
+            registerConverter(Byte.TYPE, (Class<Converter<Byte>>) registrations.getConverterType(Byte.class.getName()));
+            registerConverter(Short.TYPE, (Class<Converter<Short>>) registrations.getConverterType(Short.class.getName()));
+            registerConverter(Long.TYPE, (Class<Converter<Long>>) registrations.getConverterType(Long.class.getName()));
+            registerConverter(Float.TYPE, (Class<Converter<Float>>) registrations.getConverterType(Float.class.getName()));
+            registerConverter(Double.TYPE, (Class<Converter<Double>>) registrations.getConverterType(Double.class.getName()));
         }
     }
 
@@ -76,40 +86,44 @@ public final class DefaultConverterRegistry implements ConverterRegistry {
         requireNonNull(converterClass, ERROR_CONVERTER_CLASS_NULL);
         synchronized (lock) {
             String targetTypeName = targetType.getName();
+            Map<String, Reference<Class<? extends Converter<?>>>> converterTypes = new HashMap<>(registrations.converterTypes);
+            Map<String, CompositeConverter<?>> compositeConverters = new HashMap<>(registrations.compositeConverters);
 
             // is targetType handled by a converter?
-            CompositeConverter<T> converter = (CompositeConverter<T>) compositeConverterCache.get(targetTypeName);
+            CompositeConverter<T> converter = (CompositeConverter<T>) compositeConverters.get(targetTypeName);
             if (converter != null) {
                 CompositeConverter<T> copy = converter.copyOfByAdding(converterClass);
                 if (copy.getSize() > 1) {
-                    compositeConverterCache.put(targetTypeName, copy);
+                    compositeConverters.put(targetTypeName, copy);
                 } else {
                     // standard registration
-                    compositeConverterCache.remove(targetTypeName);
-                    converterCache.put(targetTypeName, converterClass);
+                    compositeConverters.remove(targetTypeName);
+                    converterTypes.put(targetTypeName, new WeakReference<>(converterClass));
                 }
             } else {
                 // is targetType handled by a converter ?
-                Class<Converter<T>> converterType = (Class<Converter<T>>) converterCache.get(targetTypeName);
+                Class<Converter<T>> converterType = (Class<Converter<T>>) registrations.getConverterType(targetTypeName);
                 if (converterType != null) {
-                    converterCache.remove(targetTypeName);
+                    converterTypes.remove(targetTypeName);
                     Class<? extends Converter<T>>[] converterClasses = new Class[2];
                     converterClasses[0] = converterType;
                     converterClasses[1] = converterClass;
                     converter = new CompositeConverter<T>(targetType, converterClasses);
                     if (converter.getSize() > 1) {
-                        compositeConverterCache.put(targetTypeName, converter);
+                        compositeConverters.put(targetTypeName, converter);
                     } else {
                         // standard registration
-                        compositeConverterCache.remove(targetTypeName);
-                        converterCache.put(targetTypeName, converterClass);
+                        compositeConverters.remove(targetTypeName);
+                        converterTypes.put(targetTypeName, new WeakReference<>(converterClass));
                     }
                 } else {
                     // standard registration
-                    compositeConverterCache.remove(targetTypeName);
-                    converterCache.put(targetTypeName, converterClass);
+                    compositeConverters.remove(targetTypeName);
+                    converterTypes.put(targetTypeName, new WeakReference<>(converterClass));
                 }
             }
+
+            update(converterTypes, compositeConverters);
         }
     }
 
@@ -120,29 +134,30 @@ public final class DefaultConverterRegistry implements ConverterRegistry {
 
         synchronized (lock) {
             String targetTypeName = targetType.getName();
-            if (converterClass == null) {
-                compositeConverterCache.remove(targetTypeName);
-                converterCache.remove(targetTypeName);
-                return;
-            }
+            Map<String, Reference<Class<? extends Converter<?>>>> converterTypes = new HashMap<>(registrations.converterTypes);
+            Map<String, CompositeConverter<?>> compositeConverters = new HashMap<>(registrations.compositeConverters);
 
-            if (converterClass.equals(converterCache.get(targetTypeName))) {
-                converterCache.remove(targetTypeName);
-                return;
-            }
-
-            CompositeConverter<T> converter = (CompositeConverter<T>) compositeConverterCache.get(targetTypeName);
-            if (converter != null) {
-                converter = converter.copyOfByRemoving(converterClass);
-                if (converter == null) {
-                    compositeConverterCache.remove(targetTypeName);
-                } else if (converter.getSize() == 1) {
-                    compositeConverterCache.remove(targetTypeName);
-                    converterCache.put(targetTypeName, converter.getConverterClasses()[0]);
-                } else {
-                    compositeConverterCache.put(targetTypeName, converter);
+            if (converterClass == null) {
+                compositeConverters.remove(targetTypeName);
+                converterTypes.remove(targetTypeName);
+            } else if (converterClass.equals(registrations.getConverterType(targetTypeName))) {
+                converterTypes.remove(targetTypeName);
+            } else {
+                CompositeConverter<T> converter = (CompositeConverter<T>) compositeConverters.get(targetTypeName);
+                if (converter != null) {
+                    converter = converter.copyOfByRemoving(converterClass);
+                    if (converter == null) {
+                        compositeConverters.remove(targetTypeName);
+                    } else if (converter.getSize() == 1) {
+                        compositeConverters.remove(targetTypeName);
+                        converterTypes.put(targetTypeName, new WeakReference<>(converter.getConverterClasses()[0]));
+                    } else {
+                        compositeConverters.put(targetTypeName, converter);
+                    }
                 }
             }
+
+            update(converterTypes, compositeConverters);
         }
     }
 
@@ -152,13 +167,11 @@ public final class DefaultConverterRegistry implements ConverterRegistry {
     public <T> Converter<T> findConverter(@Nonnull Class<T> targetType) {
         requireNonNull(targetType, ERROR_TARGET_TYPE_NULL);
         LOG.trace("Searching PropertyEditor for {}", targetType.getName());
+        lookups.increment();
 
-        Converter<?> converter = null;
-        if (Enum.class.isAssignableFrom(targetType)) {
-            converter = new EnumConverter();
-            ((EnumConverter) converter).setEnumType(targetType);
-        } else {
-            converter = doFindConverter(targetType);
+        Converter<?> converter = doFindConverter(targetType);
+        if (converter == null && Enum.class.isAssignableFrom(targetType)) {
+            converter = registrations.enumConverters.computeIfAbsent(targetType, this::createEnumConverter);
         }
 
         if (converter != null) {
@@ -167,66 +180,149 @@ public final class DefaultConverterRegistry implements ConverterRegistry {
         return (Converter<T>) converter;
     }
 
+    @Nullable
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T> Converter<T> findConverter(@Nonnull Class<T> targetType, @Nullable Class<? extends Converter> converterClass, @Nullable String format) {
+        requireNonNull(targetType, ERROR_TARGET_TYPE_NULL);
+        if (converterClass != null && NoopConverter.class.isAssignableFrom(converterClass)) {
+            converterClass = null;
+        }
+
+        // formatting and user supplied converters may keep mutable state, each thread gets its own instances
+        Map<ConverterKey, Converter<?>> converters = registrations.configuredConverters.get();
+        ConverterKey key = new ConverterKey(targetType, converterClass, format);
+        Converter<?> converter = converters.get(key);
+        if (converter == null) {
+            converter = ConverterRegistry.super.findConverter(targetType, converterClass, format);
+            if (converter != null) {
+                converters.put(key, converter);
+            }
+        }
+        return (Converter<T>) converter;
+    }
+
     @Override
     public void clear() {
         synchronized (lock) {
-            converterCache.clear();
-            compositeConverterCache.clear();
+            update(Collections.emptyMap(), Collections.emptyMap());
         }
     }
 
+    /**
+     * @return the number of times {@link #findConverter(Class)} was called.
+     */
+    public long getLookupCount() {
+        return lookups.sum();
+    }
+
+    /**
+     * @return the number of converter instances created by {@link #findConverter(Class)}.
+     */
+    public long getInstantiationCount() {
+        return instantiations.sum();
+    }
+
+    private void update(@Nonnull Map<String, Reference<Class<? extends Converter<?>>>> converterTypes, @Nonnull Map<String, CompositeConverter<?>> compositeConverters) {
+        registrations = new Registrations(converterTypes, compositeConverters);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private EnumConverter<?> createEnumConverter(@Nonnull Class<?> enumType) {
+        instantiations.increment();
+        EnumConverter converter = new EnumConverter();
+        converter.setEnumType(enumType);
+        return converter;
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     private <T> Converter<T> doFindConverter(Class<T> targetType) {
-        synchronized (lock) {
-            String targetTypeName = targetType.getName();
-            if (compositeConverterCache.containsKey(targetTypeName)) {
-                CompositeConverter<T> converter = (CompositeConverter<T>) compositeConverterCache.get(targetTypeName);
-                return converter.copyOfByAdding();
-            } else {
-                Class<? extends Converter<?>> converterType = converterCache.get(targetTypeName);
-                if (converterType != null) {
-                    try {
-                        return (Converter<T>) converterType.newInstance();
-                    } catch (InstantiationException | IllegalAccessException e) {
-                        throw new IllegalStateException("Can't instantiate " + converterType, e);
-                    }
-                }
+        Registrations current = registrations;
+        String targetTypeName = targetType.getName();
+
+        CompositeConverter<T> compositeConverter = (CompositeConverter<T>) current.compositeConverters.get(targetTypeName);
+        if (compositeConverter != null) {
+            // formatting converter, each caller gets its own copy
+            instantiations.increment();
+            return compositeConverter.copyOfByAdding();
+        }
+
+        Converter<?> converter = current.sharedConverters.get(targetType);
+        if (converter != null) {
+            return (Converter<T>) converter;
+        }
+
+        Class<? extends Converter<?>> converterType = current.getConverterType(targetTypeName);
+        if (converterType == null) {
+            return null;
+        }
+
+        try {
+            converter = converterType.getDeclaredConstructor().newInstance();
+            instantiations.increment();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Can't instantiate " + converterType, e);
+        }
+
+        if (!(converter instanceof FormattingConverter)) {
+            Converter<?> previous = current.sharedConverters.putIfAbsent(targetType, converter);
+            if (previous != null) {
+                converter = previous;
             }
         }
-        return null;
+        return (Converter<T>) converter;
     }
 
-    private static final class WeakCache<K, V> {
-        private final Map<K, Reference<V>> map = new WeakHashMap<>();
+    private static final class Registrations {
+        private static final Registrations EMPTY = new Registrations(Collections.emptyMap(), Collections.emptyMap());
 
-        private V get(K key) {
-            Reference<V> reference = this.map.get(key);
-            if (reference == null) {
-                return null;
-            } else {
-                V value = reference.get();
-                if (value == null) {
-                    this.map.remove(key);
-                }
+        private final Map<String, Reference<Class<? extends Converter<?>>>> converterTypes;
+        private final Map<String, CompositeConverter<?>> compositeConverters;
+        // stateless converters created for this set of registrations
+        private final ConcurrentMap<Class<?>, Converter<?>> sharedConverters = new ConcurrentHashMap<>();
+        // enum converters created for this set of registrations
+        private final ConcurrentMap<Class<?>, EnumConverter<?>> enumConverters = new ConcurrentHashMap<>();
+        // converters handed out by findConverter(targetType, converterClass, format) to each thread for this set of registrations
+        private final ThreadLocal<Map<ConverterKey, Converter<?>>> configuredConverters = ThreadLocal.withInitial(HashMap::new);
 
-                return value;
-            }
+        private Registrations(@Nonnull Map<String, Reference<Class<? extends Converter<?>>>> converterTypes, @Nonnull Map<String, CompositeConverter<?>> compositeConverters) {
+            this.converterTypes = converterTypes;
+            this.compositeConverters = compositeConverters;
         }
 
-        private void put(K key, V value) {
-            if (value != null) {
-                this.map.put(key, new WeakReference<>(value));
-            } else {
-                this.map.remove(key);
-            }
+        @Nullable
+        private Class<? extends Converter<?>> getConverterType(@Nonnull String targetTypeName) {
+            Reference<Class<? extends Converter<?>>> reference = converterTypes.get(targetTypeName);
+            return reference != null ? reference.get() : null;
+        }
+    }
+
+    private static final class ConverterKey {
+        private final Class<?> targetType;
+        private final Class<?> converterClass;
+        private final String format;
+        private final int hashCode;
+
+        private ConverterKey(@Nonnull Class<?> targetType, @Nullable Class<?> converterClass, @Nullable String format) {
+            this.targetType = targetType;
+            this.converterClass = converterClass;
+            this.format = format;
+            this.hashCode = Objects.hash(targetType, converterClass, format);
         }
 
-        private void remove(K key) {
-            this.map.remove(key);
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) { return true; }
+            if (o == null || getClass() != o.getClass()) { return false; }
+            ConverterKey that = (ConverterKey) o;
+            return targetType == that.targetType &&
+                converterClass == that.converterClass &&
+                Objects.equals(format, that.format);
         }
 
-        private void clear() {
-            this.map.clear();
+        @Override
+        public int hashCode() {
+            return hashCode;
         }
     }
 }
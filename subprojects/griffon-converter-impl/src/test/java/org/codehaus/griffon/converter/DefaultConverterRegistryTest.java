@@ -25,6 +25,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import griffon.converter.Converter;
 import griffon.converter.ConverterRegistry;
+import griffon.converter.NoopConverter;
 import java.io.File;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -37,6 +38,7 @@ import java.time.LocalTime;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -124,6 +126,108 @@ public class DefaultConverterRegistryTest {
         assertThat(converter, nullValue());
     }
 
+    @Test
+    public void convertersAreReusedPerTypeConverterClassAndFormat() {
+        // given:
+        ConverterRegistry converterRegistry = new DefaultConverterRegistry();
+
+        // when:
+        Converter<Date> converter = converterRegistry.findConverter(Date.class, null, "yyyy-MM-dd");
+
+        // then:
+        assertThat(converter, instanceOf(DateConverter.class));
+        assertThat(((DateConverter) converter).getFormat(), equalTo("yyyy-MM-dd"));
+        assertThat(converterRegistry.findConverter(Date.class, NoopConverter.class, "yyyy-MM-dd") == converter, equalTo(true));
+        assertThat(converterRegistry.findConverter(Date.class, null, "dd/MM/yyyy") == converter, equalTo(false));
+        assertThat(converterRegistry.findConverter(Date.class, Converter3.class, "yyyy-MM-dd"), instanceOf(Converter3.class));
+        assertThat(converterRegistry.findConverter(Date.class, Converter3.class, "yyyy-MM-dd") == converterRegistry.findConverter(Date.class, Converter3.class, "yyyy-MM-dd"), equalTo(true));
+    }
+
+    @Test
+    public void convertersAreConfinedToTheirThread() throws Exception {
+        // given:
+        ConverterRegistry converterRegistry = new DefaultConverterRegistry();
+        Converter<Date> converter = converterRegistry.findConverter(Date.class, null, "yyyy-MM-dd");
+
+        // when:
+        AtomicReference<Converter<Date>> other = new AtomicReference<>();
+        Thread thread = new Thread(() -> other.set(converterRegistry.findConverter(Date.class, null, "yyyy-MM-dd")));
+        thread.start();
+        thread.join();
+
+        // then:
+        assertThat(other.get(), instanceOf(DateConverter.class));
+        assertThat(other.get() == converter, equalTo(false));
+        assertThat(converterRegistry.findConverter(Date.class, null, "yyyy-MM-dd") == converter, equalTo(true));
+    }
+
+    @Test
+    public void reusedConvertersAreDiscardedWhenRegistrationsChange() {
+        // given:
+        ConverterRegistry converterRegistry = new DefaultConverterRegistry();
+        converterRegistry.clear();
+        converterRegistry.registerConverter(Integer.class, Converter1.class);
+        Converter<Integer> converter = converterRegistry.findConverter(Integer.class, null, null);
+
+        // when:
+        converterRegistry.unregisterConverter(Integer.class, Converter1.class);
+
+        // then:
+        assertThat(converter, instanceOf(Converter1.class));
+        assertThat(converterRegistry.findConverter(Integer.class, null, null), nullValue());
+    }
+
+    @Test
+    public void statelessConvertersAreSharedPerTargetType() {
+        // given:
+        DefaultConverterRegistry converterRegistry = new DefaultConverterRegistry();
+
+        // when:
+        Converter<File> converter = converterRegistry.findConverter(File.class);
+
+        // then:
+        assertThat(converterRegistry.findConverter(File.class) == converter, equalTo(true));
+        assertThat(converterRegistry.findConverter(MyEnum.class) == converterRegistry.findConverter(MyEnum.class), equalTo(true));
+        assertThat(converterRegistry.findConverter(Date.class) == converterRegistry.findConverter(Date.class), equalTo(false));
+        assertThat(converterRegistry.getLookupCount(), equalTo(6L));
+        assertThat(converterRegistry.getInstantiationCount(), equalTo(4L));
+
+        // when:
+        converterRegistry.unregisterConverter(File.class, FileConverter.class);
+        converterRegistry.registerConverter(File.class, FileConverter.class);
+
+        // then:
+        assertThat(converterRegistry.findConverter(File.class) == converter, equalTo(false));
+    }
+
+    @Test
+    public void enumConvertersAreDiscardedWhenRegistrationsChange() {
+        // given:
+        ConverterRegistry converterRegistry = new DefaultConverterRegistry();
+        Converter<MyEnum> converter = converterRegistry.findConverter(MyEnum.class);
+
+        // when:
+        converterRegistry.registerConverter(MyEnum.class, MyEnumConverter.class);
+
+        // then:
+        assertThat(converter, instanceOf(EnumConverter.class));
+        assertThat(converterRegistry.findConverter(MyEnum.class), instanceOf(MyEnumConverter.class));
+
+        // when:
+        converterRegistry.unregisterConverter(MyEnum.class, MyEnumConverter.class);
+
+        // then:
+        assertThat(converterRegistry.findConverter(MyEnum.class), instanceOf(EnumConverter.class));
+        assertThat(converterRegistry.findConverter(MyEnum.class) == converter, equalTo(false));
+
+        // when:
+        converter = converterRegistry.findConverter(MyEnum.class);
+        converterRegistry.clear();
+
+        // then:
+        assertThat(converterRegistry.findConverter(MyEnum.class) == converter, equalTo(false));
+    }
+
     public static Stream<Arguments> where_types() {
         return Stream.of(
             Arguments.of(BigDecimal.class, BigDecimalConverter.class),
@@ -162,6 +266,12 @@ public class DefaultConverterRegistryTest {
         TWO
     }
 
+    public static class MyEnumConverter extends EnumConverter<MyEnum> {
+        public MyEnumConverter() {
+            setEnumType(MyEnum.class);
+        }
+    }
+
     public static class Converter1 extends IntegerConverter {
         private static boolean called;
 
@@ -176,6 +286,9 @@ public class DefaultConverterRegistryTest {
         }
     }
 
+    public static class Converter3 extends DateConverter {
+    }
+
     public static class Converter2 extends IntegerConverter {
         private static boolean called;
 
@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core;
+
+import griffon.annotations.core.Nonnull;
+
+/**
+ * A step recorded while bootstrapping the application. All times are expressed in nanoseconds.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public interface BootstrapPhase {
+    @Nonnull
+    String getName();
+
+    /**
+     * @return the name of the thread that ran this phase.
+     */
+    @Nonnull
+    String getThreadName();
+
+    /**
+     * @return the time elapsed between the start of the bootstrap and the start of this phase.
+     */
+    long getStartTime();
+
+    long getDuration();
+}
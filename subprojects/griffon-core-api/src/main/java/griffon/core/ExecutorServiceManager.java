@@ -21,6 +21,7 @@ import griffon.annotations.core.Nonnull;
 import griffon.annotations.core.Nullable;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.concurrent.ExecutorService;
 
 /**
@@ -37,6 +38,14 @@ public interface ExecutorServiceManager {
     @Nonnull
     Collection<ExecutorService> getExecutorServices();
 
+    /**
+     * Registers an {@code ExecutorService}. Implementations may return a decorated instance, callers should
+     * submit tasks to the returned instance.
+     *
+     * @param executorService the {@code ExecutorService} to register.
+     *
+     * @return the registered {@code ExecutorService}.
+     */
     @Nullable
     ExecutorService add(@Nullable ExecutorService executorService);
 
@@ -44,4 +53,28 @@ public interface ExecutorServiceManager {
     ExecutorService remove(@Nullable ExecutorService executorService);
 
     void shutdownAll();
+
+    /**
+     * Returns the metrics of all {@code ExecutorService}s currently managed.
+     *
+     * @return a collection of metrics or empty if none or if the implementation does not collect metrics.
+     * @since 3.0.0
+     */
+    @Nonnull
+    default Collection<ExecutorServiceMetrics> getExecutorServiceMetrics() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns the metrics of a managed {@code ExecutorService}.
+     *
+     * @param executorService the {@code ExecutorService} to query. Either the instance supplied to {@code add()} or the one returned by it.
+     *
+     * @return the metrics of the given {@code ExecutorService} or {@code null} if it is not managed or if the implementation does not collect metrics.
+     * @since 3.0.0
+     */
+    @Nullable
+    default ExecutorServiceMetrics getExecutorServiceMetrics(@Nonnull ExecutorService executorService) {
+        return null;
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core;
+
+import griffon.annotations.core.Nonnull;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Live view of the activity of an {@code ExecutorService} registered with an {@code ExecutorServiceManager}.
+ * All times are expressed in nanoseconds.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public interface ExecutorServiceMetrics {
+    /**
+     * @return the instrumented {@code ExecutorService}.
+     */
+    @Nonnull
+    ExecutorService getExecutorService();
+
+    /**
+     * @return the number of tasks currently running.
+     */
+    int getActiveCount();
+
+    /**
+     * @return the number of tasks submitted that have not started yet.
+     */
+    int getQueueSize();
+
+    long getSubmittedCount();
+
+    long getCompletedCount();
+
+    /**
+     * @return the number of tasks rejected by the {@code ExecutorService}.
+     */
+    long getRejectedCount();
+
+    /**
+     * @return the distribution of the time spent by tasks waiting to be run.
+     */
+    @Nonnull
+    Histogram getWaitTime();
+
+    /**
+     * @return the distribution of the time spent by tasks running.
+     */
+    @Nonnull
+    Histogram getRunTime();
+
+    interface Histogram {
+        long getCount();
+
+        long getMin();
+
+        long getMax();
+
+        long getMean();
+
+        /**
+         * Returns an estimate of the given percentile.
+         *
+         * @param percentile a value between {@code 0} and {@code 100}.
+         *
+         * @return the upper bound of the bucket that contains the percentile, or {@code 0} if there are no samples.
+         */
+        long getPercentile(double percentile);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.event;
+
+import griffon.annotations.core.Nullable;
+
+/**
+ * Marks an event as a candidate for coalescing when published asynchronously.<p>
+ * While an instance is waiting to be dispatched, newer instances of the same type that share the same coalescing key
+ * replace it, thus only the latest pending instance is delivered to handlers.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public interface CoalescingEvent {
+    /**
+     * Returns the key used to match pending instances of this event type.
+     *
+     * @return the coalescing key. A {@code null} value coalesces all pending instances of the same type.
+     */
+    @Nullable
+    default Object getCoalescingKey() {
+        return null;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.events;
+
+import griffon.annotations.core.Nonnull;
+import griffon.core.BootstrapPhase;
+import griffon.core.event.Event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Published once the application has been initialized with every phase recorded during bootstrap, sorted by start time.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public class BootstrapTimelineEvent extends Event {
+    private final List<BootstrapPhase> phases;
+
+    @Nonnull
+    public static BootstrapTimelineEvent of(@Nonnull List<BootstrapPhase> phases) {
+        return new BootstrapTimelineEvent(phases);
+    }
+
+    public BootstrapTimelineEvent(@Nonnull List<BootstrapPhase> phases) {
+        this.phases = unmodifiableList(new ArrayList<>(requireNonNull(phases, "Argument 'phases' must not be null")));
+    }
+
+    @Nonnull
+    public List<BootstrapPhase> getPhases() {
+        return phases;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.events;
+
+import griffon.annotations.core.Nonnull;
+import griffon.core.ExecutorServiceMetrics;
+import griffon.core.event.Event;
+
+import java.util.ArrayList;
+import java.util.Collection;
+
+import static java.util.Collections.unmodifiableCollection;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Published periodically with the metrics of all {@code ExecutorService}s registered with the application's
+ * {@code ExecutorServiceManager}.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public class ExecutorServiceMetricsEvent extends Event {
+    private final Collection<ExecutorServiceMetrics> metrics;
+
+    @Nonnull
+    public static ExecutorServiceMetricsEvent of(@Nonnull Collection<ExecutorServiceMetrics> metrics) {
+        return new ExecutorServiceMetricsEvent(metrics);
+    }
+
+    public ExecutorServiceMetricsEvent(@Nonnull Collection<ExecutorServiceMetrics> metrics) {
+        this.metrics = unmodifiableCollection(new ArrayList<>(requireNonNull(metrics, "Argument 'metrics' must not be null")));
+    }
+
+    @Nonnull
+    public Collection<ExecutorServiceMetrics> getMetrics() {
+        return metrics;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.core.mvc;
+
+/**
+ * Reset hook for members of pooled MVC groups.<p>
+ * When a pooled group is destroyed its members are returned to the pool instead of being disposed, in which case
+ * {@code mvcGroupReset()} is invoked in place of {@code GriffonMvcArtifact.mvcGroupDestroy()}. Members are reused by
+ * a later group that receives fresh arguments through {@code GriffonMvcArtifact.mvcGroupInit()}, thus implementations
+ * should undo any state set up during initialization. Views are reset inside the UI thread.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public interface ResettableMVCMember {
+    /**
+     * Callback for when the group is destroyed and this member is returned to the pool.
+     */
+    void mvcGroupReset();
+}
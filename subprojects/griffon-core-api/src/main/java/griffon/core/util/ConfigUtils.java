@@ -20,12 +20,15 @@ package griffon.core.util;
 import griffon.annotations.core.Nonnull;
 import griffon.annotations.core.Nullable;
 
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.Properties;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static griffon.core.util.TypeUtils.castToBoolean;
 import static griffon.core.util.TypeUtils.castToDouble;
@@ -45,6 +48,10 @@ import static java.util.Objects.requireNonNull;
 public final class ConfigUtils {
     private static final String ERROR_CONFIG_NULL = "Argument 'config' must not be null";
     private static final String ERROR_KEY_BLANK = "Argument 'key' must not be blank";
+    private static final int MAX_KEY_PATHS = 4096;
+    private static final String[] EMPTY_PATH = new String[0];
+    // key paths are computed once; keys are usually literals, the bound guards against generated keys
+    private static final Map<String, String[]> KEY_PATHS = new ConcurrentHashMap<>();
 
     private ConfigUtils() {
         // prevent instantiation
@@ -90,7 +97,7 @@ public final class ConfigUtils {
             return true;
         }
 
-        String[] keys = key.split("\\.");
+        String[] keys = keyPath(key);
         for (int i = 0; i < keys.length - 1; i++) {
             Object node = config.get(keys[i]);
             if (node instanceof Map) {
@@ -117,7 +124,7 @@ public final class ConfigUtils {
         requireNonNull(config, ERROR_CONFIG_NULL);
         requireNonBlank(key, ERROR_KEY_BLANK);
 
-        String[] keys = key.split("\\.");
+        String[] keys = keyPath(key);
 
         try {
             if (config.containsKey(key)) {
@@ -165,7 +172,7 @@ public final class ConfigUtils {
             return true;
         }
 
-        String[] keys = key.split("\\.");
+        String[] keys = keyPath(key);
         for (int i = 0; i < keys.length - 1; i++) {
             Object node = config.get(keys[i]);
             if (node instanceof Map) {
@@ -190,7 +197,7 @@ public final class ConfigUtils {
         requireNonNull(config, ERROR_CONFIG_NULL);
         requireNonBlank(key, ERROR_KEY_BLANK);
 
-        String[] keys = key.split("\\.");
+        String[] keys = keyPath(key);
 
         try {
             Object value = config.getObject(key);
@@ -246,7 +253,7 @@ public final class ConfigUtils {
             return (T) config.get(key);
         }
 
-        String[] keys = key.split("\\.");
+        String[] keys = keyPath(key);
         for (int i = 0; i < keys.length - 1; i++) {
             Object node = config.get(keys[i]);
             if (node instanceof Map) {
@@ -274,7 +281,7 @@ public final class ConfigUtils {
         requireNonNull(config, ERROR_CONFIG_NULL);
         requireNonBlank(key, ERROR_KEY_BLANK);
 
-        String[] keys = key.split("\\.");
+        String[] keys = keyPath(key);
 
         try {
             Object value = config.getObject(key);
@@ -327,7 +334,7 @@ public final class ConfigUtils {
             return (T) config.get(key);
         }
 
-        String[] keys = key.split("\\.");
+        String[] keys = keyPath(key);
         for (int i = 0; i < keys.length - 1; i++) {
             Object node = config.get(keys[i]);
             if (node instanceof Map) {
@@ -358,7 +365,7 @@ public final class ConfigUtils {
         requireNonBlank(key, ERROR_KEY_BLANK);
         String type = config.getClass().getName();
 
-        String[] keys = key.split("\\.");
+        String[] keys = keyPath(key);
 
         try {
             Object value = config.getObject(key);
@@ -638,6 +645,45 @@ public final class ConfigUtils {
         return path.substring(0, extIndex);
     }
 
+    /**
+     * Splits a dotted key into its segments, with the same results as {@code key.split("\\.")}.
+     * Returned arrays are shared and must not be modified.
+     */
+    @Nonnull
+    private static String[] keyPath(@Nonnull String key) {
+        String[] path = KEY_PATHS.get(key);
+        if (path == null) {
+            path = splitKey(key);
+            if (KEY_PATHS.size() < MAX_KEY_PATHS) {
+                KEY_PATHS.put(key, path);
+            }
+        }
+        return path;
+    }
+
+    @Nonnull
+    private static String[] splitKey(@Nonnull String key) {
+        if (key.indexOf('.') < 0) {
+            return new String[]{key};
+        }
+
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        int index;
+        while ((index = key.indexOf('.', start)) >= 0) {
+            segments.add(key.substring(start, index));
+            start = index + 1;
+        }
+        segments.add(key.substring(start));
+
+        // String.split() drops trailing empty segments
+        int size = segments.size();
+        while (size > 0 && segments.get(size - 1).isEmpty()) {
+            size--;
+        }
+        return size == 0 ? EMPTY_PATH : segments.subList(0, size).toArray(new String[size]);
+    }
+
     @Nonnull
     public static Set<String> collectKeys(@Nonnull Map<String, Object> map) {
         requireNonNull(map, "Argument 'map' must not be null");
@@ -59,6 +59,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import static griffon.core.util.MethodUtils.invokeExactMethod;
@@ -2731,7 +2732,7 @@ public class GriffonClassUtils {
 
     // -- The following methods and properties were copied from commons-beanutils
 
-    private static final Map<String, PropertyDescriptor[]> descriptorsCache = new LinkedHashMap<>();
+    private static final Map<String, PropertyDescriptor[]> descriptorsCache = new ConcurrentHashMap<>();
 
     /**
      * <p>Retrieve the property descriptor for the specified property of the
@@ -20,7 +20,6 @@ package griffon.core.util;
 import griffon.annotations.core.Nonnull;
 import griffon.annotations.core.Nullable;
 import griffon.converter.Converter;
-import griffon.converter.FormattingConverter;
 import griffon.exceptions.GriffonException;
 import griffon.exceptions.TypeConversionException;
 
@@ -226,11 +225,8 @@ public final class TypeUtils {
             }
         }
 
-        Converter<T> converter = ConverterRegistryHolder.getConverterRegistry().findConverter(targetType);
+        Converter<T> converter = ConverterRegistryHolder.getConverterRegistry().findConverter(targetType, null, format);
         if (converter != null) {
-            if (converter instanceof FormattingConverter) {
-                ((FormattingConverter) converter).setFormat(format);
-            }
             return converter.fromObject(value);
         }
 
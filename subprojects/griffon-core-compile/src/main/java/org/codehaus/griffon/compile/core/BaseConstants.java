@@ -28,6 +28,8 @@ public interface BaseConstants {
     String VOID = "void";
     String BOOLEAN = "boolean";
     String INT = "int";
+    String LONG = "long";
+    String DOUBLE = "double";
     String JAVA_LANG_OBJECT = "java.lang.Object";
     String JAVA_LANG_STRING = "java.lang.String";
     String JAVA_LANG_CLASS = "java.lang.Class";
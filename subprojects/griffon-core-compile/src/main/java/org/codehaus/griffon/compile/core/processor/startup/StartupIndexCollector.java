@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.compile.core.processor.startup;
+
+import org.kordamp.jipsy.processor.Initializer;
+import org.kordamp.jipsy.processor.LogLocation;
+import org.kordamp.jipsy.processor.Logger;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Keeps track of service providers, grouped by service type.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public final class StartupIndexCollector {
+    public static final String INDEX_NAME = "startup.index";
+
+    private final Map<String, Set<String>> providers = new TreeMap<>();
+    private final Map<String, Set<String>> cached = new TreeMap<>();
+
+    private final Initializer initializer;
+    private final Logger logger;
+
+    public StartupIndexCollector(Initializer initializer, Logger logger) {
+        this.initializer = initializer;
+        this.logger = logger;
+    }
+
+    public boolean isModified() {
+        return !cached.equals(providers);
+    }
+
+    public void addProvider(String serviceType, String provider) {
+        if (serviceType == null) {
+            throw new NullPointerException("serviceType");
+        }
+        if (provider == null) {
+            throw new NullPointerException("provider");
+        }
+        providers.computeIfAbsent(serviceType, k -> new TreeSet<>()).add(provider);
+    }
+
+    public void removeProvider(String provider) {
+        if (provider == null) {
+            throw new NullPointerException("provider");
+        }
+
+        logger.note(LogLocation.LOG_FILE, "Removing " + provider);
+        for (Iterator<Set<String>> it = providers.values().iterator(); it.hasNext(); ) {
+            Set<String> names = it.next();
+            names.remove(provider);
+            if (names.isEmpty()) {
+                it.remove();
+            }
+        }
+    }
+
+    public void load() {
+        CharSequence initialData = initializer.initialData(INDEX_NAME);
+        if (initialData != null) {
+            fromList(initialData.toString());
+        }
+        for (Map.Entry<String, Set<String>> e : providers.entrySet()) {
+            cached.put(e.getKey(), new TreeSet<>(e.getValue()));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return providers.toString();
+    }
+
+    public String toList() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Set<String>> e : providers.entrySet()) {
+            for (String provider : e.getValue()) {
+                sb.append(e.getKey())
+                    .append("=")
+                    .append(provider)
+                    .append("\n");
+            }
+        }
+        return sb.toString();
+    }
+
+    public Map<String, Set<String>> providers() {
+        return Collections.unmodifiableMap(providers);
+    }
+
+    public void fromList(String input) {
+        if (input == null) {
+            throw new NullPointerException("input");
+        }
+        String[] lines = input.split("\\n");
+        for (String line : lines) {
+            if (line.startsWith("#")) continue;
+            if (line.trim().length() > 0) {
+                String[] entry = line.trim().split("=");
+                addProvider(entry[0].trim(), entry[1].trim());
+            }
+        }
+    }
+}
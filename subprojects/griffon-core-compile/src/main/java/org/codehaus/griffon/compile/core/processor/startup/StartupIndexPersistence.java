@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.compile.core.processor.startup;
+
+import org.kordamp.jipsy.processor.AbstractResourcePersistence;
+import org.kordamp.jipsy.processor.Logger;
+import org.kordamp.jipsy.processor.SimpleFileFilter;
+
+import javax.annotation.processing.Filer;
+import java.io.FileFilter;
+
+/**
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public class StartupIndexPersistence extends AbstractResourcePersistence {
+    public StartupIndexPersistence(String name, String root, Filer filer, Logger logger) {
+        super(filer, name, logger, root + "META-INF/griffon/");
+    }
+
+    @Override
+    protected FileFilter getFileFilter() {
+        return SimpleFileFilter.INSTANCE;
+    }
+}
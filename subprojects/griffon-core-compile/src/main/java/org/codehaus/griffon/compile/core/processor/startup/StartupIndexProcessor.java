@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.compile.core.processor.startup;
+
+import org.kordamp.jipsy.annotations.ServiceProviderFor;
+import org.kordamp.jipsy.processor.AbstractSpiProcessor;
+import org.kordamp.jipsy.processor.LogLocation;
+import org.kordamp.jipsy.processor.Options;
+import org.kordamp.jipsy.processor.Persistence;
+
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.regex.Matcher;
+
+/**
+ * Writes every type annotated with {@code @ServiceProviderFor} to {@code META-INF/griffon/startup.index}, so that
+ * the application bootstrapper can discover artifacts, modules and injector factories without scanning
+ * {@code META-INF/services} once per service type. Invalid providers are skipped, they are reported by
+ * jipsy's own processor.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+@ServiceProviderFor(Processor.class)
+@SupportedAnnotationTypes("*")
+@SupportedOptions({Options.SPI_DIR_OPTION, Options.SPI_LOG_OPTION, Options.SPI_VERBOSE_OPTION, Options.SPI_DISABLED_OPTION})
+public class StartupIndexProcessor extends AbstractSpiProcessor {
+    public static final String NAME = StartupIndexProcessor.class.getName()
+        + " (" + StartupIndexProcessor.class.getPackage().getImplementationVersion() + ")";
+
+    private static final int MAX_SUPPORTED_VERSION = 8;
+
+    private Persistence persistence;
+    private StartupIndexCollector data;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        SourceVersion[] svs = SourceVersion.values();
+        for (int i = svs.length - 1; i >= 0; i--) {
+            String name = svs[i].name();
+            Matcher m = RELEASE_PATTERN.matcher(name);
+            if (m.matches()) {
+                int release = Integer.parseInt(m.group(1));
+                if (release <= MAX_SUPPORTED_VERSION) return svs[i];
+            }
+        }
+
+        return SourceVersion.RELEASE_6;
+    }
+
+    @Override
+    protected Class<? extends Annotation> getAnnotationClass() {
+        return ServiceProviderFor.class;
+    }
+
+    @Override
+    protected void initialize() {
+        super.initialize();
+
+        persistence = new StartupIndexPersistence(NAME, options.dir(), processingEnv.getFiler(), logger);
+        data = new StartupIndexCollector(persistence.getInitializer(), logger);
+        data.load();
+    }
+
+    @Override
+    protected void handleElement(Element e) {
+        if (!(e instanceof TypeElement)) {
+            return;
+        }
+
+        TypeElement currentClass = (TypeElement) e;
+        if (!isValidProvider(currentClass)) {
+            return;
+        }
+
+        String provider = createProperQualifiedName(currentClass);
+        for (AnnotationMirror annotation : findAnnotationMirrors(currentClass, getAnnotationClass().getName())) {
+            for (AnnotationValue value : findCollectionValueMember(annotation, "value")) {
+                TypeElement serviceType = toElement(value);
+                if (isImplementation(currentClass, serviceType).isError()) {
+                    continue;
+                }
+                data.addProvider(createProperQualifiedName(serviceType), provider);
+            }
+        }
+    }
+
+    @Override
+    protected void removeStaleData(RoundEnvironment roundEnv) {
+        for (Element e : roundEnv.getRootElements()) {
+            if (e instanceof TypeElement) {
+                TypeElement currentClass = (TypeElement) e;
+                data.removeProvider(createProperQualifiedName(currentClass));
+            }
+        }
+    }
+
+    @Override
+    protected void writeData() {
+        if (data.isModified()) {
+            String content = data.toList();
+            if (content.length() > 0) {
+                logger.note(LogLocation.LOG_FILE, "Writing output");
+                try {
+                    persistence.write(StartupIndexCollector.INDEX_NAME, content);
+                } catch (IOException ioe) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, ioe.getMessage());
+                }
+                persistence.writeLog();
+            } else {
+                logger.note(LogLocation.LOG_FILE, "Writing output");
+                try {
+                    persistence.delete();
+                } catch (IOException e) {
+                    logger.warning(LogLocation.LOG_FILE, "An error occurred while deleting data file");
+                }
+            }
+        }
+    }
+
+    private boolean isValidProvider(TypeElement currentClass) {
+        return currentClass.getKind() == ElementKind.CLASS &&
+            currentClass.getModifiers().contains(Modifier.PUBLIC) &&
+            !isAbstractClass(currentClass) &&
+            hasPublicNoArgsConstructor(currentClass);
+    }
+}
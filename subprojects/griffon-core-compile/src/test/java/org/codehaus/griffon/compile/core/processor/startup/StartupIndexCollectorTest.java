@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.compile.core.processor.startup;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kordamp.jipsy.processor.testutils.NoOutputTestBase;
+import org.kordamp.jipsy.processor.testutils.TestInitializer;
+import org.kordamp.jipsy.processor.testutils.TestLogger;
+
+import java.util.HashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StartupIndexCollectorTest extends NoOutputTestBase {
+    private TestLogger logger;
+    private StartupIndexCollector collector;
+
+    @BeforeEach
+    public void loadFrameWork() {
+        HashMap<String, String> map = new HashMap<String, String>();
+        map.put(StartupIndexCollector.INDEX_NAME, "# header\nservice1=provider1\nservice1=provider2\nservice2=provider1\n");
+        TestInitializer initializer = new TestInitializer(map);
+        logger = new TestLogger();
+        collector = new StartupIndexCollector(initializer, logger);
+    }
+
+    @Test
+    public void testAddProviderNull() {
+        assertThrows(NullPointerException.class, () -> collector.addProvider(null, "provider"));
+        assertThrows(NullPointerException.class, () -> collector.addProvider("service", null));
+    }
+
+    @Test
+    public void testAddProviderGroupsByService() {
+        collector.addProvider("service2", "provider2");
+        collector.addProvider("service1", "provider1");
+        collector.addProvider("service2", "provider1");
+        collector.addProvider("service2", "provider1");
+        assertEquals(2, collector.providers().size());
+        assertEquals(2, collector.providers().get("service2").size());
+        assertEquals("service1=provider1\nservice2=provider1\nservice2=provider2\n", collector.toList());
+    }
+
+    @Test
+    public void testLoadIsNotModified() {
+        collector.load();
+        assertEquals(2, collector.providers().size());
+        assertFalse(collector.isModified());
+    }
+
+    @Test
+    public void testAddProviderAfterLoadIsModified() {
+        collector.load();
+        collector.addProvider("service3", "provider3");
+        assertTrue(collector.isModified());
+    }
+
+    @Test
+    public void testRemoveProviderNull() {
+        assertThrows(NullPointerException.class, () -> collector.removeProvider(null));
+    }
+
+    @Test
+    public void testRemoveProviderFromAllServices() {
+        collector.load();
+        logger.reset();
+        collector.removeProvider("provider1");
+        assertEquals(1, logger.records().size());
+        assertEquals("Removing provider1\n", logger.getFileContent());
+        assertEquals("service1=provider2\n", collector.toList());
+        assertTrue(collector.isModified());
+    }
+}
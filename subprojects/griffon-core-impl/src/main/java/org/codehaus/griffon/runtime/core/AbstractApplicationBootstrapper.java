@@ -21,6 +21,7 @@ import griffon.annotations.core.Nonnull;
 import griffon.converter.ConverterRegistry;
 import griffon.core.ApplicationBootstrapper;
 import griffon.core.GriffonApplication;
+import griffon.core.ShutdownHandler;
 import griffon.core.artifact.GriffonController;
 import griffon.core.artifact.GriffonModel;
 import griffon.core.artifact.GriffonService;
@@ -33,34 +34,49 @@ import griffon.core.injection.Key;
 import griffon.core.injection.Module;
 import griffon.core.util.ConverterRegistryHolder;
 import griffon.core.util.GriffonClassUtils;
+import org.codehaus.griffon.runtime.core.artifact.ClassPropertyFetcher;
 import org.codehaus.griffon.runtime.core.injection.AbstractModule;
 import org.kordamp.jipsy.util.TypeLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.ServiceLoader;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 import static griffon.core.GriffonExceptionHandler.sanitize;
 import static griffon.util.AnnotationUtils.sortByDependencies;
 import static java.util.Collections.unmodifiableCollection;
 import static java.util.Objects.requireNonNull;
-import static org.kordamp.jipsy.util.TypeLoader.load;
 
 /**
  * @author Andres Almiray
  * @since 2.0.0
  */
 public abstract class AbstractApplicationBootstrapper implements ApplicationBootstrapper {
+    public static final String KEY_PARALLEL = "griffon.bootstrap.parallel";
+
     private static final Logger LOG = LoggerFactory.getLogger(AbstractApplicationBootstrapper.class);
     private static final String INJECTOR = "injector";
-    private static final String SERVICES_PATH = "META-INF/services";
+    private static final Class<?>[] ARTIFACT_TYPES = {GriffonModel.class, GriffonController.class, GriffonView.class, GriffonService.class};
     protected final GriffonApplication application;
+    protected final StartupProfiler profiler = StartupProfiler.fromSystemProperties();
+    protected final BootstrapTimeline timeline = new BootstrapTimeline(profiler);
+    private final Queue<ForkJoinTask<?>> harvesters = new ConcurrentLinkedQueue<>();
+    private volatile ForkJoinTask<List<Module>> pendingModules;
+    private volatile ForkJoinTask<Map<Class<?>, List<Class<?>>>> pendingArtifacts;
 
     public AbstractApplicationBootstrapper(@Nonnull GriffonApplication application) {
         this.application = requireNonNull(application, "Argument 'application' must not be null");
@@ -75,21 +91,56 @@ public abstract class AbstractApplicationBootstrapper implements ApplicationBoot
         LOG.info("JVM: {}", GriffonEnvironment.getJvmVersion());
         LOG.info("OS: {}", GriffonEnvironment.getOsVersion());
 
-        // 2 create bindings
-        LOG.debug("Creating module bindings");
-        Iterable<Binding<?>> bindings = createBindings();
+        boolean parallel = isParallelBootstrap();
+        ForkJoinPool pool = parallel ? createBootstrapPool() : null;
+        StartupProfiler.Span span = profiler.span("bootstrap", "bootstrap");
+        try {
+            if (pool != null) {
+                LOG.debug("Loading modules and artifacts in parallel");
+                startParallelTasks(pool);
+            }
+
+            // 2 create bindings
+            LOG.debug("Creating module bindings");
+            Iterable<Binding<?>> bindings = timeline.record("createBindings", this::createBindings);
+
+            if (LOG.isTraceEnabled()) {
+                for (Binding<?> binding : bindings) {
+                    LOG.trace(binding.toString());
+                }
+            }
+
+            // 3 create injector
+            LOG.debug("Creating application injector");
+            timeline.record("createInjector", () -> {
+                createInjector(bindings);
+                return null;
+            });
+
+            ConverterRegistryHolder.setConverterRegistry(application.getInjector().getInstance(ConverterRegistry.class));
 
-        if (LOG.isTraceEnabled()) {
-            for (Binding<?> binding : bindings) {
-                LOG.trace(binding.toString());
+            for (ForkJoinTask<?> harvester : harvesters) {
+                harvester.quietlyJoin();
+            }
+        } finally {
+            span.close();
+            pendingModules = null;
+            pendingArtifacts = null;
+            harvesters.clear();
+            if (pool != null) {
+                pool.shutdown();
             }
         }
 
-        // 3 create injector
-        LOG.debug("Creating application injector");
-        createInjector(bindings);
+        if (parallel) {
+            LOG.info(timeline.report());
+        } else if (LOG.isDebugEnabled()) {
+            LOG.debug(timeline.report());
+        }
 
-        ConverterRegistryHolder.setConverterRegistry(application.getInjector().getInstance(ConverterRegistry.class));
+        if (profiler.isEnabled() && profiler.getOutput() != null) {
+            application.addShutdownHandler(new StartupProfilerShutdownHandler(profiler));
+        }
     }
 
     @Override
@@ -117,7 +168,118 @@ public abstract class AbstractApplicationBootstrapper implements ApplicationBoot
         return unmodifiableCollection(map.values());
     }
 
+    /**
+     * @return the phases recorded so far while bootstrapping the application.
+     */
+    @Nonnull
+    public BootstrapTimeline getTimeline() {
+        return timeline;
+    }
+
+    /**
+     * @return the profiler that records the spans of the application's startup.
+     */
+    @Nonnull
+    public StartupProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Whether modules and artifact classes should be loaded on a {@code ForkJoinPool}. Reads the
+     * {@code griffon.bootstrap.parallel} System property by default.
+     */
+    protected boolean isParallelBootstrap() {
+        return Boolean.getBoolean(KEY_PARALLEL);
+    }
+
+    @Nonnull
+    protected ForkJoinPool createBootstrapPool() {
+        ClassLoader classLoader = resolveServiceClassLoader();
+        return new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("griffon-bootstrap-" + thread.getPoolIndex());
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }, null, false);
+    }
+
+    private void startParallelTasks(@Nonnull ForkJoinPool pool) {
+        pendingModules = pool.submit(() -> timeline.record("loadModules", this::loadModules));
+        pendingArtifacts = pool.submit(() -> timeline.record("loadArtifactClasses", this::loadArtifactClasses));
+    }
+
+    @Nonnull
+    private Map<Class<?>, List<Class<?>>> loadArtifactClasses() {
+        StartupIndex startupIndex = StartupIndex.of(getClass().getClassLoader());
+        Map<Class<?>, List<ForkJoinTask<Class<?>>>> tasks = new LinkedHashMap<>();
+        for (Class<?> artifactType : ARTIFACT_TYPES) {
+            List<ForkJoinTask<Class<?>>> list = new ArrayList<>();
+            startupIndex.load(artifactType, (cl, type, line) -> list.add(ForkJoinTask.<Class<?>>adapt(() -> loadArtifactClass(cl, type, line.trim())).fork()));
+            tasks.put(artifactType, list);
+        }
+
+        Map<Class<?>, List<Class<?>>> artifactClasses = new LinkedHashMap<>();
+        for (Map.Entry<Class<?>, List<ForkJoinTask<Class<?>>>> e : tasks.entrySet()) {
+            List<Class<?>> classes = new ArrayList<>();
+            for (ForkJoinTask<Class<?>> task : e.getValue()) {
+                classes.add(task.join());
+            }
+            artifactClasses.put(e.getKey(), classes);
+        }
+        return artifactClasses;
+    }
+
+    @Nonnull
+    private Class<?> loadArtifactClass(@Nonnull ClassLoader classLoader, @Nonnull Class<?> type, @Nonnull String className) {
+        Class<?> clazz;
+        try {
+            clazz = classLoader.loadClass(className);
+        } catch (ClassNotFoundException e) {
+            LOG.error("'" + className + "' could not be resolved as a subtype of " + type.getName());
+            throw new IllegalStateException(e);
+        }
+        harvesters.add(ForkJoinTask.adapt(() -> timeline.record("harvestMetadata " + clazz.getSimpleName(), () -> harvestMetadata(clazz))).fork());
+        return clazz;
+    }
+
+    /**
+     * Warms up the reflection caches of an artifact class, such as property descriptors and field and method annotations.
+     * Failures are ignored, the same metadata will be computed on demand.
+     */
+    private static void harvestMetadata(@Nonnull Class<?> clazz) {
+        try {
+            ClassPropertyFetcher.forClass(clazz);
+            for (Field field : GriffonClassUtils.getAllDeclaredFields(clazz)) {
+                field.getAnnotations();
+            }
+            for (Method method : clazz.getMethods()) {
+                method.getAnnotations();
+            }
+        } catch (RuntimeException | LinkageError e) {
+            LOG.debug("Could not harvest metadata of {}", clazz.getName(), e);
+        }
+    }
+
     protected void createArtifactsModule(@Nonnull List<Module> modules) {
+        if (pendingArtifacts != null) {
+            Map<Class<?>, List<Class<?>>> artifactClasses = pendingArtifacts.join();
+            modules.add(new AbstractModule() {
+                @Override
+                protected void doConfigure() {
+                    for (Map.Entry<Class<?>, List<Class<?>>> e : artifactClasses.entrySet()) {
+                        for (Class<?> clazz : e.getValue()) {
+                            if (GriffonService.class == e.getKey()) {
+                                bind(clazz).asSingleton();
+                            } else {
+                                bind(clazz);
+                            }
+                        }
+                    }
+                }
+            });
+            return;
+        }
+
         modules.add(new AbstractModule() {
             @Override
             protected void doConfigure() {
@@ -130,12 +292,12 @@ public abstract class AbstractApplicationBootstrapper implements ApplicationBoot
                         throw new IllegalStateException(e);
                     }
                 };
-                ClassLoader classLoader = getClass().getClassLoader();
+                StartupIndex startupIndex = StartupIndex.of(getClass().getClassLoader());
 
-                load(classLoader, SERVICES_PATH, GriffonModel.class, lineProcessor);
-                load(classLoader, SERVICES_PATH, GriffonController.class, lineProcessor);
-                load(classLoader, SERVICES_PATH, GriffonView.class, lineProcessor);
-                load(classLoader, SERVICES_PATH, GriffonService.class, (cl, type, line) -> {
+                startupIndex.load(GriffonModel.class, lineProcessor);
+                startupIndex.load(GriffonController.class, lineProcessor);
+                startupIndex.load(GriffonView.class, lineProcessor);
+                startupIndex.load(GriffonService.class, (cl, type, line) -> {
                     line = line.trim();
                     try {
                         bind(cl.loadClass(line)).asSingleton();
@@ -154,12 +316,16 @@ public abstract class AbstractApplicationBootstrapper implements ApplicationBoot
             protected void doConfigure() {
                 bind(GriffonApplication.class)
                     .toInstance(application);
+                bind(BootstrapTimeline.class)
+                    .toInstance(timeline);
+                bind(StartupProfiler.class)
+                    .toInstance(profiler);
             }
         });
     }
 
     protected void collectModuleBindings(@Nonnull Collection<Module> modules) {
-        List<Module> moduleInstances = loadModules();
+        List<Module> moduleInstances = pendingModules != null ? pendingModules.join() : loadModules();
         moduleInstances.add(0, new DefaultApplicationModule());
         Map<String, Module> sortedModules = sortModules(moduleInstances);
         for (Map.Entry<String, Module> entry : sortedModules.entrySet()) {
@@ -176,11 +342,23 @@ public abstract class AbstractApplicationBootstrapper implements ApplicationBoot
     @Nonnull
     protected abstract List<Module> loadModules();
 
+    /**
+     * Returns the {@code ClassLoader} used to discover service providers such as {@code Module} and {@code InjectorFactory}.
+     * Matches the behavior of {@code ServiceLoader.load(Class)}.
+     */
+    @Nonnull
+    protected ClassLoader resolveServiceClassLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : ClassLoader.getSystemClassLoader();
+    }
+
     private void createInjector(@Nonnull Iterable<Binding<?>> bindings) throws Exception {
-        ServiceLoader<InjectorFactory> serviceLoader = ServiceLoader.load(InjectorFactory.class);
         try {
-            Iterator<InjectorFactory> iterator = serviceLoader.iterator();
-            InjectorFactory injectorFactory = iterator.next();
+            List<InjectorFactory> injectorFactories = StartupIndex.of(resolveServiceClassLoader()).loadServices(InjectorFactory.class);
+            if (injectorFactories.isEmpty()) {
+                throw new IllegalStateException("No implementation of " + InjectorFactory.class.getName() + " was found");
+            }
+            InjectorFactory injectorFactory = injectorFactories.get(0);
             LOG.debug("Injector will be created by {}", injectorFactory);
             Injector<?> injector = injectorFactory.createInjector(application, bindings);
             GriffonClassUtils.setProperty(application, INJECTOR, injector);
@@ -189,4 +367,28 @@ public abstract class AbstractApplicationBootstrapper implements ApplicationBoot
             throw e;
         }
     }
+
+    private static final class StartupProfilerShutdownHandler implements ShutdownHandler {
+        private final StartupProfiler profiler;
+
+        private StartupProfilerShutdownHandler(@Nonnull StartupProfiler profiler) {
+            this.profiler = profiler;
+        }
+
+        @Override
+        public boolean canShutdown(@Nonnull GriffonApplication application) {
+            return true;
+        }
+
+        @Override
+        public void onShutdown(@Nonnull GriffonApplication application) {
+            Path path = Paths.get(profiler.getOutput());
+            try {
+                profiler.writeChromeTrace(path);
+                LOG.info("Startup profile written to {}", path.toAbsolutePath());
+            } catch (IOException e) {
+                LOG.warn("Could not write startup profile to " + path.toAbsolutePath(), e);
+            }
+        }
+    }
 }
@@ -209,7 +209,7 @@ public abstract class AbstractContext implements Context {
             if (type.isAssignableFrom(value.getClass())) {
                 return (T) value;
             } else {
-                Converter<T> converter = converterRegistry.findConverter(type);
+                Converter<T> converter = converterRegistry.findConverter(type, null, null);
                 if (null != converter) {
                     return converter.fromObject(value);
                 }
@@ -54,6 +54,7 @@ import griffon.core.resources.ResourceResolver;
 import griffon.core.threading.UIThreadManager;
 import griffon.core.view.WindowManager;
 import org.codehaus.griffon.runtime.core.properties.AbstractPropertySource;
+import org.codehaus.griffon.runtime.core.threading.ExecutorServiceMetricsReporter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -79,6 +80,8 @@ public abstract class AbstractGriffonApplication extends AbstractPropertySource
     public static final String[] EMPTY_ARGS = new String[0];
     private static final String ERROR_SHUTDOWN_HANDLER_NULL = "Argument 'shutdownHandler' must not be null";
     private static final Class<?>[] CTOR_ARGS = new Class<?>[]{String[].class};
+    private static final String CATEGORY_LIFECYCLE = "lifecycle";
+    private static final String CATEGORY_MVC = "mvc";
     protected final Object[] lock = new Object[0];
     protected final List<ShutdownHandler> shutdownHandlers = new ArrayList<>();
     protected final String[] startupArguments;
@@ -279,7 +282,12 @@ public abstract class AbstractGriffonApplication extends AbstractPropertySource
     @Override
     public void initialize() {
         if (getPhase() == ApplicationPhase.INITIALIZE) {
-            getApplicationConfigurer().init();
+            StartupProfiler.Span span = getStartupProfiler().span("initialize", CATEGORY_LIFECYCLE);
+            try {
+                getApplicationConfigurer().init();
+            } finally {
+                span.close();
+            }
         }
     }
 
@@ -287,15 +295,20 @@ public abstract class AbstractGriffonApplication extends AbstractPropertySource
     public void ready() {
         if (getPhase() != ApplicationPhase.STARTUP) { return; }
 
-        showStartingWindow();
+        StartupProfiler.Span span = getStartupProfiler().span("ready", CATEGORY_LIFECYCLE);
+        try {
+            showStartingWindow();
 
-        setPhase(ApplicationPhase.READY);
-        event(ReadyStartEvent.of(this));
+            setPhase(ApplicationPhase.READY);
+            event(ReadyStartEvent.of(this));
 
-        getApplicationConfigurer().runLifecycleHandler(Lifecycle.READY);
-        event(ReadyEndEvent.of(this));
+            getApplicationConfigurer().runLifecycleHandler(Lifecycle.READY);
+            event(ReadyEndEvent.of(this));
 
-        setPhase(ApplicationPhase.MAIN);
+            setPhase(ApplicationPhase.MAIN);
+        } finally {
+            span.close();
+        }
     }
 
     protected void showStartingWindow() {
@@ -325,6 +338,8 @@ public abstract class AbstractGriffonApplication extends AbstractPropertySource
     }
 
     private AtomicReference<CountDownLatch> latch = new AtomicReference<>();
+    private ExecutorServiceMetricsReporter executorServiceMetricsReporter;
+    private StartupProfiler startupProfiler;
 
     @EventHandler
     public void handleShutdownStartEvent(ShutdownStartEvent event) {
@@ -378,6 +393,9 @@ public abstract class AbstractGriffonApplication extends AbstractPropertySource
         log.debug("Shutdown stage 4: execute Shutdown script");
         getApplicationConfigurer().runLifecycleHandler(Lifecycle.SHUTDOWN);
 
+        if (executorServiceMetricsReporter != null) {
+            executorServiceMetricsReporter.stop();
+        }
         injector.getInstance(ExecutorServiceManager.class).shutdownAll();
         injector.close();
 
@@ -389,49 +407,80 @@ public abstract class AbstractGriffonApplication extends AbstractPropertySource
     public void startup() {
         if (getPhase() != ApplicationPhase.INITIALIZE) { return; }
 
-        setPhase(ApplicationPhase.STARTUP);
-        event(StartupStartEvent.of(this));
-
-        Object startupGroups = getConfiguration().get("application.startupGroups", null);
-        if (startupGroups instanceof List) {
-            log.info("Initializing all startup groups: {}", startupGroups);
+        StartupProfiler.Span span = getStartupProfiler().span("startup", CATEGORY_LIFECYCLE);
+        try {
+            setPhase(ApplicationPhase.STARTUP);
+            event(StartupStartEvent.of(this));
 
-            for (String groupName : (List<String>) startupGroups) {
-                getMvcGroupManager().createMVC(groupName.trim());
+            long metricsInterval = getConfiguration().getAsLong(ExecutorServiceMetricsReporter.KEY_METRICS_INTERVAL, 0L);
+            if (metricsInterval > 0) {
+                executorServiceMetricsReporter = new ExecutorServiceMetricsReporter(injector.getInstance(ExecutorServiceManager.class), getEventRouter(), metricsInterval);
+                executorServiceMetricsReporter.start();
             }
-        } else if (startupGroups != null && startupGroups.getClass().isArray()) {
-            Object[] groups = (Object[]) startupGroups;
-            log.info("Initializing all startup groups: {}", Arrays.toString(groups));
 
-            for (Object groupName : groups) {
-                getMvcGroupManager().createMVC(String.valueOf(groupName).trim());
-            }
-        } else if (startupGroups != null && startupGroups instanceof CharSequence) {
-            String[] groups = (String.valueOf(startupGroups)).split(",");
-            log.info("Initializing all startup groups: {}", Arrays.toString(groups));
+            Object startupGroups = getConfiguration().get("application.startupGroups", null);
+            if (startupGroups instanceof List) {
+                log.info("Initializing all startup groups: {}", startupGroups);
 
-            for (String groupName : groups) {
-                getMvcGroupManager().createMVC(groupName.trim());
-            }
-        }
+                for (String groupName : (List<String>) startupGroups) {
+                    createStartupGroup(groupName.trim());
+                }
+            } else if (startupGroups != null && startupGroups.getClass().isArray()) {
+                Object[] groups = (Object[]) startupGroups;
+                log.info("Initializing all startup groups: {}", Arrays.toString(groups));
 
-        for (Map.Entry<String, GriffonAddon> e : getAddonManager().getAddons().entrySet()) {
-            List<String> groups = e.getValue().getStartupGroups();
-            if (groups.isEmpty()) {
-                continue;
+                for (Object groupName : groups) {
+                    createStartupGroup(String.valueOf(groupName).trim());
+                }
+            } else if (startupGroups != null && startupGroups instanceof CharSequence) {
+                String[] groups = (String.valueOf(startupGroups)).split(",");
+                log.info("Initializing all startup groups: {}", Arrays.toString(groups));
+
+                for (String groupName : groups) {
+                    createStartupGroup(groupName.trim());
+                }
             }
-            log.info("Initializing all {} startup groups: {}", e.getKey(), groups);
-            Map<String, Map<String, Object>> mvcGroups = e.getValue().getMvcGroups();
-            for (String groupName : groups) {
-                if (mvcGroups.containsKey(groupName)) {
-                    getMvcGroupManager().createMVC(groupName.trim());
+
+            for (Map.Entry<String, GriffonAddon> e : getAddonManager().getAddons().entrySet()) {
+                List<String> groups = e.getValue().getStartupGroups();
+                if (groups.isEmpty()) {
+                    continue;
+                }
+                log.info("Initializing all {} startup groups: {}", e.getKey(), groups);
+                Map<String, Map<String, Object>> mvcGroups = e.getValue().getMvcGroups();
+                for (String groupName : groups) {
+                    if (mvcGroups.containsKey(groupName)) {
+                        createStartupGroup(groupName.trim());
+                    }
                 }
             }
+
+            getApplicationConfigurer().runLifecycleHandler(Lifecycle.STARTUP);
+
+            event(StartupEndEvent.of(this));
+        } finally {
+            span.close();
         }
+    }
 
-        getApplicationConfigurer().runLifecycleHandler(Lifecycle.STARTUP);
+    protected void createStartupGroup(@Nonnull String groupName) {
+        StartupProfiler.Span span = getStartupProfiler().span("mvcGroup", groupName, CATEGORY_MVC);
+        try {
+            getMvcGroupManager().createMVC(groupName);
+        } finally {
+            span.close();
+        }
+    }
 
-        event(StartupEndEvent.of(this));
+    @Nonnull
+    protected StartupProfiler getStartupProfiler() {
+        if (startupProfiler == null) {
+            if (injector == null) {
+                return StartupProfiler.of(this);
+            }
+            startupProfiler = StartupProfiler.of(this);
+        }
+        return startupProfiler;
     }
 
     protected <E extends Event> void event(@Nonnull E event) {
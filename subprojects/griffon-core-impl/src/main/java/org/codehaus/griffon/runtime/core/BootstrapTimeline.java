@@ -0,0 +1,164 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core;
+
+import griffon.annotations.core.Nonnull;
+import griffon.core.BootstrapPhase;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Records the phases that run while bootstrapping the application. Phases may be recorded from any thread.
+ * Every phase is also recorded as a span of the {@code bootstrap} category by the supplied {@code StartupProfiler}.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public class BootstrapTimeline {
+    private static final String ERROR_NAME_BLANK = "Argument 'name' must not be blank";
+    private static final String CATEGORY = "bootstrap";
+
+    private final long origin = System.nanoTime();
+    private final ConcurrentLinkedQueue<BootstrapPhase> phases = new ConcurrentLinkedQueue<>();
+    private final StartupProfiler profiler;
+
+    public BootstrapTimeline() {
+        this(new StartupProfiler());
+    }
+
+    public BootstrapTimeline(@Nonnull StartupProfiler profiler) {
+        this.profiler = requireNonNull(profiler, "Argument 'profiler' must not be null");
+    }
+
+    public <T> T record(@Nonnull String name, @Nonnull Callable<T> callable) throws Exception {
+        requireNonNull(callable, "Argument 'callable' must not be null");
+        long start = start(name);
+        StartupProfiler.Span span = profiler.span(name, CATEGORY);
+        try {
+            return callable.call();
+        } finally {
+            span.close();
+            stop(name, start);
+        }
+    }
+
+    public void record(@Nonnull String name, @Nonnull Runnable runnable) {
+        requireNonNull(runnable, "Argument 'runnable' must not be null");
+        long start = start(name);
+        StartupProfiler.Span span = profiler.span(name, CATEGORY);
+        try {
+            runnable.run();
+        } finally {
+            span.close();
+            stop(name, start);
+        }
+    }
+
+    /**
+     * @return all recorded phases sorted by start time.
+     */
+    @Nonnull
+    public List<BootstrapPhase> getPhases() {
+        List<BootstrapPhase> list = new ArrayList<>(phases);
+        list.sort(Comparator.comparingLong(BootstrapPhase::getStartTime));
+        return list;
+    }
+
+    /**
+     * @return a human readable table with one row per recorded phase.
+     */
+    @Nonnull
+    public String report() {
+        StringBuilder b = new StringBuilder("Bootstrap timeline");
+        for (BootstrapPhase phase : getPhases()) {
+            b.append(String.format(Locale.ENGLISH, "%n  %8.2f ms %8.2f ms  %-32s %s",
+                NANOSECONDS.toMicros(phase.getStartTime()) / 1000d,
+                NANOSECONDS.toMicros(phase.getDuration()) / 1000d,
+                phase.getName(),
+                phase.getThreadName()));
+        }
+        return b.toString();
+    }
+
+    private long start(@Nonnull String name) {
+        requireNonNull(name, ERROR_NAME_BLANK);
+        if (name.trim().isEmpty()) {
+            throw new IllegalArgumentException(ERROR_NAME_BLANK);
+        }
+        return System.nanoTime();
+    }
+
+    private void stop(@Nonnull String name, long start) {
+        long end = System.nanoTime();
+        phases.add(new DefaultBootstrapPhase(name, Thread.currentThread().getName(), start - origin, end - start));
+    }
+
+    private static final class DefaultBootstrapPhase implements BootstrapPhase {
+        private final String name;
+        private final String threadName;
+        private final long startTime;
+        private final long duration;
+
+        private DefaultBootstrapPhase(@Nonnull String name, @Nonnull String threadName, long startTime, long duration) {
+            this.name = name;
+            this.threadName = threadName;
+            this.startTime = startTime;
+            this.duration = duration;
+        }
+
+        @Nonnull
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Nonnull
+        @Override
+        public String getThreadName() {
+            return threadName;
+        }
+
+        @Override
+        public long getStartTime() {
+            return startTime;
+        }
+
+        @Override
+        public long getDuration() {
+            return duration;
+        }
+
+        @Override
+        public String toString() {
+            return "BootstrapPhase[" +
+                "name='" + name + '\'' +
+                ", threadName='" + threadName + '\'' +
+                ", startTime=" + startTime +
+                ", duration=" + duration +
+                ']';
+        }
+    }
+}
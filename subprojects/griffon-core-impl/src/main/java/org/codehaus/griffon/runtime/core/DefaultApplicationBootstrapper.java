@@ -23,7 +23,6 @@ import griffon.core.injection.Module;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.ServiceLoader;
 
 /**
  * @author Andres Almiray
@@ -37,11 +36,6 @@ public class DefaultApplicationBootstrapper extends AbstractApplicationBootstrap
     @Nonnull
     @Override
     protected List<Module> loadModules() {
-        List<Module> moduleInstances = new ArrayList<>();
-        ServiceLoader<Module> serviceLoader = ServiceLoader.load(Module.class);
-        for (Module module : serviceLoader) {
-            moduleInstances.add(module);
-        }
-        return moduleInstances;
+        return new ArrayList<>(StartupIndex.of(resolveServiceClassLoader()).loadServices(Module.class));
     }
 }
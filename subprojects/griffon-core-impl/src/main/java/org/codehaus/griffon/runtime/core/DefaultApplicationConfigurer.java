@@ -18,6 +18,7 @@
 package org.codehaus.griffon.runtime.core;
 
 import griffon.annotations.core.Nonnull;
+import griffon.annotations.core.Nullable;
 import griffon.annotations.event.EventHandler;
 import griffon.core.ApplicationClassLoader;
 import griffon.core.ApplicationConfigurer;
@@ -33,9 +34,11 @@ import griffon.core.event.Event;
 import griffon.core.event.XEventHandler;
 import griffon.core.events.BootstrapEndEvent;
 import griffon.core.events.BootstrapStartEvent;
+import griffon.core.events.BootstrapTimelineEvent;
 import griffon.core.events.NewInstanceEvent;
 import griffon.core.injection.Injector;
 import griffon.core.mvc.MVCGroupConfiguration;
+import griffon.exceptions.InstanceNotFoundException;
 import org.codehaus.griffon.runtime.core.controller.NoopActionManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -63,11 +66,13 @@ public class DefaultApplicationConfigurer implements ApplicationConfigurer {
     private static final String ERROR_APPLICATION_NULL = "Argument 'application' must not be null";
     private static final String KEY_APP_LIFECYCLE_HANDLER_DISABLE = "application.lifecycle.handler.disable";
     private static final String KEY_GRIFFON_CONTROLLER_ACTION_HANDLER_ORDER = "griffon.controller.action.handler.order";
+    private static final String CATEGORY_LIFECYCLE = "lifecycle";
 
     private final Object lock = new Object();
     private final GriffonApplication application;
     // @GuardedBy("lock")
     private boolean initialized;
+    private StartupProfiler startupProfiler;
 
     @Inject
     public DefaultApplicationConfigurer(@Nonnull GriffonApplication application) {
@@ -103,7 +108,33 @@ public class DefaultApplicationConfigurer implements ApplicationConfigurer {
             return;
         }
 
-        handler.execute();
+        StartupProfiler.Span span = getStartupProfiler().span("lifecycleHandler", lifecycle.getName(), CATEGORY_LIFECYCLE);
+        try {
+            handler.execute();
+        } finally {
+            span.close();
+        }
+    }
+
+    private void profile(@Nonnull String name, @Nonnull Runnable step) {
+        StartupProfiler.Span span = getStartupProfiler().span(name, CATEGORY_LIFECYCLE);
+        try {
+            step.run();
+        } finally {
+            span.close();
+        }
+    }
+
+    @Nonnull
+    private StartupProfiler getStartupProfiler() {
+        // resolved once, unless the injector is not available yet
+        if (startupProfiler == null) {
+            if (application.getInjector() == null) {
+                return StartupProfiler.of(application);
+            }
+            startupProfiler = StartupProfiler.of(application);
+        }
+        return startupProfiler;
     }
 
     protected void doInitialize() {
@@ -111,15 +142,29 @@ public class DefaultApplicationConfigurer implements ApplicationConfigurer {
 
         event(BootstrapStartEvent.of(application));
 
-        initializeConfigurationManager();
+        profile("configurationManager", this::initializeConfigurationManager);
         runLifecycleHandler(Lifecycle.INITIALIZE);
-        applyPlatformTweaks();
-        initializeAddonManager();
-        initializeMvcManager();
-        initializeActionManager();
-        initializeArtifactManager();
+        profile("platformTweaks", this::applyPlatformTweaks);
+        profile("addonManager", this::initializeAddonManager);
+        profile("mvcGroupManager", this::initializeMvcManager);
+        profile("actionManager", this::initializeActionManager);
+        profile("artifactManager", this::initializeArtifactManager);
 
         event(BootstrapEndEvent.of(application));
+        BootstrapTimeline timeline = resolveBootstrapTimeline();
+        if (timeline != null) {
+            event(BootstrapTimelineEvent.of(timeline.getPhases()));
+        }
+    }
+
+    @Nullable
+    private BootstrapTimeline resolveBootstrapTimeline() {
+        try {
+            return application.getInjector().getInstance(BootstrapTimeline.class);
+        } catch (InstanceNotFoundException e) {
+            // custom application modules may not bind a timeline
+            return null;
+        }
     }
 
     protected void initializeEventHandler() {
@@ -58,6 +58,7 @@ import org.codehaus.griffon.runtime.core.artifact.DefaultArtifactManager;
 import org.codehaus.griffon.runtime.core.artifact.ModelArtifactHandler;
 import org.codehaus.griffon.runtime.core.artifact.ServiceArtifactHandler;
 import org.codehaus.griffon.runtime.core.artifact.ViewArtifactHandler;
+import org.codehaus.griffon.runtime.core.bundles.BinaryResourceBundleLoader;
 import org.codehaus.griffon.runtime.core.bundles.ClassResourceBundleLoader;
 import org.codehaus.griffon.runtime.core.bundles.DefaultCompositeResourceBundleBuilder;
 import org.codehaus.griffon.runtime.core.bundles.PropertiesReader;
@@ -76,6 +77,8 @@ import org.codehaus.griffon.runtime.core.env.EnvironmentProvider;
 import org.codehaus.griffon.runtime.core.env.MetadataProvider;
 import org.codehaus.griffon.runtime.core.event.DefaultEventRouter;
 import org.codehaus.griffon.runtime.core.event.DefaultXEventHandler;
+import org.codehaus.griffon.runtime.core.event.EventRouterSettings;
+import org.codehaus.griffon.runtime.core.event.EventRouterSettingsProvider;
 import org.codehaus.griffon.runtime.core.i18n.DefaultMessageSourceDecoratorFactory;
 import org.codehaus.griffon.runtime.core.i18n.MessageSourceDecoratorFactory;
 import org.codehaus.griffon.runtime.core.i18n.MessageSourceProvider;
@@ -90,6 +93,8 @@ import org.codehaus.griffon.runtime.core.resources.ResourceResolverDecoratorFact
 import org.codehaus.griffon.runtime.core.resources.ResourceResolverProvider;
 import org.codehaus.griffon.runtime.core.threading.DefaultExecutorServiceProvider;
 import org.codehaus.griffon.runtime.core.threading.DefaultUIThreadManager;
+import org.codehaus.griffon.runtime.core.threading.ExecutorServiceSettings;
+import org.codehaus.griffon.runtime.core.threading.ExecutorServiceSettingsProvider;
 import org.codehaus.griffon.runtime.core.view.NoopWindowManager;
 import org.codehaus.griffon.runtime.util.DefaultInstantiator;
 
@@ -161,6 +166,10 @@ public class DefaultApplicationModule extends AbstractModule {
             .to(XmlResourceBundleLoader.class)
             .asSingleton();
 
+        bind(ResourceBundleLoader.class)
+            .to(BinaryResourceBundleLoader.class)
+            .asSingleton();
+
         bind(CompositeResourceBundleBuilder.class)
             .to(DefaultCompositeResourceBundleBuilder.class)
             .asSingleton();
@@ -185,6 +194,14 @@ public class DefaultApplicationModule extends AbstractModule {
             .to(DefaultExecutorServiceManager.class)
             .asSingleton();
 
+        bind(ExecutorServiceSettings.class)
+            .toProvider(ExecutorServiceSettingsProvider.class)
+            .asSingleton();
+
+        bind(EventRouterSettings.class)
+            .toProvider(EventRouterSettingsProvider.class)
+            .asSingleton();
+
         bind(EventRouter.class)
             .withClassifier(named("applicationEventRouter"))
             .to(DefaultEventRouter.class)
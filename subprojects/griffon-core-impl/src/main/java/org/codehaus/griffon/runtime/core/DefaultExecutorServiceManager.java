@@ -20,49 +20,89 @@ package org.codehaus.griffon.runtime.core;
 import griffon.annotations.core.Nonnull;
 import griffon.annotations.core.Nullable;
 import griffon.core.ExecutorServiceManager;
+import griffon.core.ExecutorServiceMetrics;
+import org.codehaus.griffon.runtime.core.threading.InstrumentedExecutorService;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashSet;
-import java.util.Set;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 
-import static java.util.Collections.unmodifiableSet;
+import static java.util.Collections.unmodifiableCollection;
+import static java.util.Objects.requireNonNull;
 
 /**
+ * Registered {@code ExecutorService}s are decorated with {@code InstrumentedExecutorService}, thus metrics are
+ * collected for tasks submitted to the instance returned by {@code add()}.
+ *
  * @author Andres Almiray
  * @since 2.0.0
  */
 public class DefaultExecutorServiceManager implements ExecutorServiceManager {
-    private final Set<ExecutorService> executorServices = new LinkedHashSet<>();
+    private final Map<ExecutorService, InstrumentedExecutorService> executorServices = new LinkedHashMap<>();
+    private final Object[] lock = new Object[0];
 
     @Nonnull
     @Override
     public Collection<ExecutorService> getExecutorServices() {
-        return unmodifiableSet(executorServices);
+        synchronized (lock) {
+            return unmodifiableCollection(new ArrayList<>(executorServices.values()));
+        }
     }
 
     @Override
     @Nullable
     public ExecutorService add(@Nullable ExecutorService executorService) {
-        if (executorService != null) {
-            executorServices.add(executorService);
+        if (executorService == null) {
+            return null;
+        }
+
+        ExecutorService key = unwrap(executorService);
+        synchronized (lock) {
+            return executorServices.computeIfAbsent(key, k -> executorService instanceof InstrumentedExecutorService ? (InstrumentedExecutorService) executorService : new InstrumentedExecutorService(k));
         }
-        return executorService;
     }
 
     @Override
     @Nullable
     public ExecutorService remove(@Nullable ExecutorService executorService) {
-        executorServices.remove(executorService);
+        if (executorService != null) {
+            synchronized (lock) {
+                executorServices.remove(unwrap(executorService));
+            }
+        }
         return executorService;
     }
 
     @Override
     public void shutdownAll() {
-        for (ExecutorService executorService : executorServices) {
+        for (ExecutorService executorService : getExecutorServices()) {
             if (!executorService.isShutdown()) {
                 executorService.shutdown();
             }
         }
     }
+
+    @Nonnull
+    @Override
+    public Collection<ExecutorServiceMetrics> getExecutorServiceMetrics() {
+        synchronized (lock) {
+            return unmodifiableCollection(new ArrayList<>(executorServices.values()));
+        }
+    }
+
+    @Nullable
+    @Override
+    public ExecutorServiceMetrics getExecutorServiceMetrics(@Nonnull ExecutorService executorService) {
+        requireNonNull(executorService, "Argument 'executorService' must not be null");
+        synchronized (lock) {
+            return executorServices.get(unwrap(executorService));
+        }
+    }
+
+    @Nonnull
+    private static ExecutorService unwrap(@Nonnull ExecutorService executorService) {
+        return executorService instanceof InstrumentedExecutorService ? ((InstrumentedExecutorService) executorService).getDelegate() : executorService;
+    }
 }
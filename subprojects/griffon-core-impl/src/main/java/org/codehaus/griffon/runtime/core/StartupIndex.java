@@ -0,0 +1,252 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core;
+
+import griffon.annotations.core.Nonnull;
+import org.kordamp.jipsy.util.TypeLoader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Service providers discovered at build time.<p>
+ * The annotation processor in {@code griffon-core-compile} and the AST transformation in {@code griffon-groovy-compile}
+ * write every type annotated with {@code @ServiceProviderFor} to {@code META-INF/griffon/startup.index}. The index of a
+ * classpath entry is authoritative for that entry, its {@code META-INF/services} files are never read. Classpath
+ * entries without an index are still scanned, unless the {@code griffon.startup.index.strict} system property is set
+ * to {@code true}. Setting the {@code griffon.startup.index.disabled} system property to {@code true} ignores the
+ * index altogether.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public final class StartupIndex {
+    public static final String INDEX_PATH = "META-INF/griffon/";
+    public static final String INDEX_NAME = "startup.index";
+    public static final String INDEX_LOCATION = INDEX_PATH + INDEX_NAME;
+    public static final String KEY_DISABLED = "griffon.startup.index.disabled";
+    public static final String KEY_STRICT = "griffon.startup.index.strict";
+
+    private static final Logger LOG = LoggerFactory.getLogger(StartupIndex.class);
+    private static final String SERVICES_PATH = "META-INF/services/";
+    private static final Map<ClassLoader, StartupIndex> INDEXES = new WeakHashMap<>();
+
+    private final WeakReference<ClassLoader> classLoader;
+    private final Map<String, Set<String>> providers = new LinkedHashMap<>();
+    private final Set<String> indexedRoots = new LinkedHashSet<>();
+    private final boolean strict;
+
+    private StartupIndex(@Nonnull ClassLoader classLoader, boolean enabled, boolean strict) {
+        this.classLoader = new WeakReference<>(classLoader);
+        this.strict = strict;
+        if (enabled) {
+            readIndexes(classLoader);
+        }
+    }
+
+    /**
+     * Returns the index of all classpath entries visible to the given {@code ClassLoader}.
+     *
+     * @param classLoader the {@code ClassLoader} used to find index files and to load providers.
+     *
+     * @return the index matching the given {@code ClassLoader}. Never returns {@code null}.
+     */
+    @Nonnull
+    public static StartupIndex of(@Nonnull ClassLoader classLoader) {
+        requireNonNull(classLoader, "Argument 'classLoader' must not be null");
+        synchronized (INDEXES) {
+            return INDEXES.computeIfAbsent(classLoader, cl -> new StartupIndex(cl,
+                !Boolean.getBoolean(KEY_DISABLED),
+                Boolean.getBoolean(KEY_STRICT)));
+        }
+    }
+
+    /**
+     * @return {@code true} if at least one classpath entry provides an index.
+     */
+    public boolean isAvailable() {
+        return !indexedRoots.isEmpty();
+    }
+
+    /**
+     * Returns the names of all providers of the given service type.
+     *
+     * @param type the service type.
+     *
+     * @return a non-null List of class names.
+     */
+    @Nonnull
+    public List<String> getProviders(@Nonnull Class<?> type) {
+        requireNonNull(type, "Argument 'type' must not be null");
+        Set<String> names = new LinkedHashSet<>(providers.getOrDefault(type.getName(), Collections.emptySet()));
+        if (!strict) {
+            names.addAll(scanUnindexedEntries(type));
+        }
+        return new ArrayList<>(names);
+    }
+
+    /**
+     * Sends the name of every provider of the given service type to a {@code LineProcessor}. Falls back to
+     * {@code TypeLoader} if no index is available.
+     *
+     * @param type      the service type.
+     * @param processor the processor that handles each provider.
+     */
+    public void load(@Nonnull Class<?> type, @Nonnull TypeLoader.LineProcessor processor) {
+        requireNonNull(type, "Argument 'type' must not be null");
+        requireNonNull(processor, "Argument 'processor' must not be null");
+        ClassLoader cl = getClassLoader();
+        if (!isAvailable()) {
+            TypeLoader.load(cl, SERVICES_PATH, type, processor);
+            return;
+        }
+
+        for (String name : getProviders(type)) {
+            processor.process(cl, type, name);
+        }
+    }
+
+    /**
+     * Instantiates every provider of the given service type. Falls back to {@code ServiceLoader} if no index is available.
+     *
+     * @param type the service type.
+     *
+     * @return a non-null List of service instances.
+     */
+    @Nonnull
+    public <T> List<T> loadServices(@Nonnull Class<T> type) {
+        requireNonNull(type, "Argument 'type' must not be null");
+        ClassLoader cl = getClassLoader();
+        List<T> services = new ArrayList<>();
+        if (!isAvailable()) {
+            for (T service : ServiceLoader.load(type, cl)) {
+                services.add(service);
+            }
+            return services;
+        }
+
+        for (String name : getProviders(type)) {
+            try {
+                Class<?> providerClass = cl.loadClass(name);
+                services.add(type.cast(providerClass.getDeclaredConstructor().newInstance()));
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                throw new IllegalStateException("Provider " + name + " of " + type.getName() + " could not be instantiated", e);
+            }
+        }
+        return services;
+    }
+
+    @Nonnull
+    private ClassLoader getClassLoader() {
+        ClassLoader cl = classLoader.get();
+        if (cl == null) {
+            throw new IllegalStateException("ClassLoader for " + this + " has been garbage collected");
+        }
+        return cl;
+    }
+
+    private void readIndexes(@Nonnull ClassLoader cl) {
+        try {
+            Enumeration<URL> urls = cl.getResources(INDEX_LOCATION);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                LOG.trace("Reading startup index from {}", url);
+                for (String line : readLines(url)) {
+                    int separator = line.indexOf('=');
+                    if (separator > 0) {
+                        providers.computeIfAbsent(line.substring(0, separator).trim(), k -> new LinkedHashSet<>())
+                            .add(line.substring(separator + 1).trim());
+                    }
+                }
+                indexedRoots.add(rootOf(url, INDEX_LOCATION));
+            }
+        } catch (IOException e) {
+            LOG.warn("Could not read " + INDEX_LOCATION + ". Service providers will be discovered at runtime", e);
+            providers.clear();
+            indexedRoots.clear();
+        }
+    }
+
+    @Nonnull
+    private List<String> scanUnindexedEntries(@Nonnull Class<?> type) {
+        List<String> names = new ArrayList<>();
+        String resource = SERVICES_PATH + type.getName();
+        try {
+            Enumeration<URL> urls = getClassLoader().getResources(resource);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                if (!indexedRoots.contains(rootOf(url, resource))) {
+                    LOG.trace("{} has no startup index", url);
+                    names.addAll(readLines(url));
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read " + resource, e);
+        }
+        return names;
+    }
+
+    @Nonnull
+    private static List<String> readLines(@Nonnull URL url) throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int comment = line.indexOf('#');
+                line = (comment > -1 ? line.substring(0, comment) : line).trim();
+                if (!line.isEmpty()) {
+                    lines.add(line);
+                }
+            }
+        }
+        return lines;
+    }
+
+    @Nonnull
+    private static String rootOf(@Nonnull URL url, @Nonnull String resource) {
+        String path = url.toExternalForm();
+        return path.endsWith(resource) ? path.substring(0, path.length() - resource.length()) : path;
+    }
+
+    @Override
+    public String toString() {
+        return "StartupIndex[" +
+            "indexedRoots=" + indexedRoots.size() +
+            ", serviceTypes=" + providers.size() +
+            ", strict=" + strict +
+            ']';
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core;
+
+import griffon.annotations.core.Nonnull;
+import griffon.annotations.core.Nullable;
+import griffon.core.GriffonApplication;
+import griffon.core.injection.Injector;
+import griffon.exceptions.InstanceNotFoundException;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Records nested spans for the steps performed while the application starts up, such as bootstrap, lifecycle phases,
+ * lifecycle handlers, addons and startup MVC groups.<p>
+ * Recording is disabled by default, in which case opening a span allocates nothing, as long as callers use
+ * {@link #span(String, String, String)} rather than concatenating span names themselves. It is enabled by setting the
+ * {@code griffon.profile.startup} System property to {@code true}. Spans may be written in the Chrome trace event format
+ * at any time with {@link #writeChromeTrace(Writer)}; setting the {@code griffon.profile.startup.output} System property
+ * to a file path writes them to that file when the application shuts down.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public class StartupProfiler {
+    public static final String KEY_ENABLED = "griffon.profile.startup";
+    public static final String KEY_OUTPUT = "griffon.profile.startup.output";
+
+    private static final Span NOOP_SPAN = () -> {
+        // noop
+    };
+    private static final StartupProfiler DISABLED = new StartupProfiler();
+
+    private final boolean enabled;
+    private final String output;
+    private final long origin = System.nanoTime();
+    private final ConcurrentLinkedQueue<Record> records = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a disabled profiler.
+     */
+    public StartupProfiler() {
+        this(false, null);
+    }
+
+    public StartupProfiler(boolean enabled, @Nullable String output) {
+        this.enabled = enabled;
+        this.output = output != null && !output.trim().isEmpty() ? output.trim() : null;
+    }
+
+    /**
+     * Creates a profiler configured with the {@code griffon.profile.startup} and {@code griffon.profile.startup.output}
+     * System properties.
+     */
+    @Nonnull
+    public static StartupProfiler fromSystemProperties() {
+        return new StartupProfiler(Boolean.getBoolean(KEY_ENABLED), System.getProperty(KEY_OUTPUT));
+    }
+
+    /**
+     * Finds the profiler bound to the application's injector.
+     *
+     * @param application the application.
+     *
+     * @return the bound profiler or a disabled one if the injector is not available yet or has no profiler.
+     */
+    @Nonnull
+    public static StartupProfiler of(@Nonnull GriffonApplication application) {
+        requireNonNull(application, "Argument 'application' must not be null");
+        Injector<?> injector = application.getInjector();
+        if (injector == null) {
+            return DISABLED;
+        }
+        try {
+            StartupProfiler profiler = injector.getInstance(StartupProfiler.class);
+            return profiler != null ? profiler : DISABLED;
+        } catch (InstanceNotFoundException e) {
+            return DISABLED;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the path of the file that will receive the recorded spans at shutdown, may be {@code null}.
+     */
+    @Nullable
+    public String getOutput() {
+        return output;
+    }
+
+    /**
+     * Opens a new span on the current thread. Spans opened while another span is open on the same thread are nested
+     * inside it, thus spans must be closed in reverse order, preferably in a {@code finally} block.
+     *
+     * @param name     the name of the span.
+     * @param category the category of the span, such as {@code bootstrap}, {@code lifecycle}, {@code addon} or {@code mvc}.
+     *
+     * @return a span that must be closed once the step is done.
+     */
+    @Nonnull
+    public Span span(@Nonnull String name, @Nonnull String category) {
+        if (!enabled) {
+            return NOOP_SPAN;
+        }
+        requireNonNull(name, "Argument 'name' must not be null");
+        requireNonNull(category, "Argument 'category' must not be null");
+        return openSpan(name, category);
+    }
+
+    /**
+     * Opens a new span named {@code prefix + " " + name}. The name is only built when recording is enabled.
+     *
+     * @param prefix   the prefix of the span name, such as {@code addon} or {@code mvcGroup}.
+     * @param name     the rest of the span name.
+     * @param category the category of the span.
+     *
+     * @return a span that must be closed once the step is done.
+     *
+     * @see #span(String, String)
+     */
+    @Nonnull
+    public Span span(@Nonnull String prefix, @Nonnull String name, @Nonnull String category) {
+        if (!enabled) {
+            return NOOP_SPAN;
+        }
+        requireNonNull(prefix, "Argument 'prefix' must not be null");
+        requireNonNull(name, "Argument 'name' must not be null");
+        requireNonNull(category, "Argument 'category' must not be null");
+        return openSpan(prefix + " " + name, category);
+    }
+
+    @Nonnull
+    private Span openSpan(@Nonnull String name, @Nonnull String category) {
+        Thread thread = Thread.currentThread();
+        long start = System.nanoTime();
+        return () -> records.add(new Record(name, category, thread.getId(), thread.getName(), start - origin, System.nanoTime() - start));
+    }
+
+    /**
+     * Writes all spans closed so far using the Chrome trace event format. The output can be loaded in
+     * {@code chrome://tracing} or any other tool that understands that format.
+     *
+     * @param writer the target writer. It will not be closed.
+     */
+    public void writeChromeTrace(@Nonnull Writer writer) throws IOException {
+        requireNonNull(writer, "Argument 'writer' must not be null");
+
+        List<Record> list = new ArrayList<>(records);
+        list.sort(Comparator.comparingLong((Record r) -> r.start).thenComparing(r -> -r.duration));
+        Map<Long, String> threads = new LinkedHashMap<>();
+        for (Record record : list) {
+            threads.putIfAbsent(record.threadId, record.threadName);
+        }
+
+        writer.write("{\"traceEvents\":[");
+        boolean first = true;
+        for (Map.Entry<Long, String> thread : threads.entrySet()) {
+            first = separator(writer, first);
+            writer.write("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":" + thread.getKey() +
+                ",\"args\":{\"name\":" + quote(thread.getValue()) + "}}");
+        }
+        for (Record record : list) {
+            first = separator(writer, first);
+            writer.write("{\"name\":" + quote(record.name) +
+                ",\"cat\":" + quote(record.category) +
+                ",\"ph\":\"X\",\"pid\":1,\"tid\":" + record.threadId +
+                ",\"ts\":" + NANOSECONDS.toMicros(record.start) +
+                ",\"dur\":" + NANOSECONDS.toMicros(record.duration) + "}");
+        }
+        writer.write("],\"displayTimeUnit\":\"ms\"}");
+        writer.flush();
+    }
+
+    public void writeChromeTrace(@Nonnull Path path) throws IOException {
+        requireNonNull(path, "Argument 'path' must not be null");
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writeChromeTrace(writer);
+        }
+    }
+
+    private static boolean separator(@Nonnull Writer writer, boolean first) throws IOException {
+        if (!first) {
+            writer.write(",\n");
+        }
+        return false;
+    }
+
+    @Nonnull
+    private static String quote(@Nonnull String s) {
+        StringBuilder b = new StringBuilder(s.length() + 2).append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"':
+                    b.append("\\\"");
+                    break;
+                case '\\':
+                    b.append("\\\\");
+                    break;
+                case '\n':
+                    b.append("\\n");
+                    break;
+                case '\r':
+                    b.append("\\r");
+                    break;
+                case '\t':
+                    b.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        b.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        b.append(c);
+                    }
+            }
+        }
+        return b.append('"').toString();
+    }
+
+    /**
+     * A step being measured. Closing the span records its duration.
+     */
+    @FunctionalInterface
+    public interface Span {
+        void close();
+    }
+
+    private static final class Record {
+        private final String name;
+        private final String category;
+        private final long threadId;
+        private final String threadName;
+        private final long start;
+        private final long duration;
+
+        private Record(@Nonnull String name, @Nonnull String category, long threadId, @Nonnull String threadName, long start, long duration) {
+            this.name = name;
+            this.category = category;
+            this.threadId = threadId;
+            this.threadName = threadName;
+            this.start = start;
+            this.duration = duration;
+        }
+    }
+}
@@ -28,6 +28,7 @@ import griffon.core.events.LoadAddonStartEvent;
 import griffon.core.events.LoadAddonsEndEvent;
 import griffon.core.events.LoadAddonsStartEvent;
 import griffon.core.mvc.MVCGroupConfiguration;
+import org.codehaus.griffon.runtime.core.StartupProfiler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -97,19 +98,25 @@ public abstract class AbstractAddonManager implements AddonManager {
 
         Map<String, GriffonAddon> addons = preloadAddons();
         event(LoadAddonsStartEvent.of());
+        StartupProfiler profiler = StartupProfiler.of(getApplication());
 
         for (Map.Entry<String, GriffonAddon> entry : addons.entrySet()) {
             String name = entry.getKey();
             GriffonAddon addon = entry.getValue();
             LOG.debug("Loading addon {} with class {}", name, addon.getClass().getName());
-            event(LoadAddonStartEvent.of(getApplication(), name, addon));
-
-            getApplication().getEventRouter().subscribe(addon);
-            addMVCGroups(addon);
-            addon.init(getApplication());
-
-            this.addons.put(name, addon);
-            event(LoadAddonEndEvent.of(getApplication(), name, addon));
+            StartupProfiler.Span span = profiler.span("addon", name, "addon");
+            try {
+                event(LoadAddonStartEvent.of(getApplication(), name, addon));
+
+                getApplication().getEventRouter().subscribe(addon);
+                addMVCGroups(addon);
+                addon.init(getApplication());
+
+                this.addons.put(name, addon);
+                event(LoadAddonEndEvent.of(getApplication(), name, addon));
+            } finally {
+                span.close();
+            }
             LOG.debug("Loaded addon {}", name);
         }
 
@@ -22,7 +22,7 @@ import griffon.annotations.inject.Typed;
 import griffon.core.ApplicationClassLoader;
 import griffon.core.artifact.ArtifactHandler;
 import griffon.core.artifact.GriffonArtifact;
-import org.kordamp.jipsy.util.TypeLoader;
+import org.codehaus.griffon.runtime.core.StartupIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -59,7 +59,7 @@ public class DefaultArtifactManager extends AbstractArtifactManager {
             final String artifactType = e.getKey();
             ArtifactHandler<?> artifactHandler = e.getValue();
             Class<?> klass = artifactHandler.getClass().getAnnotation(Typed.class).value();
-            TypeLoader.load(applicationClassLoader.get(), "META-INF/services/", klass, (classLoader, type, line) -> {
+            StartupIndex.of(applicationClassLoader.get()).load(klass, (classLoader, type, line) -> {
                 List<Class<? extends GriffonArtifact>> list = artifacts.computeIfAbsent(artifactType, k -> new ArrayList<>());
 
                 try {
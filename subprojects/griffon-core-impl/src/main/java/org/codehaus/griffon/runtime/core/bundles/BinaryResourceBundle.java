@@ -0,0 +1,198 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.bundles;
+
+import griffon.annotations.core.Nonnull;
+import griffon.annotations.core.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.ResourceBundle;
+import java.util.Set;
+
+import static griffon.util.StringUtils.requireNonBlank;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@code ResourceBundle} backed by a buffer in the binary bundle format produced by
+ * {@link BinaryResourceBundleWriter}. Keys are resolved through the hash index stored in the
+ * buffer; keys and values are decoded on demand only.
+ * <p>
+ * The layout of the buffer is as follows (all numbers are big endian ints)
+ * <ul>
+ * <li>header: magic, version, entry count, slot count.</li>
+ * <li>index: one slot per entry in an open addressing table, holding the offset of an entry or {@code 0} if empty.</li>
+ * <li>entries: hash, key length, key bytes (UTF-8), value length, value bytes (UTF-8).</li>
+ * </ul>
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public class BinaryResourceBundle extends ResourceBundle {
+    public static final int MAGIC = 0x47424E44;
+    public static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 16;
+
+    private final ByteBuffer buffer;
+    private final int entryCount;
+    private final int slotCount;
+    private volatile Set<String> keys;
+
+    public BinaryResourceBundle(@Nonnull ByteBuffer buffer) {
+        this.buffer = requireNonNull(buffer, "Argument 'buffer' must not be null");
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Argument 'buffer' does not contain a binary resource bundle");
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported binary resource bundle version " + version);
+        }
+        this.entryCount = buffer.getInt(8);
+        this.slotCount = buffer.getInt(12);
+        if (entryCount < 0 || slotCount < 1 || Integer.bitCount(slotCount) != 1 || HEADER_SIZE + slotCount * 4L > buffer.limit()) {
+            throw new IllegalArgumentException("Argument 'buffer' contains a corrupt binary resource bundle");
+        }
+    }
+
+    public int size() {
+        return entryCount;
+    }
+
+    @Nullable
+    @Override
+    protected Object handleGetObject(@Nonnull String key) {
+        requireNonBlank(key, "Argument 'key' must not be blank");
+        int offset = find(key);
+        if (offset < 0) {
+            return null;
+        }
+        int valueOffset = offset + 8 + buffer.getInt(offset + 4);
+        return decode(valueOffset + 4, buffer.getInt(valueOffset));
+    }
+
+    @Override
+    public boolean containsKey(@Nonnull String key) {
+        requireNonNull(key, "Argument 'key' must not be null");
+        return find(key) >= 0 || (parent != null && parent.containsKey(key));
+    }
+
+    /**
+     * Checks if at least one key starts with the given prefix without decoding any key.
+     *
+     * @param prefix the prefix to search for.
+     *
+     * @return {@code true} if a matching key exists, {@code false} otherwise.
+     */
+    public boolean hasKeyWithPrefix(@Nonnull String prefix) {
+        byte[] bytes = requireNonNull(prefix, "Argument 'prefix' must not be null").getBytes(UTF_8);
+        int offset = entriesOffset();
+        for (int i = 0; i < entryCount; i++) {
+            int keyLength = buffer.getInt(offset + 4);
+            if (keyLength >= bytes.length && matches(offset + 8, bytes, bytes.length)) {
+                return true;
+            }
+            offset = nextEntry(offset);
+        }
+        return false;
+    }
+
+    @Nonnull
+    @Override
+    protected Set<String> handleKeySet() {
+        Set<String> s = keys;
+        if (s == null) {
+            Set<String> decoded = new LinkedHashSet<>();
+            int offset = entriesOffset();
+            for (int i = 0; i < entryCount; i++) {
+                decoded.add(decode(offset + 8, buffer.getInt(offset + 4)));
+                offset = nextEntry(offset);
+            }
+            keys = s = Collections.unmodifiableSet(decoded);
+        }
+        return s;
+    }
+
+    @Nonnull
+    @Override
+    public Enumeration<String> getKeys() {
+        if (parent == null) {
+            return Collections.enumeration(handleKeySet());
+        }
+        Set<String> all = new LinkedHashSet<>(handleKeySet());
+        all.addAll(Collections.list(parent.getKeys()));
+        return Collections.enumeration(all);
+    }
+
+    static int hash(@Nonnull String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private int find(@Nonnull String key) {
+        int hash = hash(key);
+        byte[] bytes = null;
+        int mask = slotCount - 1;
+        for (int slot = hash & mask, probes = 0; probes < slotCount; slot = (slot + 1) & mask, probes++) {
+            int offset = buffer.getInt(HEADER_SIZE + slot * 4);
+            if (offset == 0) {
+                return -1;
+            }
+            if (buffer.getInt(offset) != hash) {
+                continue;
+            }
+            if (bytes == null) {
+                bytes = key.getBytes(UTF_8);
+            }
+            if (buffer.getInt(offset + 4) == bytes.length && matches(offset + 8, bytes, bytes.length)) {
+                return offset;
+            }
+        }
+        return -1;
+    }
+
+    private boolean matches(int offset, @Nonnull byte[] bytes, int length) {
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(offset + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nonnull
+    private String decode(int offset, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+        return new String(bytes, UTF_8);
+    }
+
+    private int entriesOffset() {
+        return HEADER_SIZE + slotCount * 4;
+    }
+
+    private int nextEntry(int offset) {
+        int valueOffset = offset + 8 + buffer.getInt(offset + 4);
+        return valueOffset + 4 + buffer.getInt(valueOffset);
+    }
+}
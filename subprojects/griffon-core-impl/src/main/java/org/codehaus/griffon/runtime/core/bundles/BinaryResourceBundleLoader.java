@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.bundles;
+
+import griffon.annotations.core.Nonnull;
+import griffon.core.resources.ResourceHandler;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.ResourceBundle;
+
+import static griffon.util.StringUtils.requireNonBlank;
+import static java.util.Objects.requireNonNull;
+import static org.codehaus.griffon.runtime.core.bundles.BinaryResourceBundleWriter.BINARY_SUFFIX;
+
+/**
+ * Loads bundles written by {@link BinaryResourceBundleWriter}. Bundles found in the file system are
+ * memory mapped, bundles found inside archives are copied once into a direct buffer. In both cases
+ * entries stay off-heap until they are looked up.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+@Named("binary")
+public class BinaryResourceBundleLoader extends AbstractResourceBundleLoader {
+    protected final ResourceBundleReader resourceBundleReader;
+
+    @Inject
+    public BinaryResourceBundleLoader(@Nonnull ResourceHandler resourceHandler,
+                                      @Nonnull ResourceBundleReader resourceBundleReader) {
+        super(resourceHandler);
+        this.resourceBundleReader = requireNonNull(resourceBundleReader, "Argument 'resourceBundleReader' must not be null");
+    }
+
+    @Nonnull
+    @Override
+    public Collection<ResourceBundle> load(@Nonnull String name) {
+        requireNonBlank(name, ERROR_FILENAME_BLANK);
+        List<ResourceBundle> bundles = new ArrayList<>();
+        List<URL> resources = getResources(name, BINARY_SUFFIX);
+        if (resources != null) {
+            for (URL resource : resources) {
+                if (null == resource) {
+                    continue;
+                }
+                try {
+                    BinaryResourceBundle bundle = new BinaryResourceBundle(map(resource));
+                    bundles.add(hasConditionalBlocks(bundle) ? resourceBundleReader.read(bundle) : bundle);
+                } catch (IOException | IllegalArgumentException e) {
+                    // ignore
+                }
+            }
+        }
+        return bundles;
+    }
+
+    @Nonnull
+    protected ByteBuffer map(@Nonnull URL resource) throws IOException {
+        if ("file".equals(resource.getProtocol())) {
+            try (FileChannel channel = FileChannel.open(Paths.get(resource.toURI()), StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch (URISyntaxException e) {
+                throw new IOException("Can not map " + resource, e);
+            }
+        }
+
+        try (InputStream in = resource.openStream()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] chunk = new byte[8192];
+            for (int read = in.read(chunk); read != -1; read = in.read(chunk)) {
+                out.write(chunk, 0, read);
+            }
+            ByteBuffer buffer = ByteBuffer.allocateDirect(out.size());
+            buffer.put(out.toByteArray());
+            return buffer;
+        }
+    }
+
+    private boolean hasConditionalBlocks(@Nonnull BinaryResourceBundle bundle) {
+        for (String blockName : resourceBundleReader.getConditionalBlockValues().keySet()) {
+            if (bundle.hasKeyWithPrefix(blockName + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
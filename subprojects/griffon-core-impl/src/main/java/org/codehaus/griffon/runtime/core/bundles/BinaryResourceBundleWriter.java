@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.bundles;
+
+import griffon.annotations.core.Nonnull;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static org.codehaus.griffon.runtime.core.bundles.BinaryResourceBundle.HEADER_SIZE;
+import static org.codehaus.griffon.runtime.core.bundles.BinaryResourceBundle.MAGIC;
+import static org.codehaus.griffon.runtime.core.bundles.BinaryResourceBundle.VERSION;
+import static org.codehaus.griffon.runtime.core.bundles.BinaryResourceBundle.hash;
+
+/**
+ * Converts properties and XML bundles into the format read by {@link BinaryResourceBundle}.
+ * Meant to be invoked at build time, for example
+ * <pre>
+ * java org.codehaus.griffon.runtime.core.bundles.BinaryResourceBundleWriter build/resources/main messages.properties messages_de.properties
+ * </pre>
+ * Conditional blocks are kept verbatim, they are resolved when the bundle is loaded.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public class BinaryResourceBundleWriter {
+    public static final String BINARY_SUFFIX = ".gbundle";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: BinaryResourceBundleWriter <outputDirectory> <file.properties|file.xml>...");
+        }
+
+        BinaryResourceBundleWriter writer = new BinaryResourceBundleWriter();
+        Path outputDirectory = Paths.get(args[0]);
+        Files.createDirectories(outputDirectory);
+        for (int i = 1; i < args.length; i++) {
+            Path source = Paths.get(args[i]);
+            String fileName = source.getFileName().toString();
+            String basename = fileName.substring(0, fileName.lastIndexOf('.'));
+            writer.write(writer.read(source), outputDirectory.resolve(basename + BINARY_SUFFIX));
+        }
+    }
+
+    /**
+     * Reads the entries of a properties or XML file. Nested XML elements are flattened into dotted keys.
+     *
+     * @param source the file to read. Must end with either {@code .properties} or {@code .xml}.
+     *
+     * @return the entries found in the file.
+     */
+    @Nonnull
+    public Map<String, String> read(@Nonnull Path source) throws IOException {
+        requireNonNull(source, "Argument 'source' must not be null");
+        String fileName = source.getFileName().toString();
+        try (InputStream in = Files.newInputStream(source)) {
+            if (fileName.endsWith(".properties")) {
+                Properties properties = new Properties();
+                properties.load(in);
+                Map<String, String> entries = new TreeMap<>();
+                for (String key : properties.stringPropertyNames()) {
+                    entries.put(key, properties.getProperty(key));
+                }
+                return entries;
+            } else if (fileName.endsWith(".xml")) {
+                try {
+                    Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(in);
+                    document.getDocumentElement().normalize();
+                    Map<String, String> entries = new LinkedHashMap<>();
+                    flatten(entries, "", document.getDocumentElement().getChildNodes());
+                    return entries;
+                } catch (IOException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IOException("Can not read " + source, e);
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unsupported file " + source);
+    }
+
+    public void write(@Nonnull Map<String, String> entries, @Nonnull Path target) throws IOException {
+        requireNonNull(target, "Argument 'target' must not be null");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target))) {
+            write(entries, out);
+        }
+    }
+
+    public void write(@Nonnull Map<String, String> entries, @Nonnull OutputStream out) throws IOException {
+        requireNonNull(entries, "Argument 'entries' must not be null");
+        requireNonNull(out, "Argument 'out' must not be null");
+
+        int slotCount = 2;
+        while (slotCount < entries.size() * 2) {
+            slotCount <<= 1;
+        }
+
+        List<byte[]> keys = new ArrayList<>(entries.size());
+        List<byte[]> values = new ArrayList<>(entries.size());
+        int[] hashes = new int[entries.size()];
+        int[] slots = new int[slotCount];
+        int offset = HEADER_SIZE + slotCount * 4;
+        int mask = slotCount - 1;
+        int index = 0;
+        for (Map.Entry<String, String> e : entries.entrySet()) {
+            String key = requireNonNull(e.getKey(), "Bundle keys must not be null");
+            String value = e.getValue() != null ? e.getValue() : "";
+            byte[] k = key.getBytes(UTF_8);
+            byte[] v = value.getBytes(UTF_8);
+            keys.add(k);
+            values.add(v);
+            hashes[index] = hash(key);
+
+            int slot = hashes[index] & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = offset;
+            offset += 12 + k.length + v.length;
+            index++;
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(entries.size());
+        data.writeInt(slotCount);
+        for (int slot : slots) {
+            data.writeInt(slot);
+        }
+        for (int i = 0; i < hashes.length; i++) {
+            data.writeInt(hashes[i]);
+            data.writeInt(keys.get(i).length);
+            data.write(keys.get(i));
+            data.writeInt(values.get(i).length);
+            data.write(values.get(i));
+        }
+        data.flush();
+    }
+
+    private void flatten(@Nonnull Map<String, String> accumulator, @Nonnull String prefix, @Nonnull NodeList nodes) {
+        for (int index = 0; index < nodes.getLength(); index++) {
+            Node item = nodes.item(index);
+            if (item.getNodeType() != Node.ELEMENT_NODE) {
+                continue;
+            }
+
+            String key = prefix + item.getNodeName();
+            if (item.hasChildNodes() && item.getChildNodes().getLength() > 1) {
+                flatten(accumulator, key + ".", item.getChildNodes());
+            } else {
+                accumulator.put(key, item.getTextContent().trim());
+            }
+        }
+    }
+}
@@ -22,12 +22,15 @@ import griffon.annotations.core.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Iterator;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static griffon.util.ObjectUtils.requireState;
 import static griffon.util.StringUtils.requireNonBlank;
@@ -35,13 +38,20 @@ import static java.util.Objects.requireNonNull;
 import static org.codehaus.griffon.runtime.core.bundles.ExpandableResourceBundle.wrapResourceBundle;
 
 /**
+ * Merges a sequence of bundles into a single lookup index. Bundles are inspected in order, the first
+ * non-null value found for a key wins. The index is filled lazily, a key is resolved against every bundle
+ * the first time it is not found in the index; later lookups (including those for missing keys) are
+ * resolved with a single hash probe.
+ *
  * @author Andres Almiray
  * @since 2.0.0
  */
 public class CompositeResourceBundle extends ResourceBundle {
     private static final Logger LOG = LoggerFactory.getLogger(CompositeResourceBundle.class);
+    private static final Object MISSING = new Object();
     private final ResourceBundle[] bundles;
-    private final List<String> keys = new ArrayList<>();
+    private final Map<String, Object> index = new ConcurrentHashMap<>();
+    private volatile Set<String> keys;
 
     public CompositeResourceBundle(@Nonnull Collection<ResourceBundle> bundles) {
         this(toResourceBundleArray(bundles));
@@ -54,23 +64,22 @@ public class CompositeResourceBundle extends ResourceBundle {
         for (int i = 0; i < bundles.length; i++) {
             this.bundles[i] = wrapResourceBundle(bundles[i]);
         }
-
-        for (ResourceBundle bundle : this.bundles) {
-            Enumeration<String> ks = bundle.getKeys();
-            while (ks.hasMoreElements()) {
-                String key = ks.nextElement();
-                if (!keys.contains(key)) {
-                    keys.add(key);
-                }
-            }
-        }
     }
 
     @Nullable
     protected Object handleGetObject(@Nonnull String key) {
         requireNonBlank(key, "Arguments 'key' must not be blank");
+        Object value = index.get(key);
+        if (value == null) {
+            value = resolve(key);
+            index.putIfAbsent(key, value);
+        }
+        LOG.trace("Searching key={}; value='{}'", key, value);
+        return value != MISSING ? value : null;
+    }
 
-        LOG.trace("Searching key={}", key);
+    @Nonnull
+    private Object resolve(@Nonnull String key) {
         for (ResourceBundle bundle : bundles) {
             try {
                 Object value = bundle.getObject(key);
@@ -82,13 +91,33 @@ public class CompositeResourceBundle extends ResourceBundle {
                 // ignore
             }
         }
-        return null;
+        return MISSING;
+    }
+
+    @Nonnull
+    @Override
+    protected Set<String> handleKeySet() {
+        return getKeySet();
     }
 
     @Nonnull
     @Override
     public Enumeration<String> getKeys() {
-        return new IteratorAsEnumeration<>(keys.iterator());
+        return new IteratorAsEnumeration<>(getKeySet().iterator());
+    }
+
+    @Nonnull
+    private Set<String> getKeySet() {
+        Set<String> result = keys;
+        if (result == null) {
+            Set<String> ks = new LinkedHashSet<>();
+            for (ResourceBundle bundle : bundles) {
+                ks.addAll(bundle.keySet());
+            }
+            result = Collections.unmodifiableSet(ks);
+            keys = result;
+        }
+        return result;
     }
 
     @Nonnull
@@ -84,7 +84,8 @@ public class ExpandableResourceBundle extends ResourceBundle {
     @Nonnull
     public static ResourceBundle wrapResourceBundle(@Nonnull ResourceBundle resourceBundle) {
         requireNonNull(resourceBundle, "Argument 'resourceBundle' must not be null");
-        if (!(resourceBundle instanceof ExpandableResourceBundle)) {
+        // expanding a binary bundle would copy all of its entries into the heap
+        if (!(resourceBundle instanceof ExpandableResourceBundle) && !(resourceBundle instanceof BinaryResourceBundle)) {
             return new ExpandableResourceBundle(resourceBundle);
         }
         return resourceBundle;
@@ -21,7 +21,6 @@ import griffon.annotations.core.Nonnull;
 import griffon.annotations.core.Nullable;
 import griffon.converter.Converter;
 import griffon.converter.ConverterRegistry;
-import griffon.converter.FormattingConverter;
 import griffon.core.Configuration;
 
 import java.util.Properties;
@@ -164,7 +163,7 @@ public abstract class AbstractConfiguration implements Configuration {
             if (type.isAssignableFrom(value.getClass())) {
                 return (T) value;
             } else {
-                Converter<T> converter = converterRegistry.findConverter(type);
+                Converter<T> converter = converterRegistry.findConverter(type, null, null);
                 if (null != converter) {
                     return converter.fromObject(value);
                 }
@@ -179,11 +178,8 @@ public abstract class AbstractConfiguration implements Configuration {
             if (type.isAssignableFrom(value.getClass())) {
                 return (T) value;
             } else {
-                Converter<T> converter = converterRegistry.findConverter(type);
+                Converter<T> converter = converterRegistry.findConverter(type, null, format);
                 if (null != converter) {
-                    if (converter instanceof FormattingConverter) {
-                        ((FormattingConverter) converter).setFormat(format);
-                    }
                     return converter.fromObject(value);
                 }
             }
@@ -23,7 +23,6 @@ import griffon.annotations.core.Nullable;
 import griffon.annotations.event.EventHandler;
 import griffon.converter.Converter;
 import griffon.converter.ConverterRegistry;
-import griffon.converter.FormattingConverter;
 import griffon.converter.NoopConverter;
 import griffon.core.Configuration;
 import griffon.core.GriffonApplication;
@@ -37,13 +36,24 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 import java.beans.PropertyDescriptor;
+import java.io.File;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static griffon.util.StringUtils.isNotBlank;
 import static java.lang.reflect.Modifier.isStatic;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -56,6 +66,12 @@ public abstract class AbstractConfigurationManager implements ConfigurationManag
     private static final String ERROR_INSTANCE_NULL = "Argument 'instance' must not be null";
     private static final String ERROR_TYPE_NULL = "Argument 'type' must not be null";
     private static final String ERROR_VALUE_NULL = "Argument 'value' must not be null";
+    private static final Set<Class<?>> SHAREABLE_TYPES = new HashSet<>(asList(
+        String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+        Float.class, Double.class, BigInteger.class, BigDecimal.class, Class.class, File.class, URI.class));
+
+    private final Map<Class<?>, Map<String, ConfigurationDescriptor>> injectionPlans = new ConcurrentHashMap<>();
+    private final Map<ConvertedValueKey, ConvertedValue> convertedValues = new ConcurrentHashMap<>();
 
     @Inject
     protected GriffonApplication application;
@@ -78,14 +94,37 @@ public abstract class AbstractConfigurationManager implements ConfigurationManag
     public void injectConfiguration(@Nonnull Object instance) {
         requireNonNull(instance, ERROR_INSTANCE_NULL);
 
-        Map<String, ConfigurationDescriptor> descriptors = new LinkedHashMap<>();
-        Class<?> klass = instance.getClass();
-        do {
-            harvestDescriptors(instance.getClass(), klass, instance, descriptors);
-            klass = klass.getSuperclass();
-        } while (null != klass);
+        Map<String, ConfigurationDescriptor> descriptors = resolveInjectionPlan(instance);
+        if (!descriptors.isEmpty()) {
+            doConfigurationInjection(instance, descriptors);
+        }
+    }
 
-        doConfigurationInjection(instance, descriptors);
+    /**
+     * Returns the configuration descriptors of the instance's class. Descriptors are harvested once per class
+     * and shared by every instance of that class.
+     */
+    @Nonnull
+    protected Map<String, ConfigurationDescriptor> resolveInjectionPlan(@Nonnull Object instance) {
+        requireNonNull(instance, ERROR_INSTANCE_NULL);
+
+        Class<?> instanceClass = instance.getClass();
+        Map<String, ConfigurationDescriptor> plan = injectionPlans.get(instanceClass);
+        if (null == plan) {
+            Map<String, ConfigurationDescriptor> descriptors = new LinkedHashMap<>();
+            Class<?> klass = instanceClass;
+            do {
+                harvestDescriptors(instanceClass, klass, instance, descriptors);
+                klass = klass.getSuperclass();
+            } while (null != klass);
+
+            plan = descriptors.isEmpty() ? emptyMap() : unmodifiableMap(descriptors);
+            Map<String, ConfigurationDescriptor> existing = injectionPlans.putIfAbsent(instanceClass, plan);
+            if (null != existing) {
+                plan = existing;
+            }
+        }
+        return plan;
     }
 
     protected void harvestDescriptors(@Nonnull Class<?> instanceClass, @Nonnull Class<?> currentClass, @Nonnull Object instance, @Nonnull Map<String, ConfigurationDescriptor> descriptors) {
@@ -154,13 +193,39 @@ public abstract class AbstractConfigurationManager implements ConfigurationManag
             if (value != null) {
                 InjectionPoint injectionPoint = descriptor.asInjectionPoint();
                 if (!isNoopConverter(descriptor.getConverter()) || !injectionPoint.getType().isAssignableFrom(value.getClass())) {
-                    value = convertValue(injectionPoint.getType(), value, descriptor.getFormat(), descriptor.getConverter());
+                    value = convertConfiguredValue(descriptor, injectionPoint.getType(), value);
                 }
                 injectionPoint.setValue(instance, value);
             }
         }
     }
 
+    /**
+     * Converts a configured value, reusing a previous conversion for the same descriptor and target type as long
+     * as the raw configuration value has not changed. Only immutable values are cached, see {@link #isShareableValue(Object)}.
+     */
+    @Nonnull
+    protected Object convertConfiguredValue(@Nonnull ConfigurationDescriptor descriptor, @Nonnull Class<?> type, @Nonnull Object value) {
+        requireNonNull(type, ERROR_TYPE_NULL);
+        requireNonNull(value, ERROR_VALUE_NULL);
+
+        ConvertedValueKey key = new ConvertedValueKey(descriptor, type);
+        ConvertedValue cached = convertedValues.get(key);
+        if (null != cached && cached.source.equals(value)) {
+            return cached.value;
+        }
+
+        Object converted = convertValue(type, value, descriptor.getFormat(), descriptor.getConverter());
+        if (isShareableValue(value) && isShareableValue(converted)) {
+            convertedValues.put(key, new ConvertedValue(value, converted));
+        }
+        return converted;
+    }
+
+    protected boolean isShareableValue(@Nullable Object value) {
+        return null != value && (SHAREABLE_TYPES.contains(value.getClass()) || value instanceof Enum);
+    }
+
     @Nullable
     protected Object resolveConfiguration(@Nonnull String name, @Nonnull String key, @Nullable String defaultValue) {
         Configuration configuration = getConfiguration();
@@ -193,19 +258,18 @@ public abstract class AbstractConfigurationManager implements ConfigurationManag
     protected Converter resolveConverter(@Nonnull Class<?> type, @Nullable String format, @Nonnull Class<? extends Converter> converter) {
         requireNonNull(type, ERROR_TYPE_NULL);
 
-        Converter resolvedConverter = null;
-        if (isNoopConverter(converter)) {
-            resolvedConverter = converterRegistry.findConverter(type);
-        } else {
-            try {
-                resolvedConverter = converter.newInstance();
-            } catch (InstantiationException | IllegalAccessException e) {
-                throw new GriffonException("Could not instantiate converter with " + converter, e);
+        Converter resolvedConverter;
+        try {
+            resolvedConverter = converterRegistry.findConverter(type, converter, format);
+        } catch (IllegalStateException e) {
+            if (isNoopConverter(converter)) {
+                throw new GriffonException("Could not instantiate the converter registered for " + type.getName(), e);
             }
+            throw new GriffonException("Could not instantiate converter with " + converter, e);
         }
 
-        if (resolvedConverter instanceof FormattingConverter) {
-            ((FormattingConverter) resolvedConverter).setFormat(format);
+        if (null == resolvedConverter) {
+            throw new GriffonException("Could not find a converter for " + type.getName());
         }
         return resolvedConverter;
     }
@@ -213,4 +277,49 @@ public abstract class AbstractConfigurationManager implements ConfigurationManag
     protected boolean isNoopConverter(@Nonnull Class<? extends Converter> converter) {
         return NoopConverter.class.isAssignableFrom(converter);
     }
+
+    private static final class ConvertedValueKey {
+        private final String configuration;
+        private final String key;
+        private final String format;
+        private final Class<? extends Converter> converter;
+        private final Class<?> type;
+        private final int hashCode;
+
+        private ConvertedValueKey(@Nonnull ConfigurationDescriptor descriptor, @Nonnull Class<?> type) {
+            this.configuration = descriptor.getConfiguration();
+            this.key = descriptor.getKey();
+            this.format = descriptor.getFormat();
+            this.converter = descriptor.getConverter();
+            this.type = type;
+            this.hashCode = Objects.hash(configuration, key, format, converter, type);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) { return true; }
+            if (!(o instanceof ConvertedValueKey)) { return false; }
+            ConvertedValueKey that = (ConvertedValueKey) o;
+            return type == that.type &&
+                converter == that.converter &&
+                key.equals(that.key) &&
+                Objects.equals(configuration, that.configuration) &&
+                Objects.equals(format, that.format);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class ConvertedValue {
+        private final Object source;
+        private final Object value;
+
+        private ConvertedValue(@Nonnull Object source, @Nonnull Object value) {
+            this.source = source;
+            this.value = value;
+        }
+    }
 }
@@ -24,7 +24,6 @@ import org.codehaus.griffon.runtime.core.bundles.AbstractMapResourceBundle;
 
 import java.util.Collections;
 import java.util.Map;
-import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 
 import static griffon.core.util.ConfigUtils.getConfigValue;
@@ -70,10 +69,6 @@ public abstract class AbstractMapConfiguration extends AbstractConfiguration {
     @Nullable
     @Override
     public <T> T get(@Nonnull String key) {
-        try {
-            return getConfigValue(map, key);
-        } catch (MissingResourceException mre) {
-            return null;
-        }
+        return getConfigValue(map, key, null);
     }
 }
@@ -192,7 +192,7 @@ public class ConfigurationDecorator implements Configuration {
             if (type.isAssignableFrom(value.getClass())) {
                 return (T) value;
             } else {
-                Converter<T> converter = getConverterRegistry().findConverter(type);
+                Converter<T> converter = getConverterRegistry().findConverter(type, null, null);
                 if (null != converter) {
                     return converter.fromObject(value);
                 }
@@ -28,7 +28,6 @@ import org.codehaus.griffon.runtime.core.bundles.CompositeResourceBundle;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.MissingResourceException;
 import java.util.ResourceBundle;
 import java.util.Set;
 
@@ -102,14 +101,11 @@ public class DelegatingMutableConfiguration extends ConfigurationDecorator imple
     @Override
     public <T> T get(@Nonnull String key) {
         requireNonBlank(key, ERROR_KEY_BLANK);
-        try {
-            return getConfigValue(mutableKeyValues, key);
-        } catch (MissingResourceException mre) {
-            if (removedKeys.contains(key)) {
-                return null;
-            }
-            return super.get(key);
+        T value = getConfigValue(mutableKeyValues, key, null);
+        if (value != null || removedKeys.contains(key)) {
+            return value;
         }
+        return super.get(key);
     }
 
     @Nullable
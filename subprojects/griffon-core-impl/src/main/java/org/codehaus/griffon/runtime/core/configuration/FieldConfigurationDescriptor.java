@@ -31,6 +31,7 @@ import static java.util.Objects.requireNonNull;
  */
 public class FieldConfigurationDescriptor extends ConfigurationDescriptor {
     private final Field field;
+    private volatile InjectionPoint injectionPoint;
 
     public FieldConfigurationDescriptor(@Nonnull Field field, @Nonnull String configuration, @Nonnull String key, @Nullable String defaultValue, @Nonnull String format, @Nonnull Class<? extends Converter> converter) {
         super(configuration, key, defaultValue, format, converter);
@@ -44,7 +45,10 @@ public class FieldConfigurationDescriptor extends ConfigurationDescriptor {
 
     @Nonnull
     public InjectionPoint asInjectionPoint() {
-        return new FieldInjectionPoint(field, getConfiguration(), getKey(), getFormat(), getConverter());
+        if (null == injectionPoint) {
+            injectionPoint = new FieldInjectionPoint(field, getConfiguration(), getKey(), getFormat(), getConverter());
+        }
+        return injectionPoint;
     }
 
     @Override
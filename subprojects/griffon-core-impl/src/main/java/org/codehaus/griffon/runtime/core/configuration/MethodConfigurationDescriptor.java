@@ -31,6 +31,7 @@ import static java.util.Objects.requireNonNull;
  */
 public class MethodConfigurationDescriptor extends ConfigurationDescriptor {
     private final Method writeMethod;
+    private volatile InjectionPoint injectionPoint;
 
     public MethodConfigurationDescriptor(@Nonnull Method writeMethod, @Nonnull String configuration, @Nonnull String key, @Nullable String defaultValue, @Nonnull String format, @Nonnull Class<? extends Converter> converter) {
         super(configuration, key, defaultValue, format, converter);
@@ -44,7 +45,10 @@ public class MethodConfigurationDescriptor extends ConfigurationDescriptor {
 
     @Nonnull
     public InjectionPoint asInjectionPoint() {
-        return new MethodInjectionPoint(writeMethod, getConfiguration(), getKey(), getFormat(), getConverter());
+        if (null == injectionPoint) {
+            injectionPoint = new MethodInjectionPoint(writeMethod, getConfiguration(), getKey(), getFormat(), getConverter());
+        }
+        return injectionPoint;
     }
 
     @Override
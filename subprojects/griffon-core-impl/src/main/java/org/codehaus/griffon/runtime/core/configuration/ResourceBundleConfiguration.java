@@ -23,10 +23,13 @@ import griffon.converter.ConverterRegistry;
 
 import javax.inject.Inject;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.Set;
 
 import static griffon.core.util.ConfigUtils.getConfigValue;
 import static griffon.util.StringUtils.requireNonBlank;
@@ -41,6 +44,8 @@ public class ResourceBundleConfiguration extends AbstractConfiguration {
     protected static final String ERROR_KEY_BLANK = "Argument 'key' must not be blank";
     private final ResourceBundle resourceBundle;
     private final Map<String, Object> flatMap = new LinkedHashMap<>();
+    // every resolvable key, including paths into nested maps
+    private final Map<String, Object> index = new HashMap<>();
 
     @Inject
     public ResourceBundleConfiguration(@Nonnull ConverterRegistry converterRegistry, @Nonnull ResourceBundle resourceBundle) {
@@ -51,6 +56,63 @@ public class ResourceBundleConfiguration extends AbstractConfiguration {
             String key = keys.nextElement();
             flatMap.put(key, getConfigValue(resourceBundle, key));
         }
+        buildIndex();
+    }
+
+    /**
+     * Resolves every key, key prefix and path into nested maps once, following the lookup rules of
+     * {@code ConfigUtils.getConfigValue()}, so that lookups never walk the bundle nor throw on a miss.
+     */
+    @SuppressWarnings("unchecked")
+    private void buildIndex() {
+        for (Map.Entry<String, Object> entry : flatMap.entrySet()) {
+            if (entry.getValue() != null) {
+                index.put(entry.getKey(), entry.getValue());
+            }
+        }
+        Set<String> prefixes = new HashSet<>();
+        for (String key : flatMap.keySet()) {
+            // bundles may resolve intermediate nodes such as 'a' and 'a.b' for a key 'a.b.c'
+            for (int i = key.indexOf('.'); i > 0; i = key.indexOf('.', i + 1)) {
+                String prefix = key.substring(0, i);
+                if (prefixes.add(prefix) && !index.containsKey(prefix)) {
+                    Object value = resolve(prefix);
+                    if (value != null) {
+                        index.put(prefix, value);
+                    }
+                }
+            }
+        }
+        for (Map.Entry<String, Object> entry : new LinkedHashMap<>(index).entrySet()) {
+            if (entry.getKey().indexOf('.') < 0 && entry.getValue() instanceof Map) {
+                indexNested(entry.getKey(), (Map<String, Object>) entry.getValue());
+            }
+        }
+    }
+
+    @Nullable
+    private Object resolve(@Nonnull String key) {
+        try {
+            return getConfigValue(resourceBundle, key);
+        } catch (MissingResourceException mre) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void indexNested(@Nonnull String prefix, @Nonnull Map<String, Object> map) {
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            Object key = entry.getKey();
+            Object value = entry.getValue();
+            if (!(key instanceof String) || ((String) key).isEmpty() || ((String) key).indexOf('.') > -1 || value == null) {
+                continue;
+            }
+            String path = prefix + "." + key;
+            index.putIfAbsent(path, value);
+            if (value instanceof Map) {
+                indexNested(path, (Map<String, Object>) value);
+            }
+        }
     }
 
     public boolean containsKey(@Nonnull String key) {
@@ -71,11 +133,13 @@ public class ResourceBundleConfiguration extends AbstractConfiguration {
 
     @Nullable
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T get(@Nonnull String key) {
-        try {
-            return getConfigValue(resourceBundle, key);
-        } catch (MissingResourceException mre) {
-            return null;
+        Object value = index.get(requireNonBlank(key, ERROR_KEY_BLANK));
+        if (value == null && key.endsWith(".")) {
+            // trailing separators are ignored by the regular lookup
+            value = resolve(key);
         }
+        return (T) value;
     }
 }
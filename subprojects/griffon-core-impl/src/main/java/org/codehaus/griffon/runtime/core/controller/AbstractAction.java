@@ -39,6 +39,7 @@ public abstract class AbstractAction extends AbstractPropertySource implements A
     private final ActionMetadata actionMetadata;
     private boolean initialized;
     private final Object lock = new Object[0];
+    private volatile ActionInvoker invoker;
 
     public AbstractAction(@Nonnull ActionManager actionManager, @Nonnull GriffonController controller, @Nonnull ActionMetadata actionMetadata) {
         this.actionManager = requireNonNull(actionManager, "Argument 'actionManager' must not be null");
@@ -73,6 +74,23 @@ public abstract class AbstractAction extends AbstractPropertySource implements A
         return actionMetadata.getFullyQualifiedName();
     }
 
+    /**
+     * @return the invoker resolved for this action, or {@code null} if the action must be invoked reflectively.
+     *
+     * @since 3.0.0
+     */
+    @Nullable
+    public ActionInvoker getInvoker() {
+        return invoker;
+    }
+
+    /**
+     * @since 3.0.0
+     */
+    public void setInvoker(@Nullable ActionInvoker invoker) {
+        this.invoker = invoker;
+    }
+
     @Override
     public boolean isEnabled() {
         return enabled;
@@ -64,7 +64,6 @@ import static griffon.core.util.GriffonClassUtils.invokeInstanceMethod;
 import static griffon.core.util.TypeUtils.castToBoolean;
 import static griffon.util.AnnotationUtils.findAnnotation;
 import static griffon.util.AnnotationUtils.isAnnotatedWith;
-import static griffon.util.CollectionUtils.reverse;
 import static griffon.util.StringUtils.capitalize;
 import static griffon.util.StringUtils.requireNonBlank;
 import static griffon.util.StringUtils.uncapitalize;
@@ -90,7 +89,9 @@ public abstract class AbstractActionManager implements ActionManager {
 
     private final ActionCache actionCache = new ActionCache();
     private final Map<String, Threading.Policy> threadingPolicies = new ConcurrentHashMap<>();
-    private final List<ActionHandler> handlers = new CopyOnWriteArrayList<>();
+    private final CopyOnWriteArrayList<ActionHandler> handlers = new CopyOnWriteArrayList<>();
+    private final Object[] handlersLock = new Object[0];
+    private volatile ActionHandler[] handlerChain = new ActionHandler[0];
 
     private final GriffonApplication application;
     private final ActionFactory actionFactory;
@@ -149,9 +150,12 @@ public abstract class AbstractActionManager implements ActionManager {
             }
 
             Action action = createAndConfigureAction(controller, actionName, method);
+            if (action instanceof AbstractAction) {
+                ((AbstractAction) action).setInvoker(createActionInvoker(controller, method));
+            }
 
             final String qualifiedActionName = action.getFullyQualifiedName();
-            for (ActionHandler handler : handlers) {
+            for (ActionHandler handler : handlerChain) {
                 LOG.debug("Configuring action {} with {}", qualifiedActionName, handler);
                 handler.configure(action, method);
             }
@@ -186,7 +190,7 @@ public abstract class AbstractActionManager implements ActionManager {
         requireNonNull(action, ERROR_ACTION_NULL);
 
         final String qualifiedActionName = action.getFullyQualifiedName();
-        for (ActionHandler handler : handlers) {
+        for (ActionHandler handler : handlerChain) {
             LOG.trace("Calling {}.update() on {}", handler, qualifiedActionName);
             handler.update(action);
         }
@@ -207,8 +211,8 @@ public abstract class AbstractActionManager implements ActionManager {
         Runnable runnable = () -> {
             Object result = null;
             Object[] updatedArgs = args;
-            List<ActionHandler> copy = new ArrayList<>(handlers);
-            List<ActionHandler> invokedHandlers = new ArrayList<>();
+            ActionHandler[] chain = handlerChain;
+            int invokedHandlers = 0;
 
             final String qualifiedActionName = action.getFullyQualifiedName();
             ActionExecutionStatus status = ActionExecutionStatus.OK;
@@ -222,12 +226,12 @@ public abstract class AbstractActionManager implements ActionManager {
             }
 
             if (LOG.isDebugEnabled()) {
-                int size = copy.size();
+                int size = chain.length;
                 LOG.debug("Executing " + size + " handler" + (size != 1 ? "s" : "") + " for " + qualifiedActionName);
             }
 
-            for (ActionHandler handler : copy) {
-                invokedHandlers.add(handler);
+            for (ActionHandler handler : chain) {
+                invokedHandlers++;
                 try {
                     LOG.trace("Calling {}.before() on {}", handler, qualifiedActionName);
                     updatedArgs = handler.before(action, updatedArgs);
@@ -243,7 +247,7 @@ public abstract class AbstractActionManager implements ActionManager {
             boolean exceptionWasHandled = false;
             if (status == ActionExecutionStatus.OK) {
                 try {
-                    result = doInvokeAction(controller, actionName, updatedArgs);
+                    result = doInvokeAction(action, updatedArgs);
                 } catch (RuntimeException e) {
                     status = ActionExecutionStatus.EXCEPTION;
                     exception = (RuntimeException) sanitize(e);
@@ -252,14 +256,16 @@ public abstract class AbstractActionManager implements ActionManager {
                 LOG.trace("Status after execution of {} is {}", qualifiedActionName, status);
 
                 if (exception != null) {
-                    for (ActionHandler handler : reverse(invokedHandlers)) {
+                    for (int i = invokedHandlers - 1; i >= 0; i--) {
+                        ActionHandler handler = chain[i];
                         LOG.trace("Calling {}.exception() on {}", handler, qualifiedActionName);
                         exceptionWasHandled = handler.exception(exception, action, updatedArgs);
                     }
                 }
             }
 
-            for (ActionHandler handler : reverse(invokedHandlers)) {
+            for (int i = invokedHandlers - 1; i >= 0; i--) {
+                ActionHandler handler = chain[i];
                 LOG.trace("Calling {}.after() on {}", handler, qualifiedActionName);
                 result = handler.after(status, action, updatedArgs, result);
             }
@@ -311,6 +317,18 @@ public abstract class AbstractActionManager implements ActionManager {
         invokeAction(actionFor(controller, actionName), args);
     }
 
+    @Nullable
+    protected Object doInvokeAction(@Nonnull Action action, @Nonnull Object[] updatedArgs) {
+        ActionInvoker invoker = action instanceof AbstractAction ? ((AbstractAction) action).getInvoker() : null;
+        if (invoker != null) {
+            Object[] invokerArgs = invoker.resolveArguments(updatedArgs);
+            if (invokerArgs != null) {
+                return invoker.invoke(invokerArgs);
+            }
+        }
+        return doInvokeAction(action.getController(), action.getActionName(), updatedArgs);
+    }
+
     @Nullable
     protected Object doInvokeAction(@Nonnull GriffonController controller, @Nonnull String actionName, @Nonnull Object[] updatedArgs) {
         try {
@@ -440,10 +458,16 @@ public abstract class AbstractActionManager implements ActionManager {
 
     public void addActionHandler(@Nonnull ActionHandler actionHandler) {
         requireNonNull(actionHandler, ERROR_ACTION_HANDLER_NULL);
-        if (handlers.contains(actionHandler)) {
-            return;
+        synchronized (handlersLock) {
+            if (handlers.addIfAbsent(actionHandler)) {
+                handlerChain = handlers.toArray(new ActionHandler[0]);
+            }
         }
-        handlers.add(actionHandler);
+    }
+
+    @Nullable
+    protected ActionInvoker createActionInvoker(@Nonnull GriffonController controller, @Nonnull Method method) {
+        return ActionInvoker.of(controller, method);
     }
 
     @Nonnull
@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.controller;
+
+import griffon.annotations.core.Nonnull;
+import griffon.annotations.core.Nullable;
+import griffon.core.artifact.GriffonController;
+import griffon.exceptions.InstanceMethodInvocationException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.EventObject;
+
+import static griffon.core.util.GriffonClassUtils.EMPTY_ARGS;
+import static griffon.core.util.MethodUtils.isAssignmentCompatible;
+import static java.lang.reflect.Modifier.isPublic;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Invokes a controller action through a {@code MethodHandle} bound to the controller instance.<p>
+ * Invokers are resolved once per action, thus invoking an action requires no method lookups. Invokers only
+ * accept arguments that match the parameters of the action method, or a single {@code EventObject} argument
+ * when the action method takes no parameters; any other arguments must be resolved by the {@code ActionManager}.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public class ActionInvoker {
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final GriffonController controller;
+    private final String actionName;
+    private final Class<?>[] parameterTypes;
+    private final MethodHandle handle;
+
+    protected ActionInvoker(@Nonnull GriffonController controller, @Nonnull Method method, @Nonnull MethodHandle handle) {
+        this.controller = requireNonNull(controller, "Argument 'controller' must not be null");
+        this.actionName = requireNonNull(method, "Argument 'method' must not be null").getName();
+        this.parameterTypes = method.getParameterTypes();
+        this.handle = requireNonNull(handle, "Argument 'handle' must not be null")
+            .bindTo(controller)
+            .asSpreader(Object[].class, parameterTypes.length)
+            .asType(INVOKER_TYPE);
+    }
+
+    /**
+     * Creates an invoker for the given action method.
+     *
+     * @param controller the controller that owns the action.
+     * @param method     the action method.
+     *
+     * @return a new invoker, or {@code null} if the method is overloaded or can not be accessed.
+     */
+    @Nullable
+    public static ActionInvoker of(@Nonnull GriffonController controller, @Nonnull Method method) {
+        requireNonNull(controller, "Argument 'controller' must not be null");
+        requireNonNull(method, "Argument 'method' must not be null");
+
+        // overloaded actions are resolved by matching the arguments of each invocation
+        for (Method candidate : controller.getTypeClass().getMethods()) {
+            if (candidate.getName().equals(method.getName()) && isPublic(candidate.getModifiers()) && !candidate.equals(method)) {
+                return null;
+            }
+        }
+
+        MethodHandle handle = unreflect(method);
+        return handle != null ? new ActionInvoker(controller, method, handle) : null;
+    }
+
+    @Nullable
+    private static MethodHandle unreflect(@Nonnull Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            // the declaring class may not be public
+            try {
+                method.setAccessible(true);
+                return MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException | RuntimeException ignored) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Adapts the given arguments to the parameters of the action method.
+     *
+     * @param args the arguments of the invocation.
+     *
+     * @return the arguments to be used with {@code invoke()} or {@code null} if this invoker can not handle them.
+     */
+    @Nullable
+    public Object[] resolveArguments(@Nonnull Object[] args) {
+        if (args.length == parameterTypes.length) {
+            for (int i = 0; i < args.length; i++) {
+                Object arg = args[i];
+                if (arg == null ? parameterTypes[i].isPrimitive() : !isAssignmentCompatible(parameterTypes[i], arg.getClass())) {
+                    return null;
+                }
+            }
+            return args;
+        } else if (parameterTypes.length == 0 && args.length == 1 && args[0] instanceof EventObject) {
+            return EMPTY_ARGS;
+        }
+        return null;
+    }
+
+    /**
+     * Invokes the action method.
+     *
+     * @param args arguments previously adapted with {@code resolveArguments()}.
+     *
+     * @return the value returned by the action method, {@code null} if it returns {@code void}.
+     */
+    @Nullable
+    public Object invoke(@Nonnull Object[] args) {
+        try {
+            return handle.invokeExact(args);
+        } catch (Throwable t) {
+            throw new InstanceMethodInvocationException(controller, actionName, args, t);
+        }
+    }
+}
@@ -18,31 +18,40 @@
 package org.codehaus.griffon.runtime.core.event;
 
 import griffon.annotations.core.Nonnull;
+import griffon.annotations.core.Nullable;
 import griffon.annotations.event.EventFilter;
 import griffon.annotations.event.EventHandler;
 import griffon.annotations.event.EventMetadata;
 import griffon.core.ExceptionHandler;
 import griffon.core.ExecutorServiceManager;
+import griffon.annotations.inject.Prototype;
 import griffon.core.Instantiator;
+import griffon.core.event.CoalescingEvent;
 import griffon.core.event.EventRouter;
 import griffon.core.util.MethodUtils;
+import griffon.exceptions.InstanceMethodInvocationException;
 import griffon.util.MethodDescriptor;
+import org.codehaus.griffon.runtime.core.threading.ExecutorServiceSettings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import static griffon.core.util.GriffonClassUtils.isEventHandler;
 import static griffon.util.AnnotationUtils.findAnnotation;
@@ -59,18 +68,23 @@ public abstract class AbstractEventRouter implements EventRouter {
     private static final String ERROR_EVENT_NULL = "Argument 'event' must not be null";
     private static final String ERROR_EVENT_METADATA_NULL = "Argument 'metadata' must not be null";
     private static final String ERROR_METHOD_NULL = "Argument 'method' must not be null";
-    private static final String ERROR_RUNNABLE_NULL = "Argument 'runnable' must not be null";
+    private static final String ERROR_ENTRY_NULL = "Argument 'entry' must not be null";
     private static final String ERROR_INSTANCE_NULL = "Argument 'instance' must not be null";
+    private static final String ERROR_RUNNABLE_NULL = "Argument 'runnable' must not be null";
     private static final Logger LOG = LoggerFactory.getLogger(AbstractEventRouter.class);
     protected final Map<String, List<Object>> instanceListeners = new ConcurrentHashMap<>();
     private final MethodCache methodCache = new MethodCache();
+    private final Map<Class<?>, DispatchEntry[]> dispatchPlans = new ConcurrentHashMap<>();
+    private final Map<Class<?>, EventFilterStatistics> filterStatistics = new ConcurrentHashMap<>();
+    private final Object[] listenersLock = new Object[0];
     private boolean enabled = true;
 
     protected static final AtomicInteger EVENT_ROUTER_ID = new AtomicInteger(1);
 
     protected ExecutorServiceManager executorServiceManager;
-    protected final ExecutorService executorService;
+    protected volatile ExecutorService executorService;
     protected final int eventRouterId;
+    protected volatile AsyncEventQueue asyncEventQueue;
 
     @Inject
     protected ExceptionHandler exceptionHandler;
@@ -78,8 +92,49 @@ public abstract class AbstractEventRouter implements EventRouter {
     protected Instantiator instantiator;
 
     public AbstractEventRouter() {
+        this(new ExecutorServiceSettings());
+    }
+
+    public AbstractEventRouter(@Nonnull ExecutorServiceSettings executorServiceSettings) {
+        requireNonNull(executorServiceSettings, "Argument 'executorServiceSettings' must not be null");
         eventRouterId = EVENT_ROUTER_ID.getAndIncrement();
-        executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new DefaultThreadFactory(eventRouterId));
+        executorService = executorServiceSettings.createExecutorService("event-router-" + eventRouterId + "-thread-");
+        asyncEventQueue = createAsyncEventQueue(new EventRouterSettings());
+    }
+
+    @Inject
+    public void setEventRouterSettings(@Nonnull EventRouterSettings eventRouterSettings) {
+        requireNonNull(eventRouterSettings, "Argument 'eventRouterSettings' must not be null");
+        this.asyncEventQueue = createAsyncEventQueue(eventRouterSettings);
+    }
+
+    /**
+     * Returns the queue that holds pending asynchronous publications. Use it to monitor queue depth, dropped and
+     * coalesced publications.
+     *
+     * @return the queue used by {@code publishEventAsync}. Never returns {@code null}.
+     */
+    @Nonnull
+    public AsyncEventQueue getAsyncEventQueue() {
+        return asyncEventQueue;
+    }
+
+    @Nonnull
+    protected AsyncEventQueue createAsyncEventQueue(@Nonnull EventRouterSettings settings) {
+        // resolve the executor lazily as it is replaced once registered with the ExecutorServiceManager
+        return new AsyncEventQueue(task -> executorService.execute(task),
+            settings.getAsyncQueueCapacity(),
+            settings.getAsyncWorkers(),
+            settings.getAsyncOverflowPolicy(),
+            this::handleAsyncFailure);
+    }
+
+    private void handleAsyncFailure(@Nonnull Thread thread, @Nonnull Throwable throwable) {
+        if (exceptionHandler != null) {
+            exceptionHandler.handleUncaught(thread, throwable);
+        } else {
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable);
+        }
     }
 
     @Inject
@@ -89,7 +144,7 @@ public abstract class AbstractEventRouter implements EventRouter {
             this.executorServiceManager.remove(executorService);
         }
         this.executorServiceManager = executorServiceManager;
-        this.executorServiceManager.add(executorService);
+        this.executorService = this.executorServiceManager.add(executorService);
     }
 
     protected void runInsideExecutorService(@Nonnull final Runnable runnable) {
@@ -125,11 +180,17 @@ public abstract class AbstractEventRouter implements EventRouter {
         }
 
         boolean added = false;
-        for (String eventType : methodCache.fetchMethodMetadata(handler.getClass()).keySet()) {
-            List<Object> instances = instanceListeners.computeIfAbsent(eventType, (k) -> new ArrayList<>());
-            if (!instances.contains(handler)) {
-                added = true;
-                instances.add(handler);
+        synchronized (listenersLock) {
+            Collection<String> eventTypes = methodCache.fetchMethodMetadata(handler.getClass()).keySet();
+            for (String eventType : eventTypes) {
+                List<Object> instances = instanceListeners.computeIfAbsent(eventType, (k) -> new ArrayList<>());
+                if (!instances.contains(handler)) {
+                    added = true;
+                    instances.add(handler);
+                }
+            }
+            if (added) {
+                invalidateDispatchPlans(eventTypes);
             }
         }
 
@@ -150,15 +211,21 @@ public abstract class AbstractEventRouter implements EventRouter {
         }
 
         boolean removed = false;
-        for (String eventType : methodCache.fetchMethodMetadata(handler.getClass()).keySet()) {
-            List<Object> instances = instanceListeners.get(eventType);
-            if (instances != null && instances.contains(handler)) {
-                instances.remove(handler);
-                removed = true;
-                if (instances.isEmpty()) {
-                    instanceListeners.remove(eventType);
+        synchronized (listenersLock) {
+            Collection<String> eventTypes = methodCache.fetchMethodMetadata(handler.getClass()).keySet();
+            for (String eventType : eventTypes) {
+                List<Object> instances = instanceListeners.get(eventType);
+                if (instances != null && instances.contains(handler)) {
+                    instances.remove(handler);
+                    removed = true;
+                    if (instances.isEmpty()) {
+                        instanceListeners.remove(eventType);
+                    }
                 }
             }
+            if (removed) {
+                invalidateDispatchPlans(eventTypes);
+            }
         }
 
         if (removed) {
@@ -174,7 +241,7 @@ public abstract class AbstractEventRouter implements EventRouter {
     public <E> void publishEvent(E event) {
         if (!isEventPublishingEnabled()) { return; }
         requireNonNull(event, ERROR_EVENT_NULL);
-        buildPublisher(event, "synchronously").run();
+        dispatch(event, "synchronously");
     }
 
     @Override
@@ -182,7 +249,11 @@ public abstract class AbstractEventRouter implements EventRouter {
         if (!isEventPublishingEnabled()) { return; }
         requireNonNull(event, ERROR_EVENT_NULL);
         Runnable publisher = buildPublisher(event, "asynchronously");
-        doPublishAsync(publisher);
+        if (event instanceof CoalescingEvent) {
+            doPublishAsync(new CoalescingKey(event.getClass(), ((CoalescingEvent) event).getCoalescingKey()), publisher);
+        } else {
+            doPublishAsync(publisher);
+        }
     }
 
     @Override
@@ -197,30 +268,74 @@ public abstract class AbstractEventRouter implements EventRouter {
 
     protected abstract void doPublishAsync(@Nonnull Runnable publisher);
 
-    protected <E> void fireEvent(@Nonnull E event, @Nonnull EventPair pair) {
+    protected void doPublishAsync(@Nonnull Object coalescingKey, @Nonnull Runnable publisher) {
+        asyncEventQueue.submit(coalescingKey, publisher);
+    }
+
+    protected <E> void fireEvent(@Nonnull E event, @Nonnull DispatchEntry entry) {
         requireNonNull(event, ERROR_EVENT_NULL);
-        requireNonNull(pair, "Argument 'pair' must not be null\"");
+        requireNonNull(entry, ERROR_ENTRY_NULL);
 
-        MethodUtils.setMethodAccessible(pair.method);
-        MethodUtils.invokeUnwrapping(pair.method, pair.instance, new Object[]{event});
+        entry.invoke(event);
     }
 
+    /**
+     * @deprecated no longer invoked by {@link #dispatch(Object, String)}, thus it can't be overridden.
+     * Override {@link #fireEvent(Object, DispatchEntry)} instead.
+     */
+    @Deprecated
+    protected final <E> void fireEvent(@Nonnull E event, @Nonnull EventPair pair) {
+        requireNonNull(event, ERROR_EVENT_NULL);
+        requireNonNull(pair, "Argument 'pair' must not be null");
+
+        fireEvent(event, new DispatchEntry(pair.instance, methodCache.findMethodInfo(pair.method)));
+    }
+
+    /**
+     * @deprecated no longer invoked by {@link #dispatch(Object, String)}, thus it can't be overridden.
+     * Handlers are resolved once per event type, see {@link #resolveDispatchPlan(Class)}.
+     */
     @Nonnull
-    protected <E> Collection<Method> findEventHandlers(@Nonnull Object instance, @Nonnull E event) {
+    @Deprecated
+    protected final <E> Collection<Method> findEventHandlers(@Nonnull Object instance, @Nonnull E event) {
         requireNonNull(instance, ERROR_INSTANCE_NULL);
         requireNonNull(event, ERROR_EVENT_NULL);
 
-        return methodCache.findMatchingMethodsFor(instance.getClass(), event.getClass());
+        List<Method> methods = new ArrayList<>();
+        for (MethodInfo info : methodCache.findMatchingMethodInfosFor(instance.getClass(), event.getClass())) {
+            methods.add(info.method);
+        }
+        return methods;
     }
 
-    @Nonnull
-    protected <E> boolean applyFilters(@Nonnull Method method, @Nonnull EventMetadata<E> metadata) {
+    protected <E> boolean applyFilters(@Nonnull DispatchEntry entry, @Nonnull EventMetadata<E> metadata) {
+        requireNonNull(entry, ERROR_ENTRY_NULL);
+        requireNonNull(metadata, ERROR_EVENT_METADATA_NULL);
+
+        return applyFilters(entry.info, metadata);
+    }
+
+    /**
+     * @deprecated no longer invoked by {@link #dispatch(Object, String)}, thus it can't be overridden.
+     * Override {@link #applyFilters(DispatchEntry, EventMetadata)} instead.
+     */
+    @Deprecated
+    protected final <E> boolean applyFilters(@Nonnull Method method, @Nonnull EventMetadata<E> metadata) {
+        requireNonNull(method, ERROR_METHOD_NULL);
         requireNonNull(metadata, ERROR_EVENT_METADATA_NULL);
 
-        EventHandler annotation = findAnnotation(method, EventHandler.class);
-        for (Class<? extends EventFilter> filterClass : annotation.filters()) {
-            EventFilter<E> filter = instantiator.instantiate(filterClass);
+        return applyFilters(methodCache.findMethodInfo(method), metadata);
+    }
+
+    private <E> boolean applyFilters(@Nonnull MethodInfo info, @Nonnull EventMetadata<E> metadata) {
+        for (ResolvedEventFilter resolved : resolveFilters(info)) {
+            EventFilter<?> candidate = resolved.filter != null ? resolved.filter : instantiator.instantiate(resolved.filterClass);
+            // filters are declared on handlers whose parameter matches the event type
+            @SuppressWarnings("unchecked")
+            EventFilter<E> filter = (EventFilter<E>) candidate;
+            resolved.statistics.evaluations.increment();
             if (!filter.apply(metadata)) {
+                resolved.statistics.rejections.increment();
                 return false;
             }
         }
@@ -228,6 +343,33 @@ public abstract class AbstractEventRouter implements EventRouter {
         return true;
     }
 
+    /**
+     * Returns evaluation and rejection counters for every filter class that has been applied by this router.
+     *
+     * @return an immutable snapshot of all filter counters. Never returns {@code null}.
+     */
+    @Nonnull
+    public Collection<EventFilterStatistics> getEventFilterStatistics() {
+        return Collections.unmodifiableCollection(new ArrayList<>(filterStatistics.values()));
+    }
+
+    @Nonnull
+    private ResolvedEventFilter[] resolveFilters(@Nonnull MethodInfo info) {
+        ResolvedEventFilter[] resolved = info.resolvedFilters;
+        if (resolved == null) {
+            // filters are shared by all invocations of a handler method unless they request prototype scope
+            resolved = new ResolvedEventFilter[info.filters.length];
+            for (int i = 0; i < resolved.length; i++) {
+                Class<? extends EventFilter<?>> filterClass = info.filters[i];
+                EventFilter<?> filter = filterClass.isAnnotationPresent(Prototype.class) ? null : instantiator.instantiate(filterClass);
+                EventFilterStatistics statistics = filterStatistics.computeIfAbsent(filterClass, EventFilterStatistics::new);
+                resolved[i] = new ResolvedEventFilter(filterClass, filter, statistics);
+            }
+            info.resolvedFilters = resolved;
+        }
+        return resolved;
+    }
+
     @Nonnull
     protected <E> EventMetadata<E> createEventMetadata(@Nonnull E event) {
         requireNonNull(event, ERROR_EVENT_NULL);
@@ -237,29 +379,77 @@ public abstract class AbstractEventRouter implements EventRouter {
     protected <E> Runnable buildPublisher(@Nonnull final E event, @Nonnull final String mode) {
         requireNonNull(event, ERROR_EVENT_NULL);
         requireNonBlank(mode, ERROR_MODE_BLANK);
-        return () -> {
-            String eventType = event.getClass().getName();
+        return () -> dispatch(event, mode);
+    }
+
+    protected <E> void dispatch(@Nonnull E event, @Nonnull String mode) {
+        if (LOG.isDebugEnabled()) {
             LOG.debug("Triggering event '{}' {}", event.getClass().getSimpleName(), mode);
-            // defensive copying to avoid CME during event dispatching
-            List<Object> listenersCopy = new ArrayList<>();
-            List<Object> instances = instanceListeners.get(eventType);
-            if (instances != null) {
-                listenersCopy.addAll(instances);
+        }
+
+        // plans are immutable snapshots, subscribe/unsubscribe during dispatch affect the next event only
+        DispatchEntry[] plan = resolveDispatchPlan(event.getClass());
+        EventMetadata<E> metadata = null;
+        for (DispatchEntry entry : plan) {
+            if (entry.info.filters.length > 0) {
+                if (metadata == null) {
+                    metadata = createEventMetadata(event);
+                }
+                if (!applyFilters(entry, metadata)) {
+                    continue;
+                }
             }
+            fireEvent(event, entry);
+        }
+    }
 
-            EventMetadata<E> metadata = createEventMetadata(event);
-            for (Object instance : listenersCopy) {
-                findEventHandlers(instance, event).stream()
-                    .filter(m -> applyFilters(m, metadata))
-                    .map(m -> new EventPair(instance, m))
-                    .sorted(Comparator.comparingInt(pair -> findAnnotation(pair.method, EventHandler.class).priority()))
-                    .forEach(pair -> fireEvent(event, pair));
+    @Nonnull
+    protected DispatchEntry[] resolveDispatchPlan(@Nonnull Class<?> eventClass) {
+        DispatchEntry[] plan = dispatchPlans.get(eventClass);
+        if (plan != null) {
+            return plan;
+        }
+
+        synchronized (listenersLock) {
+            plan = dispatchPlans.get(eventClass);
+            if (plan == null) {
+                plan = buildDispatchPlan(eventClass);
+                dispatchPlans.put(eventClass, plan);
             }
-        };
+            return plan;
+        }
+    }
+
+    @Nonnull
+    private DispatchEntry[] buildDispatchPlan(@Nonnull Class<?> eventClass) {
+        List<Object> instances = instanceListeners.get(eventClass.getName());
+        if (instances == null || instances.isEmpty()) {
+            return DispatchEntry.EMPTY;
+        }
+
+        List<DispatchEntry> entries = new ArrayList<>();
+        List<DispatchEntry> instanceEntries = new ArrayList<>();
+        for (Object instance : instances) {
+            for (MethodInfo info : methodCache.findMatchingMethodInfosFor(instance.getClass(), eventClass)) {
+                instanceEntries.add(new DispatchEntry(instance, info));
+            }
+            instanceEntries.sort(Comparator.comparingInt(entry -> entry.info.priority));
+            entries.addAll(instanceEntries);
+            instanceEntries.clear();
+        }
+
+        LOG.trace("Computed dispatch plan for {} with {} entries", eventClass.getName(), entries.size());
+        return entries.toArray(new DispatchEntry[0]);
+    }
+
+    private void invalidateDispatchPlans(@Nonnull Collection<String> eventTypes) {
+        dispatchPlans.keySet().removeIf(eventClass -> eventTypes.contains(eventClass.getName()));
     }
 
     protected static class MethodCache {
         private final Map<Class<?>, Map<String, List<MethodInfo>>> methodMap = new ConcurrentHashMap<>();
+        // handler methods are shared by every class that inherits them
+        private final Map<Method, MethodInfo> methodInfos = new ConcurrentHashMap<>();
 
         public boolean isEventListener(@Nonnull Class<?> klass) {
             Map<String, List<MethodInfo>> methodMetadata = methodMap.get(klass);
@@ -274,17 +464,30 @@ public abstract class AbstractEventRouter implements EventRouter {
             return methodMetadata != null;
         }
 
+        /**
+         * @deprecated use {@link #findMatchingMethodInfosFor(Class, Class)} instead.
+         */
         @Nonnull
+        @Deprecated
         public Collection<Method> findMatchingMethodsFor(@Nonnull Class<?> klass, @Nonnull Class<?> eventType) {
+            List<Method> matches = new ArrayList<>();
+            for (MethodInfo info : findMatchingMethodInfosFor(klass, eventType)) {
+                matches.add(info.method);
+            }
+            return matches;
+        }
+
+        @Nonnull
+        public Collection<MethodInfo> findMatchingMethodInfosFor(@Nonnull Class<?> klass, @Nonnull Class<?> eventType) {
             Map<String, List<MethodInfo>> methodMetadata = methodMap.get(klass);
 
-            List<Method> matches = new ArrayList<>();
+            List<MethodInfo> matches = new ArrayList<>();
 
             Class[] otherParamTypes = {eventType};
             for (List<MethodInfo> descriptors : methodMetadata.values()) {
                 for (MethodInfo info : descriptors) {
                     if (info.descriptor.matches(otherParamTypes)) {
-                        matches.add(info.method);
+                        matches.add(info);
                     }
                 }
             }
@@ -292,6 +495,11 @@ public abstract class AbstractEventRouter implements EventRouter {
             return matches;
         }
 
+        @Nonnull
+        private MethodInfo findMethodInfo(@Nonnull Method method) {
+            return methodInfos.computeIfAbsent(method, m -> new MethodInfo(MethodDescriptor.forMethod(m), m));
+        }
+
         private Map<String, List<MethodInfo>> fetchMethodMetadata(Class<?> klass) {
             Map<String, List<MethodInfo>> methodMetadata = new LinkedHashMap<>();
 
@@ -300,7 +508,7 @@ public abstract class AbstractEventRouter implements EventRouter {
                 if (isEventHandler(descriptor)) {
                     String eventType = method.getParameterTypes()[0].getName();
                     List<MethodInfo> descriptors = methodMetadata.computeIfAbsent(eventType, k -> new ArrayList<>());
-                    descriptors.add(new MethodInfo(descriptor, method));
+                    descriptors.add(methodInfos.computeIfAbsent(method, m -> new MethodInfo(descriptor, m)));
                 }
             }
 
@@ -309,12 +517,32 @@ public abstract class AbstractEventRouter implements EventRouter {
     }
 
     protected static class MethodInfo {
+        private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
         private final MethodDescriptor descriptor;
         private final Method method;
+        private final MethodHandle invoker;
+        private final Class<? extends EventFilter<?>>[] filters;
+        private final int priority;
+        private volatile ResolvedEventFilter[] resolvedFilters;
 
         public MethodInfo(MethodDescriptor descriptor, Method method) {
             this.descriptor = descriptor;
             this.method = method;
+            EventHandler annotation = findAnnotation(method, EventHandler.class);
+            this.filters = annotation.filters();
+            this.priority = annotation.priority();
+            this.invoker = resolveInvoker(method);
+        }
+
+        private static MethodHandle resolveInvoker(Method method) {
+            try {
+                MethodUtils.setMethodAccessible(method);
+                return MethodHandles.lookup().unreflect(method).asType(INVOKER_TYPE);
+            } catch (IllegalAccessException | RuntimeException e) {
+                LOG.trace("Could not resolve a MethodHandle for {}. Falling back to reflection", method, e);
+                return null;
+            }
         }
 
         public MethodDescriptor getDescriptor() {
@@ -326,26 +554,49 @@ public abstract class AbstractEventRouter implements EventRouter {
         }
     }
 
-    private static class DefaultThreadFactory implements ThreadFactory {
-        private final ThreadGroup group;
-        private final AtomicInteger threadNumber = new AtomicInteger(1);
-        private final String namePrefix;
+    protected static final class DispatchEntry {
+        private static final DispatchEntry[] EMPTY = new DispatchEntry[0];
+
+        private final Object instance;
+        private final MethodInfo info;
 
-        private DefaultThreadFactory(int eventRouterId) {
-            SecurityManager s = System.getSecurityManager();
-            group = (s != null) ? s.getThreadGroup() :
-                Thread.currentThread().getThreadGroup();
-            namePrefix = "event-router-" + eventRouterId + "-thread-";
+        private DispatchEntry(@Nonnull Object instance, @Nonnull MethodInfo info) {
+            this.instance = instance;
+            this.info = info;
         }
 
-        public Thread newThread(Runnable r) {
-            Thread t = new Thread(group, r, namePrefix + threadNumber.getAndIncrement(), 0);
-            if (t.isDaemon()) { t.setDaemon(false); }
-            if (t.getPriority() != Thread.NORM_PRIORITY) { t.setPriority(Thread.NORM_PRIORITY); }
-            return t;
+        @Nonnull
+        public Object getInstance() {
+            return instance;
+        }
+
+        @Nonnull
+        public Method getMethod() {
+            return info.method;
+        }
+
+        public int getPriority() {
+            return info.priority;
+        }
+
+        private void invoke(@Nonnull Object event) {
+            if (info.invoker == null) {
+                MethodUtils.invokeUnwrapping(info.method, instance, new Object[]{event});
+                return;
+            }
+
+            try {
+                info.invoker.invokeExact(instance, event);
+            } catch (Throwable t) {
+                throw new InstanceMethodInvocationException(instance, info.method, t);
+            }
         }
     }
 
+    /**
+     * @deprecated replaced by {@link DispatchEntry}.
+     */
+    @Deprecated
     protected static class EventPair {
         private final Object instance;
         private final Method method;
@@ -355,4 +606,72 @@ public abstract class AbstractEventRouter implements EventRouter {
             this.method = method;
         }
     }
+
+    private static final class CoalescingKey {
+        private final Class<?> eventClass;
+        private final Object key;
+
+        private CoalescingKey(@Nonnull Class<?> eventClass, @Nullable Object key) {
+            this.eventClass = eventClass;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) { return true; }
+            if (o == null || getClass() != o.getClass()) { return false; }
+            CoalescingKey that = (CoalescingKey) o;
+            return eventClass == that.eventClass && Objects.equals(key, that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * eventClass.hashCode() + Objects.hashCode(key);
+        }
+
+        @Override
+        public String toString() {
+            return eventClass.getName() + "[" + key + "]";
+        }
+    }
+
+    private static final class ResolvedEventFilter {
+        private final Class<? extends EventFilter<?>> filterClass;
+        private final EventFilter<?> filter;
+        private final EventFilterStatistics statistics;
+
+        private ResolvedEventFilter(@Nonnull Class<? extends EventFilter<?>> filterClass, @Nullable EventFilter<?> filter, @Nonnull EventFilterStatistics statistics) {
+            this.filterClass = filterClass;
+            this.filter = filter;
+            this.statistics = statistics;
+        }
+    }
+
+    public static final class EventFilterStatistics {
+        private final Class<?> filterClass;
+        private final LongAdder evaluations = new LongAdder();
+        private final LongAdder rejections = new LongAdder();
+
+        private EventFilterStatistics(@Nonnull Class<?> filterClass) {
+            this.filterClass = filterClass;
+        }
+
+        @Nonnull
+        public Class<?> getFilterClass() {
+            return filterClass;
+        }
+
+        public long getEvaluations() {
+            return evaluations.sum();
+        }
+
+        public long getRejections() {
+            return rejections.sum();
+        }
+
+        @Override
+        public String toString() {
+            return filterClass.getName() + "[evaluations=" + getEvaluations() + ", rejections=" + getRejections() + "]";
+        }
+    }
 }
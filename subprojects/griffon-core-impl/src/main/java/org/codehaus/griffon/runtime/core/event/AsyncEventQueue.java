@@ -0,0 +1,311 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.event;
+
+import griffon.annotations.core.Nonnull;
+import griffon.annotations.core.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Queue of pending asynchronous event publications.<p>
+ * Pending publications are drained by at most {@code workers} tasks running on the supplied {@code Executor}. When the
+ * queue is bounded the {@code OverflowPolicy} decides what happens with new publications once the queue is full.
+ * Publications submitted with a coalescing key replace any pending publication with the same key, thus only the
+ * latest one is dispatched. Failures of dispatched publications are reported to the queue's
+ * {@code UncaughtExceptionHandler}.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public class AsyncEventQueue {
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncEventQueue.class);
+    private static final String ERROR_PUBLISHER_NULL = "Argument 'publisher' must not be null";
+    private static final String ERROR_KEY_NULL = "Argument 'key' must not be null";
+
+    public enum OverflowPolicy {
+        /**
+         * Blocks the publishing thread until there is room in the queue. Publications made by a drain task of the
+         * same queue are dispatched in the publishing thread instead, as that thread would otherwise wait on itself.
+         */
+        BLOCK,
+        /**
+         * Discards the oldest pending publication to make room for the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * Dispatches the new publication in the publishing thread.
+         */
+        CALLER_RUNS
+    }
+
+    // the queue drained by the current thread, if any
+    private static final ThreadLocal<AsyncEventQueue> DRAINING = new ThreadLocal<>();
+
+    private final Executor executor;
+    private final Thread.UncaughtExceptionHandler exceptionHandler;
+    private final BlockingDeque<Runnable> queue;
+    private final int capacity;
+    private final int workers;
+    private final OverflowPolicy overflowPolicy;
+    private final Map<Object, Runnable> coalescedPublishers = new ConcurrentHashMap<>();
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final Runnable drainer = this::drain;
+    private final Object[] coalescingLock = new Object[0];
+
+    /**
+     * Creates a new queue.
+     *
+     * @param executor       the executor that runs the drain tasks. Must not be {@code null}.
+     * @param capacity       maximum number of pending publications. Values lower or equal to zero define an unbounded queue.
+     * @param workers        maximum number of concurrent drain tasks. Must be greater than zero.
+     * @param overflowPolicy what to do when the queue is full. Must not be {@code null}.
+     */
+    public AsyncEventQueue(@Nonnull Executor executor, int capacity, int workers, @Nonnull OverflowPolicy overflowPolicy) {
+        this(executor, capacity, workers, overflowPolicy, (thread, throwable) -> thread.getUncaughtExceptionHandler().uncaughtException(thread, throwable));
+    }
+
+    /**
+     * Creates a new queue.
+     *
+     * @param executor         the executor that runs the drain tasks. Must not be {@code null}.
+     * @param capacity         maximum number of pending publications. Values lower or equal to zero define an unbounded queue.
+     * @param workers          maximum number of concurrent drain tasks. Must be greater than zero.
+     * @param overflowPolicy   what to do when the queue is full. Must not be {@code null}.
+     * @param exceptionHandler receives failures of publications dispatched by drain tasks. Must not be {@code null}.
+     */
+    public AsyncEventQueue(@Nonnull Executor executor, int capacity, int workers, @Nonnull OverflowPolicy overflowPolicy, @Nonnull Thread.UncaughtExceptionHandler exceptionHandler) {
+        this.executor = requireNonNull(executor, "Argument 'executor' must not be null");
+        this.exceptionHandler = requireNonNull(exceptionHandler, "Argument 'exceptionHandler' must not be null");
+        this.overflowPolicy = requireNonNull(overflowPolicy, "Argument 'overflowPolicy' must not be null");
+        if (workers < 1) {
+            throw new IllegalArgumentException("Argument 'workers' must be greater than zero");
+        }
+        this.workers = workers;
+        this.capacity = capacity > 0 ? capacity : Integer.MAX_VALUE;
+        this.queue = new LinkedBlockingDeque<>(this.capacity);
+    }
+
+    /**
+     * Enqueues a publication.
+     *
+     * @param publisher the publication to be dispatched. Must not be {@code null}.
+     */
+    public void submit(@Nonnull Runnable publisher) {
+        requireNonNull(publisher, ERROR_PUBLISHER_NULL);
+        submitted.increment();
+        enqueue(publisher);
+    }
+
+    /**
+     * Enqueues a publication that replaces any pending publication registered with the same key.
+     *
+     * @param key       the coalescing key. Must not be {@code null}.
+     * @param publisher the publication to be dispatched. Must not be {@code null}.
+     */
+    public void submit(@Nonnull Object key, @Nonnull Runnable publisher) {
+        requireNonNull(key, ERROR_KEY_NULL);
+        requireNonNull(publisher, ERROR_PUBLISHER_NULL);
+        submitted.increment();
+        // the slot for this key cannot be discarded while we check it, see discard()
+        synchronized (coalescingLock) {
+            if (coalescedPublishers.put(key, publisher) != null) {
+                // a slot for this key is still pending, it will pick up the latest publisher
+                coalesced.increment();
+                return;
+            }
+        }
+        enqueue(new CoalescingSlot(key));
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    @Nonnull
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * @return the number of publications waiting to be dispatched.
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * @return the number of publications submitted so far, including coalesced and dropped ones.
+     */
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    /**
+     * @return the number of pending publications discarded by {@code OverflowPolicy.DROP_OLDEST}.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return the number of publications merged into a pending publication with the same key.
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * @return the number of publications dispatched by the publishing thread due to {@code OverflowPolicy.CALLER_RUNS}.
+     */
+    public long getCallerRunsCount() {
+        return callerRuns.sum();
+    }
+
+    private void enqueue(@Nonnull Runnable task) {
+        if (!queue.offerLast(task)) {
+            switch (overflowPolicy) {
+                case CALLER_RUNS:
+                    callerRuns.increment();
+                    task.run();
+                    return;
+                case DROP_OLDEST:
+                    while (!queue.offerLast(task)) {
+                        synchronized (coalescingLock) {
+                            discard(queue.pollFirst());
+                        }
+                    }
+                    break;
+                case BLOCK:
+                default:
+                    if (DRAINING.get() == this) {
+                        // this thread is the one that would free up room in the queue
+                        callerRuns.increment();
+                        task.run();
+                        return;
+                    }
+                    try {
+                        queue.putLast(task);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        synchronized (coalescingLock) {
+                            discard(task);
+                        }
+                        return;
+                    }
+            }
+        }
+        if (tryAcquireWorker()) {
+            try {
+                executor.execute(drainer);
+            } catch (RejectedExecutionException e) {
+                activeWorkers.decrementAndGet();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Must be called while holding {@code coalescingLock}, otherwise a publication may coalesce into a slot
+     * that has already left the queue and be lost.
+     */
+    private void discard(@Nullable Runnable task) {
+        if (task == null) {
+            return;
+        }
+        dropped.increment();
+        if (task instanceof CoalescingSlot) {
+            coalescedPublishers.remove(((CoalescingSlot) task).key);
+        }
+        LOG.trace("Discarded pending event publication {}", task);
+    }
+
+    private boolean tryAcquireWorker() {
+        for (int active = activeWorkers.get(); active < workers; active = activeWorkers.get()) {
+            if (activeWorkers.compareAndSet(active, active + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void drain() {
+        AsyncEventQueue previous = DRAINING.get();
+        DRAINING.set(this);
+        try {
+            do {
+                Runnable task;
+                while ((task = queue.pollFirst()) != null) {
+                    try {
+                        task.run();
+                    } catch (Throwable throwable) {
+                        exceptionHandler.uncaughtException(Thread.currentThread(), throwable);
+                    }
+                }
+                activeWorkers.decrementAndGet();
+                // guard against a publication enqueued after the last poll but before the decrement
+            } while (!queue.isEmpty() && tryAcquireWorker());
+        } finally {
+            if (previous == null) {
+                DRAINING.remove();
+            } else {
+                DRAINING.set(previous);
+            }
+        }
+    }
+
+    private final class CoalescingSlot implements Runnable {
+        private final Object key;
+
+        private CoalescingSlot(@Nonnull Object key) {
+            this.key = key;
+        }
+
+        @Override
+        public void run() {
+            Runnable publisher = coalescedPublishers.remove(key);
+            if (publisher != null) {
+                publisher.run();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "CoalescingSlot[" + key + "]";
+        }
+    }
+}
@@ -19,6 +19,7 @@ package org.codehaus.griffon.runtime.core.event;
 
 import griffon.annotations.core.Nonnull;
 import griffon.core.threading.UIThreadManager;
+import org.codehaus.griffon.runtime.core.threading.ExecutorServiceSettings;
 
 import javax.inject.Inject;
 
@@ -31,6 +32,15 @@ public class DefaultEventRouter extends AbstractEventRouter {
     private static final String ERROR_PUBLISHER_NULL = "Argument 'publisher' must not be null";
     private UIThreadManager uiThreadManager;
 
+    public DefaultEventRouter() {
+        super();
+    }
+
+    @Inject
+    public DefaultEventRouter(@Nonnull ExecutorServiceSettings executorServiceSettings) {
+        super(executorServiceSettings);
+    }
+
     @Inject
     public void setUIThreadManager(@Nonnull UIThreadManager uiThreadManager) {
         this.uiThreadManager = requireNonNull(uiThreadManager, "Argument 'uiThreadManager' must not be null");
@@ -46,6 +56,7 @@ public class DefaultEventRouter extends AbstractEventRouter {
     }
 
     protected void doPublishAsync(@Nonnull Runnable publisher) {
-        executorService.submit(publisher);
+        requireNonNull(publisher, ERROR_PUBLISHER_NULL);
+        asyncEventQueue.submit(publisher);
     }
 }
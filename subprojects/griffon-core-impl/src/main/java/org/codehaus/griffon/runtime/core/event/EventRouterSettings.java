@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.event;
+
+import griffon.annotations.core.Nonnull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Tuning options for asynchronous event publication.
+ *
+ * @author Andres Almiray
+ * @see EventRouterSettingsProvider
+ * @since 3.0.0
+ */
+public class EventRouterSettings {
+    private final int asyncQueueCapacity;
+    private final int asyncWorkers;
+    private final AsyncEventQueue.OverflowPolicy asyncOverflowPolicy;
+
+    /**
+     * Creates settings with an unbounded queue drained by one worker per available processor.
+     */
+    public EventRouterSettings() {
+        this(0, Runtime.getRuntime().availableProcessors(), AsyncEventQueue.OverflowPolicy.BLOCK);
+    }
+
+    public EventRouterSettings(int asyncQueueCapacity, int asyncWorkers, @Nonnull AsyncEventQueue.OverflowPolicy asyncOverflowPolicy) {
+        this.asyncQueueCapacity = asyncQueueCapacity;
+        this.asyncWorkers = asyncWorkers;
+        this.asyncOverflowPolicy = requireNonNull(asyncOverflowPolicy, "Argument 'asyncOverflowPolicy' must not be null");
+    }
+
+    public int getAsyncQueueCapacity() {
+        return asyncQueueCapacity;
+    }
+
+    public int getAsyncWorkers() {
+        return asyncWorkers;
+    }
+
+    @Nonnull
+    public AsyncEventQueue.OverflowPolicy getAsyncOverflowPolicy() {
+        return asyncOverflowPolicy;
+    }
+
+    @Override
+    public String toString() {
+        return "EventRouterSettings[" +
+            "asyncQueueCapacity=" + asyncQueueCapacity +
+            ", asyncWorkers=" + asyncWorkers +
+            ", asyncOverflowPolicy=" + asyncOverflowPolicy +
+            ']';
+    }
+}
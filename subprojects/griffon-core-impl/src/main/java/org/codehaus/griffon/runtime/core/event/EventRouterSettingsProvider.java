@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.event;
+
+import griffon.core.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import java.util.Locale;
+
+/**
+ * Reads {@code EventRouterSettings} from the application's configuration. The following keys are supported
+ * <ul>
+ * <li>{@code griffon.event.router.async.capacity}: maximum number of pending asynchronous publications. Defaults to {@code 0} (unbounded).</li>
+ * <li>{@code griffon.event.router.async.workers}: maximum number of threads dispatching asynchronous publications. Defaults to the number of available processors.</li>
+ * <li>{@code griffon.event.router.async.overflow}: one of {@code block}, {@code drop_oldest}, {@code caller_runs}. Defaults to {@code block}.</li>
+ * </ul>
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public class EventRouterSettingsProvider implements Provider<EventRouterSettings> {
+    public static final String KEY_ASYNC_CAPACITY = "griffon.event.router.async.capacity";
+    public static final String KEY_ASYNC_WORKERS = "griffon.event.router.async.workers";
+    public static final String KEY_ASYNC_OVERFLOW = "griffon.event.router.async.overflow";
+
+    private static final Logger LOG = LoggerFactory.getLogger(EventRouterSettingsProvider.class);
+
+    @Inject
+    private Configuration configuration;
+
+    @Override
+    public EventRouterSettings get() {
+        EventRouterSettings defaults = new EventRouterSettings();
+
+        int capacity = configuration.getAsInt(KEY_ASYNC_CAPACITY, defaults.getAsyncQueueCapacity());
+        int workers = configuration.getAsInt(KEY_ASYNC_WORKERS, defaults.getAsyncWorkers());
+        String overflow = configuration.getAsString(KEY_ASYNC_OVERFLOW, defaults.getAsyncOverflowPolicy().name());
+
+        AsyncEventQueue.OverflowPolicy overflowPolicy;
+        try {
+            overflowPolicy = AsyncEventQueue.OverflowPolicy.valueOf(overflow.trim().toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Unknown value '{}' for {}. Using {} instead", overflow, KEY_ASYNC_OVERFLOW, defaults.getAsyncOverflowPolicy());
+            overflowPolicy = defaults.getAsyncOverflowPolicy();
+        }
+
+        EventRouterSettings settings = new EventRouterSettings(capacity, Math.max(1, workers), overflowPolicy);
+        LOG.debug("Using {}", settings);
+        return settings;
+    }
+}
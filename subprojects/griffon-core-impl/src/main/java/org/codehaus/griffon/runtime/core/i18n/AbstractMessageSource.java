@@ -23,7 +23,6 @@ import griffon.core.CallableWithArgs;
 import griffon.core.i18n.MessageSource;
 import griffon.core.i18n.NoSuchMessageException;
 
-import java.text.MessageFormat;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -45,6 +44,8 @@ public abstract class AbstractMessageSource implements MessageSource {
 
     protected static final Object[] EMPTY_OBJECT_ARGS = new Object[0];
 
+    private final MessageTemplateCache messageTemplateCache = new MessageTemplateCache();
+
     @Nonnull
     @Override
     public String getMessage(@Nonnull String key) throws NoSuchMessageException {
@@ -195,7 +196,7 @@ public abstract class AbstractMessageSource implements MessageSource {
         requireNonNull(message, ERROR_MESSAGE_NULL);
         requireNonNull(args, ERROR_ARGS_NULL);
         if (args.length == 0) return message;
-        return MessageFormat.format(message, args);
+        return messageTemplateCache.format(message, Locale.getDefault(Locale.Category.FORMAT), args);
     }
 
     @Nonnull
@@ -203,14 +204,15 @@ public abstract class AbstractMessageSource implements MessageSource {
     public String formatMessage(@Nonnull String message, @Nonnull Map<String, Object> args) {
         requireNonNull(message, ERROR_MESSAGE_NULL);
         requireNonNull(args, ERROR_ARGS_NULL);
-        for (Map.Entry<String, Object> variable : args.entrySet()) {
-            String var = variable.getKey();
-            String value = variable.getValue() != null ? variable.getValue().toString() : null;
-            if (value != null) {
-                message = message.replace("{:" + var + "}", value);
-            }
-        }
-        return message;
+        return messageTemplateCache.format(message, args);
+    }
+
+    /**
+     * @return the cache of parsed message templates used by {@code formatMessage()}.
+     */
+    @Nonnull
+    public MessageTemplateCache getMessageTemplateCache() {
+        return messageTemplateCache;
     }
 
     @Nonnull
@@ -0,0 +1,314 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.i18n;
+
+import griffon.annotations.core.Nonnull;
+import griffon.annotations.core.Nullable;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Bounded cache of parsed message templates, for both positional ({@code {0}}) and named ({@code {:name}}) arguments.<p>
+ * Positional templates made of plain {@code {n}} placeholders are formatted without {@code MessageFormat} unless
+ * a {@code Number} or a {@code Date} argument requires locale sensitive formatting; in that case, and for patterns
+ * with quotes or format types, a copy of a cached {@code MessageFormat} is used, as {@code MessageFormat} is not
+ * thread safe. Templates are keyed by pattern and locale. Once the cache is full an arbitrary template is evicted
+ * for every new one.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public class MessageTemplateCache {
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private final int maximumSize;
+    private final Map<TemplateKey, Template> templates = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public MessageTemplateCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public MessageTemplateCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Argument 'maximumSize' must be greater than zero");
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Formats a pattern with positional arguments, producing the same result as {@code new MessageFormat(pattern, locale).format(args)}.
+     */
+    @Nonnull
+    public String format(@Nonnull String pattern, @Nonnull Locale locale, @Nonnull Object[] args) {
+        requireNonNull(pattern, "Argument 'pattern' must not be null");
+        requireNonNull(locale, "Argument 'locale' must not be null");
+        requireNonNull(args, "Argument 'args' must not be null");
+        return ((PositionalTemplate) template(new TemplateKey(pattern, locale))).format(args);
+    }
+
+    /**
+     * Formats a pattern with named arguments. Placeholders whose argument is missing or {@code null} are left as is.
+     */
+    @Nonnull
+    public String format(@Nonnull String pattern, @Nonnull Map<String, Object> args) {
+        requireNonNull(pattern, "Argument 'pattern' must not be null");
+        requireNonNull(args, "Argument 'args' must not be null");
+        return ((NamedTemplate) template(new TemplateKey(pattern, null))).format(args);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int getSize() {
+        return templates.size();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void clear() {
+        templates.clear();
+    }
+
+    @Nonnull
+    private Template template(@Nonnull TemplateKey key) {
+        Template template = templates.get(key);
+        if (template != null) {
+            hits.increment();
+            return template;
+        }
+
+        misses.increment();
+        template = key.locale != null ? PositionalTemplate.parse(key.pattern, key.locale) : NamedTemplate.parse(key.pattern);
+        while (templates.size() >= maximumSize) {
+            Iterator<TemplateKey> keys = templates.keySet().iterator();
+            if (!keys.hasNext()) {
+                break;
+            }
+            if (templates.remove(keys.next()) != null) {
+                evictions.increment();
+            }
+        }
+        Template previous = templates.putIfAbsent(key, template);
+        return previous != null ? previous : template;
+    }
+
+    private interface Template {
+    }
+
+    private static final class PositionalTemplate implements Template {
+        private final String pattern;
+        private final Locale locale;
+        // null when the pattern can only be handled by MessageFormat
+        private final String[] literals;
+        private final int[] indexes;
+        private volatile MessageFormat prototype;
+
+        private PositionalTemplate(@Nonnull String pattern, @Nonnull Locale locale, @Nullable String[] literals, @Nullable int[] indexes) {
+            this.pattern = pattern;
+            this.locale = locale;
+            this.literals = literals;
+            this.indexes = indexes;
+        }
+
+        @Nonnull
+        private static PositionalTemplate parse(@Nonnull String pattern, @Nonnull Locale locale) {
+            List<String> literals = new ArrayList<>();
+            List<Integer> indexes = new ArrayList<>();
+            boolean simple = pattern.indexOf('\'') < 0;
+            int start = 0;
+            while (simple) {
+                int open = pattern.indexOf('{', start);
+                if (open < 0) {
+                    break;
+                }
+                int close = pattern.indexOf('}', open);
+                String index = close < 0 ? "" : pattern.substring(open + 1, close);
+                if (!isIndex(index)) {
+                    simple = false;
+                    break;
+                }
+                literals.add(pattern.substring(start, open));
+                indexes.add(Integer.parseInt(index));
+                start = close + 1;
+            }
+
+            if (!simple) {
+                PositionalTemplate template = new PositionalTemplate(pattern, locale, null, null);
+                // fail fast on invalid patterns, as MessageFormat.format() would
+                template.prototype = new MessageFormat(pattern, locale);
+                return template;
+            }
+
+            literals.add(pattern.substring(start));
+            int[] idx = new int[indexes.size()];
+            for (int i = 0; i < idx.length; i++) {
+                idx[i] = indexes.get(i);
+            }
+            return new PositionalTemplate(pattern, locale, literals.toArray(new String[0]), idx);
+        }
+
+        private static boolean isIndex(@Nonnull String s) {
+            if (s.isEmpty() || s.length() > 9) {
+                return false;
+            }
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Nonnull
+        private String format(@Nonnull Object[] args) {
+            if (literals == null || requiresFormatting(args)) {
+                return ((MessageFormat) prototype().clone()).format(args);
+            }
+
+            StringBuilder b = new StringBuilder(pattern.length() + 16 * indexes.length);
+            for (int i = 0; i < indexes.length; i++) {
+                b.append(literals[i]);
+                int index = indexes[i];
+                if (index < args.length) {
+                    b.append(args[index]);
+                } else {
+                    b.append('{').append(index).append('}');
+                }
+            }
+            return b.append(literals[indexes.length]).toString();
+        }
+
+        private boolean requiresFormatting(@Nonnull Object[] args) {
+            for (int index : indexes) {
+                if (index < args.length && (args[index] instanceof Number || args[index] instanceof Date)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Nonnull
+        private MessageFormat prototype() {
+            MessageFormat format = prototype;
+            if (format == null) {
+                format = new MessageFormat(pattern, locale);
+                prototype = format;
+            }
+            return format;
+        }
+    }
+
+    private static final class NamedTemplate implements Template {
+        private final String[] literals;
+        private final String[] names;
+
+        private NamedTemplate(@Nonnull String[] literals, @Nonnull String[] names) {
+            this.literals = literals;
+            this.names = names;
+        }
+
+        @Nonnull
+        private static NamedTemplate parse(@Nonnull String pattern) {
+            List<String> literals = new ArrayList<>();
+            List<String> names = new ArrayList<>();
+            int start = 0;
+            int open;
+            while ((open = pattern.indexOf("{:", start)) > -1) {
+                int close = pattern.indexOf('}', open + 2);
+                if (close < 0) {
+                    break;
+                }
+                literals.add(pattern.substring(start, open));
+                names.add(pattern.substring(open + 2, close));
+                start = close + 1;
+            }
+            literals.add(pattern.substring(start));
+            return new NamedTemplate(literals.toArray(new String[0]), names.toArray(new String[0]));
+        }
+
+        @Nonnull
+        private String format(@Nonnull Map<String, Object> args) {
+            if (names.length == 0) {
+                return literals[0];
+            }
+
+            StringBuilder b = new StringBuilder();
+            for (int i = 0; i < names.length; i++) {
+                b.append(literals[i]);
+                Object value = args.get(names[i]);
+                if (value != null) {
+                    b.append(value);
+                } else {
+                    b.append("{:").append(names[i]).append('}');
+                }
+            }
+            return b.append(literals[names.length]).toString();
+        }
+    }
+
+    private static final class TemplateKey {
+        private final String pattern;
+        private final Locale locale;
+        private final int hashCode;
+
+        private TemplateKey(@Nonnull String pattern, @Nullable Locale locale) {
+            this.pattern = pattern;
+            this.locale = locale;
+            this.hashCode = 31 * pattern.hashCode() + Objects.hashCode(locale);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) { return true; }
+            if (!(o instanceof TemplateKey)) { return false; }
+            TemplateKey that = (TemplateKey) o;
+            return pattern.equals(that.pattern) && Objects.equals(locale, that.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -23,23 +23,25 @@ import griffon.annotations.inject.Contextual;
 import griffon.annotations.inject.MVCMember;
 import griffon.converter.Converter;
 import griffon.converter.ConverterRegistry;
-import griffon.converter.FormattingConverter;
 import griffon.converter.NoopConverter;
 import griffon.core.ApplicationClassLoader;
 import griffon.core.GriffonApplication;
 import griffon.core.Instantiator;
+import griffon.core.ShutdownHandler;
 import griffon.core.artifact.ArtifactManager;
 import griffon.core.artifact.GriffonArtifact;
 import griffon.core.artifact.GriffonClass;
 import griffon.core.artifact.GriffonController;
 import griffon.core.artifact.GriffonMvcArtifact;
 import griffon.core.artifact.GriffonView;
+import griffon.core.env.ApplicationPhase;
 import griffon.core.events.CreateMVCGroupEvent;
 import griffon.core.events.DestroyInstanceEvent;
 import griffon.core.events.DestroyMVCGroupEvent;
 import griffon.core.events.InitializeMVCGroupEvent;
 import griffon.core.mvc.MVCGroup;
 import griffon.core.mvc.MVCGroupConfiguration;
+import griffon.core.mvc.ResettableMVCMember;
 import griffon.exceptions.FieldException;
 import griffon.exceptions.GriffonException;
 import griffon.exceptions.GriffonViewInitializationException;
@@ -58,12 +60,16 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static griffon.core.GriffonExceptionHandler.sanitize;
 import static griffon.core.util.ConfigUtils.getConfigValueAsBoolean;
+import static griffon.core.util.ConfigUtils.getConfigValueAsInt;
 import static griffon.core.util.GriffonClassUtils.getAllDeclaredFields;
 import static griffon.core.util.GriffonClassUtils.getPropertyDescriptors;
 import static griffon.core.util.GriffonClassUtils.setFieldValue;
@@ -75,6 +81,7 @@ import static griffon.util.AnnotationUtils.namesFor;
 import static griffon.util.AnnotationUtils.parameterTypeAt;
 import static griffon.util.StringUtils.capitalize;
 import static griffon.util.StringUtils.isBlank;
+import static griffon.util.StringUtils.requireNonBlank;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -90,10 +97,21 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
     protected static final String CONFIG_KEY_EVENTS_INSTANTIATION = "events.instantiation";
     protected static final String CONFIG_KEY_EVENTS_DESTRUCTION = "events.destruction";
     protected static final String CONFIG_KEY_EVENTS_LISTENER = "events.listener";
+    protected static final String CONFIG_KEY_POOL_SIZE = "pool.size";
     protected static final String KEY_PARENT_GROUP = "parentGroup";
     private static final Logger LOG = LoggerFactory.getLogger(DefaultMVCGroupManager.class);
     protected final ApplicationClassLoader applicationClassLoader;
     protected final Instantiator instantiator;
+    private final Map<String, MVCGroupPool> pools = new ConcurrentHashMap<>();
+    private final Map<String, MVCGroupPool> pooledGroups = new ConcurrentHashMap<>();
+    // pooled groups that created child groups, their members can not be reused as children are not rebuilt
+    private final Set<String> pooledGroupsWithChildren = ConcurrentHashMap.newKeySet();
+    private final ClassValue<InjectionPoint[]> injectionPoints = new ClassValue<InjectionPoint[]>() {
+        @Override
+        protected InjectionPoint[] computeValue(Class<?> type) {
+            return createInjectionPoints(type);
+        }
+    };
 
     @Inject
     public DefaultMVCGroupManager(@Nonnull GriffonApplication application,
@@ -104,11 +122,46 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         this.instantiator = requireNonNull(instantiator, "Argument 'instantiator' must not be null");
     }
 
+    /**
+     * Returns all pools of MVC members, keyed by MVC type. Pools are created on demand for groups whose
+     * configuration defines a positive value for {@code pool.size}.
+     *
+     * @return a non-null Map.
+     */
+    @Nonnull
+    public Map<String, MVCGroupPool> getPools() {
+        return Collections.unmodifiableMap(pools);
+    }
+
+    /**
+     * Finds the pool of MVC members for the given MVC type.
+     *
+     * @param mvcType the type of the MVC group.
+     *
+     * @return the matching pool or {@code null} if the group is not pooled or no group of this type has been created yet.
+     */
+    @Nullable
+    public MVCGroupPool findPool(@Nonnull String mvcType) {
+        requireNonBlank(mvcType, ERROR_MVCTYPE_BLANK);
+        return pools.get(mvcType);
+    }
+
     protected void doInitialize(@Nonnull Map<String, MVCGroupConfiguration> configurations) {
         requireNonNull(configurations, "Argument 'configurations' must not be null");
         for (MVCGroupConfiguration configuration : configurations.values()) {
             addConfiguration(configuration);
         }
+        getApplication().addShutdownHandler(new MVCGroupPoolShutdownHandler());
+    }
+
+    @Override
+    public void removeConfiguration(@Nonnull String name) {
+        requireNonBlank(name, "Argument 'name' must not be blank");
+        MVCGroupPool pool = pools.remove(name);
+        if (pool != null) {
+            destroyPooledMembers(pool);
+        }
+        super.removeConfiguration(name);
     }
 
     @Nonnull
@@ -122,37 +175,32 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         LOG.debug("Building MVC group '{}' with name '{}'", configuration.getMvcType(), mvcId);
         Map<String, Object> argsCopy = copyAndConfigureArguments(args, configuration, mvcId);
 
-        // figure out what the classes are
-        Map<String, ClassHolder> classMap = new LinkedHashMap<>();
-        for (Map.Entry<String, String> memberEntry : configuration.getMembers().entrySet()) {
-            String memberType = memberEntry.getKey();
-            String memberClassName = memberEntry.getValue();
-            selectClassesPerMember(memberType, memberClassName, classMap);
+        MVCGroupPool pool = resolvePool(configuration);
+        boolean poolable = pool != null && Collections.disjoint(configuration.getMembers().keySet(), argsCopy.keySet());
+        MVCGroupPool.Entry pooledMembers = null;
+        if (poolable) {
+            pooledMembers = pool.acquire();
+        } else if (pool != null) {
+            // members supplied by the caller can not be recycled
+            pool.miss();
         }
 
-        boolean isEventPublishingEnabled = getApplication().getEventRouter().isEventPublishingEnabled();
-        getApplication().getEventRouter().setEventPublishingEnabled(isConfigFlagEnabled(configuration, CONFIG_KEY_EVENTS_INSTANTIATION));
         Map<String, Object> instances = new LinkedHashMap<>();
         List<Object> injectedInstances = new ArrayList<>();
-
-        try {
-            InjectionUnitOfWork.start();
-        } catch (IllegalStateException ise) {
-            throw new MVCGroupInstantiationException("Can not instantiate MVC group '" + configuration.getMvcType() + "' with id '" + mvcId + "'", configuration.getMvcType(), mvcId, ise);
+        if (pooledMembers != null) {
+            LOG.debug("Reusing pooled members for MVC group '{}' with name '{}'", configuration.getMvcType(), mvcId);
+            instances.putAll(pooledMembers.getMembers());
+            argsCopy.putAll(pooledMembers.getMembers());
+            injectedInstances.addAll(pooledMembers.getInjectedInstances());
+        } else {
+            instances.putAll(createMembers(configuration, mvcId, argsCopy, injectedInstances));
         }
 
-        try {
-            instances.putAll(instantiateMembers(classMap, argsCopy));
-        } finally {
-            getApplication().getEventRouter().setEventPublishingEnabled(isEventPublishingEnabled);
-            try {
-                injectedInstances.addAll(InjectionUnitOfWork.finish());
-            } catch (IllegalStateException ise) {
-                throw new MVCGroupInstantiationException("Can not instantiate MVC group '" + configuration.getMvcType() + "' with id '" + mvcId + "'", configuration.getMvcType(), mvcId, ise);
-            }
+        MVCGroup parentGroup = (MVCGroup) args.get(KEY_PARENT_GROUP);
+        if (parentGroup != null && pooledGroups.containsKey(parentGroup.getMvcId())) {
+            pooledGroupsWithChildren.add(parentGroup.getMvcId());
         }
-
-        MVCGroup group = newMVCGroup(configuration, mvcId, instances, (MVCGroup) args.get(KEY_PARENT_GROUP));
+        MVCGroup group = newMVCGroup(configuration, mvcId, instances, parentGroup);
         adjustMvcArguments(group, argsCopy);
 
         boolean fireEvents = isConfigFlagEnabled(configuration, CONFIG_KEY_EVENTS_LIFECYCLE);
@@ -172,8 +220,15 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         fillReferencedProperties(group, argsCopy);
 
         doAddGroup(group);
+        if (poolable) {
+            pooledGroups.put(group.getMvcId(), pool);
+        }
 
-        initializeMembers(group, argsCopy);
+        if (pooledMembers != null) {
+            reinitializeMembers(group, argsCopy);
+        } else {
+            initializeMembers(group, argsCopy);
+        }
         if (group instanceof AbstractMVCGroup) {
             ((AbstractMVCGroup) group).getInjectedInstances().addAll(injectedInstances);
         }
@@ -185,6 +240,40 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         return group;
     }
 
+    @Nonnull
+    protected Map<String, Object> createMembers(@Nonnull MVCGroupConfiguration configuration, @Nonnull String mvcId, @Nonnull Map<String, Object> args, @Nonnull List<Object> injectedInstances) {
+        // figure out what the classes are
+        Map<String, ClassHolder> classMap = new LinkedHashMap<>();
+        for (Map.Entry<String, String> memberEntry : configuration.getMembers().entrySet()) {
+            String memberType = memberEntry.getKey();
+            String memberClassName = memberEntry.getValue();
+            selectClassesPerMember(memberType, memberClassName, classMap);
+        }
+
+        boolean isEventPublishingEnabled = getApplication().getEventRouter().isEventPublishingEnabled();
+        getApplication().getEventRouter().setEventPublishingEnabled(isConfigFlagEnabled(configuration, CONFIG_KEY_EVENTS_INSTANTIATION));
+        Map<String, Object> instances = new LinkedHashMap<>();
+
+        try {
+            InjectionUnitOfWork.start();
+        } catch (IllegalStateException ise) {
+            throw new MVCGroupInstantiationException("Can not instantiate MVC group '" + configuration.getMvcType() + "' with id '" + mvcId + "'", configuration.getMvcType(), mvcId, ise);
+        }
+
+        try {
+            instances.putAll(instantiateMembers(classMap, args));
+        } finally {
+            getApplication().getEventRouter().setEventPublishingEnabled(isEventPublishingEnabled);
+            try {
+                injectedInstances.addAll(InjectionUnitOfWork.finish());
+            } catch (IllegalStateException ise) {
+                throw new MVCGroupInstantiationException("Can not instantiate MVC group '" + configuration.getMvcType() + "' with id '" + mvcId + "'", configuration.getMvcType(), mvcId, ise);
+            }
+        }
+
+        return instances;
+    }
+
     protected void adjustMvcArguments(@Nonnull MVCGroup group, @Nonnull Map<String, Object> args) {
         // must set it again because mvcId might have been initialized internally
         args.put("mvcId", group.getMvcId());
@@ -298,6 +387,34 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         }
     }
 
+    protected void reinitializeMembers(@Nonnull MVCGroup group, @Nonnull Map<String, Object> args) {
+        LOG.debug("Reinitializing each pooled MVC member of group '{}'", group.getMvcId());
+        for (Map.Entry<String, Object> memberEntry : group.getMembers().entrySet()) {
+            String memberType = memberEntry.getKey();
+            Object member = memberEntry.getValue();
+            if (member instanceof GriffonArtifact) {
+                reinitializeArtifactMember(group, memberType, (GriffonArtifact) member, args);
+            } else {
+                initializeNonArtifactMember(group, memberType, member, args);
+            }
+        }
+    }
+
+    protected void reinitializeArtifactMember(@Nonnull MVCGroup group, @Nonnull String type, @Nonnull final GriffonArtifact member, @Nonnull final Map<String, Object> args) {
+        // the UI of a pooled view has already been built
+        if (member instanceof GriffonView) {
+            getApplication().getUIThreadManager().executeInsideUISync(() -> {
+                try {
+                    ((GriffonMvcArtifact) member).mvcGroupInit(args);
+                } catch (RuntimeException e) {
+                    throw (RuntimeException) sanitize(new GriffonViewInitializationException(group.getMvcType(), group.getMvcId(), member.getClass().getName(), e));
+                }
+            });
+        } else if (member instanceof GriffonMvcArtifact) {
+            ((GriffonMvcArtifact) member).mvcGroupInit(args);
+        }
+    }
+
     protected void initializeArtifactMember(@Nonnull final MVCGroup group, @Nonnull String type, @Nonnull final GriffonArtifact member, @Nonnull final Map<String, Object> args) {
         if (member instanceof GriffonView) {
             getApplication().getUIThreadManager().executeInsideUISync(() -> {
@@ -325,47 +442,7 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
 
             Map<String, Object> argsCopy = new LinkedHashMap<>(args);
 
-            Map<String, Field> fields = new LinkedHashMap<>();
-            for (Field field : getAllDeclaredFields(resolveMemberClass(member))) {
-                fields.put(field.getName(), field);
-            }
-            Map<String, InjectionPoint> injectionPoints = new LinkedHashMap<>();
-            for (PropertyDescriptor descriptor : getPropertyDescriptors(resolveMemberClass(member))) {
-                Method method = descriptor.getWriteMethod();
-                if (method == null || isInjectable(method)) {
-                    continue;
-                }
-                Class<?> type = parameterTypeAt(method, 0);
-                boolean nullable = method.getAnnotation(Nonnull.class) == null && findAnnotation(annotationsOfMethodParameter(method, 0), Nonnull.class) == null;
-                InjectionPoint.Kind kind = resolveKind(method);
-                String format = resolveFormat(method);
-                Class<? extends Converter> converter = resolveEditor(method);
-                Field field = fields.get(descriptor.getName());
-                if (field != null && kind == InjectionPoint.Kind.OTHER) {
-                    kind = resolveKind(field);
-                    nullable = field.getAnnotation(Nonnull.class) == null;
-                    type = field.getType();
-                    format = resolveFormat(field);
-                    converter = resolveEditor(field);
-                }
-                injectionPoints.put(descriptor.getName(), new MethodInjectionPoint(converterRegistry, descriptor.getName(), nullable, kind, type, method, format, converter));
-            }
-
-            for (Field field : getAllDeclaredFields(resolveMemberClass(member))) {
-                if (Modifier.isStatic(field.getModifiers()) || isInjectable(field)) {
-                    continue;
-                }
-                if (!injectionPoints.containsKey(field.getName())) {
-                    boolean nullable = field.getAnnotation(Nonnull.class) == null;
-                    InjectionPoint.Kind kind = resolveKind(field);
-                    Class<?> type = field.getType();
-                    String format = resolveFormat(field);
-                    Class<? extends Converter> converter = resolveEditor(field);
-                    injectionPoints.put(field.getName(), new FieldInjectionPoint(converterRegistry, field.getName(), nullable, kind, type, field, format, converter));
-                }
-            }
-
-            for (InjectionPoint ip : injectionPoints.values()) {
+            for (InjectionPoint ip : resolveInjectionPoints(resolveMemberClass(member))) {
                 ip.apply(group, memberType, member, args);
                 argsCopy.remove(ip.name);
             }
@@ -385,6 +462,65 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         }
     }
 
+    /**
+     * Returns the injection points of a member class. Injection points are computed once per class and released
+     * together with the class, thus group creation does not pay for reflection on every call.
+     *
+     * @param memberClass the class of an MVC member.
+     *
+     * @return all injection points of the given class.
+     */
+    @Nonnull
+    protected InjectionPoint[] resolveInjectionPoints(@Nonnull Class<?> memberClass) {
+        return injectionPoints.get(memberClass);
+    }
+
+    @Nonnull
+    protected InjectionPoint[] createInjectionPoints(@Nonnull Class<?> memberClass) {
+        Field[] declaredFields = getAllDeclaredFields(memberClass);
+        Map<String, Field> fields = new LinkedHashMap<>();
+        for (Field field : declaredFields) {
+            fields.put(field.getName(), field);
+        }
+        Map<String, InjectionPoint> injectionPoints = new LinkedHashMap<>();
+        for (PropertyDescriptor descriptor : getPropertyDescriptors(memberClass)) {
+            Method method = descriptor.getWriteMethod();
+            if (method == null || isInjectable(method)) {
+                continue;
+            }
+            Class<?> type = parameterTypeAt(method, 0);
+            boolean nullable = method.getAnnotation(Nonnull.class) == null && findAnnotation(annotationsOfMethodParameter(method, 0), Nonnull.class) == null;
+            InjectionPoint.Kind kind = resolveKind(method);
+            String format = resolveFormat(method);
+            Class<? extends Converter> converter = resolveEditor(method);
+            Field field = fields.get(descriptor.getName());
+            if (field != null && kind == InjectionPoint.Kind.OTHER) {
+                kind = resolveKind(field);
+                nullable = field.getAnnotation(Nonnull.class) == null;
+                type = field.getType();
+                format = resolveFormat(field);
+                converter = resolveEditor(field);
+            }
+            injectionPoints.put(descriptor.getName(), new MethodInjectionPoint(converterRegistry, descriptor.getName(), nullable, kind, type, method, format, converter));
+        }
+
+        for (Field field : declaredFields) {
+            if (Modifier.isStatic(field.getModifiers()) || isInjectable(field)) {
+                continue;
+            }
+            if (!injectionPoints.containsKey(field.getName())) {
+                boolean nullable = field.getAnnotation(Nonnull.class) == null;
+                InjectionPoint.Kind kind = resolveKind(field);
+                Class<?> type = field.getType();
+                String format = resolveFormat(field);
+                Class<? extends Converter> converter = resolveEditor(field);
+                injectionPoints.put(field.getName(), new FieldInjectionPoint(converterRegistry, field.getName(), nullable, kind, type, field, format, converter));
+            }
+        }
+
+        return injectionPoints.values().toArray(new InjectionPoint[0]);
+    }
+
     @Nonnull
     protected InjectionPoint.Kind resolveKind(@Nonnull AnnotatedElement element) {
         if (isContextual(element)) {
@@ -446,7 +582,16 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
 
         boolean fireDestructionEvents = isConfigFlagEnabled(group.getConfiguration(), CONFIG_KEY_EVENTS_DESTRUCTION);
 
-        destroyMembers(group, fireDestructionEvents);
+        MVCGroupPool pool = pooledGroups.remove(mvcId);
+        boolean hasChildren = pooledGroupsWithChildren.remove(mvcId);
+        if (pool != null && !hasChildren && isRecyclable(group, pool)) {
+            recycleMembers(group, pool, fireDestructionEvents);
+        } else {
+            if (pool != null) {
+                pool.discard();
+            }
+            destroyMembers(group, fireDestructionEvents);
+        }
 
         doRemoveGroup(group);
         group.destroy();
@@ -476,6 +621,86 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         }
     }
 
+    protected void recycleMembers(@Nonnull MVCGroup group, @Nonnull MVCGroupPool pool, boolean fireDestructionEvents) {
+        LOG.debug("Returning members of MVC group '{}' to the pool", group.getMvcId());
+        for (Map.Entry<String, Object> memberEntry : group.getMembers().entrySet()) {
+            Object member = memberEntry.getValue();
+            if (member instanceof GriffonArtifact) {
+                resetArtifactMember(memberEntry.getKey(), (GriffonArtifact) member);
+            } else if (member instanceof ResettableMVCMember) {
+                ((ResettableMVCMember) member).mvcGroupReset();
+            }
+        }
+
+        List<Object> injectedInstances = group instanceof AbstractMVCGroup ? ((AbstractMVCGroup) group).getInjectedInstances() : Collections.emptyList();
+        if (pool.offer(new MVCGroupPool.Entry(group.getMembers(), injectedInstances))) {
+            injectedInstances.clear();
+        } else {
+            // the pool was filled concurrently
+            destroyMembers(group, fireDestructionEvents);
+        }
+    }
+
+    protected boolean isRecyclable(@Nonnull MVCGroup group, @Nonnull MVCGroupPool pool) {
+        // the pool is gone if the configuration was removed; pooled members are destroyed on shutdown
+        return pools.get(group.getMvcType()) == pool &&
+            getApplication().getPhase() != ApplicationPhase.SHUTDOWN &&
+            pool.hasCapacity() &&
+            isResettable(group);
+    }
+
+    protected boolean isResettable(@Nonnull MVCGroup group) {
+        // members that can't clear their own state must be destroyed, otherwise it leaks into the next group
+        for (Object member : group.getMembers().values()) {
+            if (!(member instanceof ResettableMVCMember)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected void destroyPooledMembers(@Nonnull MVCGroupPool pool) {
+        MVCGroupConfiguration configuration = getConfigurations().get(pool.getMvcType());
+        boolean fireDestructionEvents = configuration == null || isConfigFlagEnabled(configuration, CONFIG_KEY_EVENTS_DESTRUCTION);
+        for (MVCGroupPool.Entry entry : pool.drain()) {
+            LOG.debug("Destroying pooled members of MVC type '{}'", pool.getMvcType());
+            for (Map.Entry<String, Object> memberEntry : entry.getMembers().entrySet()) {
+                Object member = memberEntry.getValue();
+                if (member instanceof GriffonArtifact) {
+                    destroyArtifactMember(memberEntry.getKey(), (GriffonArtifact) member, fireDestructionEvents);
+                } else {
+                    destroyNonArtifactMember(memberEntry.getKey(), member, fireDestructionEvents);
+                }
+            }
+            for (Object instance : entry.getInjectedInstances()) {
+                getApplication().getInjector().release(instance);
+            }
+        }
+    }
+
+    protected void resetArtifactMember(@Nonnull String type, @Nonnull GriffonArtifact member) {
+        // clear all parent* references, the next group may have a different parent
+        for (String parentMemberName : new String[]{"parentModel", "parentView", "parentController", "parentGroup"}) {
+            setPropertyOrFieldValueNoException(member, parentMemberName, null);
+        }
+        destroyContextualMemberProperties(type, member);
+
+        if (member instanceof ResettableMVCMember) {
+            final ResettableMVCMember resettable = (ResettableMVCMember) member;
+            if (member instanceof GriffonView) {
+                getApplication().getUIThreadManager().executeInsideUISync(() -> {
+                    try {
+                        resettable.mvcGroupReset();
+                    } catch (RuntimeException e) {
+                        throw (RuntimeException) sanitize(e);
+                    }
+                });
+            } else {
+                resettable.mvcGroupReset();
+            }
+        }
+    }
+
     protected void destroyArtifactMember(@Nonnull String type, @Nonnull GriffonArtifact member, boolean fireDestructionEvents) {
         if (member instanceof GriffonMvcArtifact) {
             final GriffonMvcArtifact artifact = (GriffonMvcArtifact) member;
@@ -525,6 +750,15 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         removeGroup(group);
     }
 
+    @Nullable
+    protected MVCGroupPool resolvePool(@Nonnull MVCGroupConfiguration configuration) {
+        int poolSize = getConfigValueAsInt(configuration.getConfig(), CONFIG_KEY_POOL_SIZE, 0);
+        if (poolSize < 1) {
+            return null;
+        }
+        return pools.computeIfAbsent(configuration.getMvcType(), mvcType -> new MVCGroupPool(mvcType, poolSize));
+    }
+
     protected boolean isConfigFlagEnabled(@Nonnull MVCGroupConfiguration configuration, @Nonnull String key) {
         return getConfigValueAsBoolean(configuration.getConfig(), key, true);
     }
@@ -588,19 +822,18 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         protected Converter resolveConverter(@Nonnull Class<?> type, @Nullable String format, @Nonnull Class<? extends Converter> converter) {
             requireNonNull(type, ERROR_TYPE_NULL);
 
-            Converter resolvedConverter = null;
-            if (isNoopConverter(converter)) {
-                resolvedConverter = converterRegistry.findConverter(type);
-            } else {
-                try {
-                    resolvedConverter = converter.newInstance();
-                } catch (InstantiationException | IllegalAccessException e) {
-                    throw new GriffonException("Could not instantiate converter with " + converter, e);
+            Converter resolvedConverter;
+            try {
+                resolvedConverter = converterRegistry.findConverter(type, converter, format);
+            } catch (IllegalStateException e) {
+                if (isNoopConverter(converter)) {
+                    throw new GriffonException("Could not instantiate the converter registered for " + type.getName(), e);
                 }
+                throw new GriffonException("Could not instantiate converter with " + converter, e);
             }
 
-            if (resolvedConverter instanceof FormattingConverter) {
-                ((FormattingConverter) resolvedConverter).setFormat(format);
+            if (null == resolvedConverter) {
+                throw new GriffonException("Could not find a converter for " + type.getName());
             }
             return resolvedConverter;
         }
@@ -618,15 +851,16 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
 
     protected static class FieldInjectionPoint extends InjectionPoint {
         protected final Field field;
+        private final String[] keys;
 
         protected FieldInjectionPoint(ConverterRegistry converterRegistry, String name, boolean nullable, Kind kind, Class<?> type, Field field, String format, Class<? extends Converter> converter) {
             super(converterRegistry, name, nullable, kind, type, format, converter);
             this.field = field;
+            this.keys = kind == Kind.CONTEXTUAL ? namesFor(field) : new String[0];
         }
 
         @Override
         protected void apply(@Nonnull MVCGroup group, @Nonnull String memberType, @Nonnull Object instance, @Nonnull Map<String, Object> args) {
-            String[] keys = namesFor(field);
             Object argValue = args.get(name);
 
             if (kind == Kind.CONTEXTUAL) {
@@ -671,16 +905,17 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
 
     protected static class MethodInjectionPoint extends InjectionPoint {
         protected final Method method;
+        private final String[] keys;
 
         protected MethodInjectionPoint(ConverterRegistry converterRegistry, String name, boolean nullable, Kind kind, Class<?> type, Method method, String format, Class<? extends Converter> converter) {
             super(converterRegistry, name, nullable, kind, type, format, converter);
             this.method = method;
+            this.keys = kind == Kind.CONTEXTUAL ? namesFor(method) : new String[0];
         }
 
         @Override
         protected void apply(@Nonnull MVCGroup group, @Nonnull String memberType, @Nonnull Object instance, @Nonnull Map<String, Object> args) {
             if (kind == Kind.CONTEXTUAL) {
-                String[] keys = namesFor(method);
                 Object argValue = args.get(name);
 
                 for (String key : keys) {
@@ -735,4 +970,18 @@ public class DefaultMVCGroupManager extends AbstractMVCGroupManager {
         protected Class<?> regularClass;
         protected Class<? extends GriffonArtifact> artifactClass;
     }
+
+    private final class MVCGroupPoolShutdownHandler implements ShutdownHandler {
+        @Override
+        public boolean canShutdown(@Nonnull GriffonApplication application) {
+            return true;
+        }
+
+        @Override
+        public void onShutdown(@Nonnull GriffonApplication application) {
+            for (MVCGroupPool pool : pools.values()) {
+                destroyPooledMembers(pool);
+            }
+        }
+    }
 }
@@ -0,0 +1,191 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.mvc;
+
+import griffon.annotations.core.Nonnull;
+import griffon.annotations.core.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static griffon.util.StringUtils.requireNonBlank;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Keeps the members of destroyed MVC groups of a single type so that they can be reused by new groups.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public class MVCGroupPool {
+    private final String mvcType;
+    private final int maxSize;
+    private final Deque<Entry> entries = new ArrayDeque<>();
+    private final Object[] lock = new Object[0];
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder recycled = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+
+    public MVCGroupPool(@Nonnull String mvcType, int maxSize) {
+        this.mvcType = requireNonBlank(mvcType, "Argument 'mvcType' must not be blank");
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Argument 'maxSize' must be greater than zero");
+        }
+        this.maxSize = maxSize;
+    }
+
+    @Nonnull
+    public String getMvcType() {
+        return mvcType;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return the number of member sets waiting to be reused.
+     */
+    public int getSize() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @return the number of groups created with pooled members.
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of groups whose members had to be instantiated.
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of destroyed groups whose members were returned to the pool.
+     */
+    public long getRecycledCount() {
+        return recycled.sum();
+    }
+
+    /**
+     * @return the number of destroyed groups whose members were disposed because the pool was full.
+     */
+    public long getDiscardedCount() {
+        return discarded.sum();
+    }
+
+    @Nullable
+    protected Entry acquire() {
+        Entry entry;
+        synchronized (lock) {
+            entry = entries.pollFirst();
+        }
+        if (entry != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return entry;
+    }
+
+    protected void miss() {
+        misses.increment();
+    }
+
+    protected boolean hasCapacity() {
+        synchronized (lock) {
+            return entries.size() < maxSize;
+        }
+    }
+
+    protected boolean offer(@Nonnull Entry entry) {
+        synchronized (lock) {
+            if (entries.size() < maxSize) {
+                entries.offerFirst(entry);
+                recycled.increment();
+                return true;
+            }
+        }
+        discarded.increment();
+        return false;
+    }
+
+    protected void discard() {
+        discarded.increment();
+    }
+
+    /**
+     * Removes all member sets waiting to be reused. Callers are responsible for destroying them.
+     *
+     * @return the removed entries. Never returns {@code null}.
+     */
+    @Nonnull
+    protected List<Entry> drain() {
+        synchronized (lock) {
+            List<Entry> drained = new ArrayList<>(entries);
+            entries.clear();
+            return drained;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MVCGroupPool[" +
+            "mvcType='" + mvcType + '\'' +
+            ", size=" + getSize() +
+            ", maxSize=" + maxSize +
+            ", hits=" + getHitCount() +
+            ", misses=" + getMissCount() +
+            ", recycled=" + getRecycledCount() +
+            ", discarded=" + getDiscardedCount() +
+            ']';
+    }
+
+    protected static final class Entry {
+        private final Map<String, Object> members;
+        private final List<Object> injectedInstances;
+
+        protected Entry(@Nonnull Map<String, Object> members, @Nonnull List<Object> injectedInstances) {
+            this.members = unmodifiableMap(new LinkedHashMap<>(members));
+            this.injectedInstances = unmodifiableList(new ArrayList<>(injectedInstances));
+        }
+
+        @Nonnull
+        protected Map<String, Object> getMembers() {
+            return members;
+        }
+
+        @Nonnull
+        protected List<Object> getInjectedInstances() {
+            return injectedInstances;
+        }
+    }
+}
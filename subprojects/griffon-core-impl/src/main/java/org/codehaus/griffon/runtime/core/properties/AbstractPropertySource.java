@@ -66,6 +66,25 @@ public class AbstractPropertySource implements PropertySource {
         return pcs.getPropertyChangeListeners(propertyName);
     }
 
+    /**
+     * Executes the given {@code Runnable} delivering all changes it makes once it completes.
+     *
+     * @param runnable the code that performs the changes.
+     *
+     * @see PropertyChangeSupport#batch(Runnable)
+     */
+    public void batch(@Nonnull Runnable runnable) {
+        pcs.batch(runnable);
+    }
+
+    public void beginBatch() {
+        pcs.beginBatch();
+    }
+
+    public void commitBatch() {
+        pcs.commitBatch();
+    }
+
     protected void firePropertyChange(@Nonnull PropertyChangeEvent event) {
         pcs.firePropertyChange(event);
     }
@@ -73,4 +92,20 @@ public class AbstractPropertySource implements PropertySource {
     protected void firePropertyChange(@Nonnull String propertyName, @Nullable Object oldValue, @Nullable Object newValue) {
         pcs.firePropertyChange(propertyName, oldValue, newValue);
     }
+
+    protected void firePropertyChange(@Nonnull String propertyName, int oldValue, int newValue) {
+        pcs.firePropertyChange(propertyName, oldValue, newValue);
+    }
+
+    protected void firePropertyChange(@Nonnull String propertyName, long oldValue, long newValue) {
+        pcs.firePropertyChange(propertyName, oldValue, newValue);
+    }
+
+    protected void firePropertyChange(@Nonnull String propertyName, double oldValue, double newValue) {
+        pcs.firePropertyChange(propertyName, oldValue, newValue);
+    }
+
+    protected void firePropertyChange(@Nonnull String propertyName, boolean oldValue, boolean newValue) {
+        pcs.firePropertyChange(propertyName, oldValue, newValue);
+    }
 }
@@ -23,6 +23,8 @@ import griffon.core.properties.NamedPropertyChangeListener;
 import griffon.core.properties.PropertyChangeEvent;
 import griffon.core.properties.PropertyChangeListener;
 import griffon.core.properties.PropertySource;
+import griffon.util.PropertyChangeBatch;
+import griffon.util.PropertyChangeBatchListener;
 
 import java.util.Collection;
 import java.util.List;
@@ -38,6 +40,17 @@ import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 
 /**
+ * Manages {@code PropertyChangeListener}s on behalf of a {@code PropertySource}.
+ * <p>
+ * The {@code firePropertyChange} variants that take a property name check for equal values and for
+ * the presence of listeners before creating an event; primitive overloads avoid boxing unless
+ * an event must be delivered.
+ * <p>
+ * Changes may be grouped with {@link #batch(Runnable)} or {@link #beginBatch()}/{@link #commitBatch()}.
+ * Changes made while a batch is open on the current thread are recorded and delivered when the outermost batch is
+ * committed, see {@link PropertyChangeBatch}. Listeners registered for all properties that implement
+ * {@link PropertyChangeBatchListener} are notified once per batch.
+ *
  * @author Andres Almiray
  * @since 3.0.0
  */
@@ -46,9 +59,13 @@ public class PropertyChangeSupport {
 
     private final Map<String, List<PropertyChangeListener>> listeners = new ConcurrentHashMap<>();
     private final PropertySource source;
+    private final PropertyChangeBatch<PropertyChangeEvent> changes;
 
     public PropertyChangeSupport(@Nonnull PropertySource source) {
         this.source = requireNonNull(source, "Argument 'source' must not be null");
+        this.changes = new PropertyChangeBatch<>(PropertyChangeEvent::getPropertyName,
+            (first, last) -> new PropertyChangeEvent(this.source, last.getPropertyName(), first.getOldValue(), last.getNewValue()),
+            this::valuesAreEqual);
     }
 
     public void addPropertyChangeListener(@Nullable PropertyChangeListener listener) {
@@ -123,15 +140,148 @@ public class PropertyChangeSupport {
 
     public void firePropertyChange(@Nonnull PropertyChangeEvent event) {
         requireNonNull(event, "Argument 'event' must not be null");
+        if (changes.record(event)) {
+            return;
+        }
         fire(listeners.get(DEFAULT_KEY), event);
         fire(listeners.get(event.getPropertyName()), event);
     }
 
     public <T> void firePropertyChange(@Nonnull String propertyName, @Nullable T oldValue, @Nullable T newValue) {
         requireNonBlank(propertyName, "Argument 'propertyName' must not be blank");
+        if (valuesAreEqual(oldValue, newValue) || !isObserved(propertyName)) {
+            return;
+        }
+        firePropertyChange(new PropertyChangeEvent(source, propertyName, oldValue, newValue));
+    }
+
+    public void firePropertyChange(@Nonnull String propertyName, int oldValue, int newValue) {
+        requireNonBlank(propertyName, "Argument 'propertyName' must not be blank");
+        if (oldValue == newValue || !isObserved(propertyName)) {
+            return;
+        }
+        firePropertyChange(new PropertyChangeEvent(source, propertyName, oldValue, newValue));
+    }
+
+    public void firePropertyChange(@Nonnull String propertyName, long oldValue, long newValue) {
+        requireNonBlank(propertyName, "Argument 'propertyName' must not be blank");
+        if (oldValue == newValue || !isObserved(propertyName)) {
+            return;
+        }
+        firePropertyChange(new PropertyChangeEvent(source, propertyName, oldValue, newValue));
+    }
+
+    public void firePropertyChange(@Nonnull String propertyName, double oldValue, double newValue) {
+        requireNonBlank(propertyName, "Argument 'propertyName' must not be blank");
+        // same semantics as Double.equals()
+        if (Double.doubleToLongBits(oldValue) == Double.doubleToLongBits(newValue) || !isObserved(propertyName)) {
+            return;
+        }
         firePropertyChange(new PropertyChangeEvent(source, propertyName, oldValue, newValue));
     }
 
+    public void firePropertyChange(@Nonnull String propertyName, boolean oldValue, boolean newValue) {
+        requireNonBlank(propertyName, "Argument 'propertyName' must not be blank");
+        if (oldValue == newValue || !isObserved(propertyName)) {
+            return;
+        }
+        firePropertyChange(new PropertyChangeEvent(source, propertyName, oldValue, newValue));
+    }
+
+    /**
+     * Opens a batch on the current thread. Batches may be nested, changes are delivered when the outermost batch is committed.
+     */
+    public void beginBatch() {
+        changes.begin();
+    }
+
+    /**
+     * Closes the current batch. Recorded changes are delivered if this was the outermost batch.
+     *
+     * @throws IllegalStateException if the current thread has no open batch.
+     */
+    public void commitBatch() {
+        deliver(changes.commit());
+    }
+
+    /**
+     * Executes the given {@code Runnable} inside a batch. The batch is committed even if the {@code Runnable} fails,
+     * in which case any failure of the commit is added as suppressed to the failure of the {@code Runnable}.
+     *
+     * @param runnable the code that performs the changes.
+     */
+    public void batch(@Nonnull Runnable runnable) {
+        requireNonNull(runnable, "Argument 'runnable' must not be null");
+        beginBatch();
+        try {
+            runnable.run();
+        } catch (RuntimeException | Error e) {
+            try {
+                commitBatch();
+            } catch (RuntimeException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        commitBatch();
+    }
+
+    public boolean isBatching() {
+        return changes.isBatching();
+    }
+
+    private void deliver(@Nonnull List<PropertyChangeEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        // a failing listener must not keep the remaining listeners from being notified
+        RuntimeException failure = null;
+        List<PropertyChangeListener> defaultListeners = listeners.get(DEFAULT_KEY);
+        if (defaultListeners != null) {
+            for (PropertyChangeListener listener : defaultListeners) {
+                if (listener instanceof PropertyChangeBatchListener) {
+                    failure = notifyListener(failure, () -> batchListener(listener).propertiesChanged(events));
+                } else {
+                    for (PropertyChangeEvent event : events) {
+                        failure = notifyListener(failure, () -> listener.propertyChange(event));
+                    }
+                }
+            }
+        }
+
+        for (PropertyChangeEvent event : events) {
+            List<PropertyChangeListener> namedListeners = listeners.get(event.getPropertyName());
+            if (namedListeners != null) {
+                for (PropertyChangeListener listener : namedListeners) {
+                    failure = notifyListener(failure, () -> listener.propertyChange(event));
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Nullable
+    private static RuntimeException notifyListener(@Nullable RuntimeException failure, @Nonnull Runnable notification) {
+        try {
+            notification.run();
+        } catch (RuntimeException e) {
+            if (failure == null) {
+                return e;
+            }
+            failure.addSuppressed(e);
+        }
+        return failure;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PropertyChangeBatchListener<PropertyChangeEvent> batchListener(@Nonnull PropertyChangeListener listener) {
+        return (PropertyChangeBatchListener<PropertyChangeEvent>) listener;
+    }
+
     private void fire(@Nullable List<PropertyChangeListener> listeners, @Nonnull PropertyChangeEvent event) {
         if (listeners == null || listeners.isEmpty() || valuesAreEqual(event)) {
             return;
@@ -143,17 +293,34 @@ public class PropertyChangeSupport {
     }
 
     public boolean hasListeners() {
-        return getPropertyChangeListeners().length > 0;
+        for (List<PropertyChangeListener> list : listeners.values()) {
+            if (!list.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public boolean hasListeners(@Nonnull String propertyName) {
-        return getPropertyChangeListeners(propertyName).length > 0;
+        return !isBlank(propertyName) && hasListeners(listeners.get(propertyName));
+    }
+
+    private boolean isObserved(@Nonnull String propertyName) {
+        return hasListeners(listeners.get(DEFAULT_KEY)) || hasListeners(listeners.get(propertyName));
+    }
+
+    private static boolean hasListeners(@Nullable List<PropertyChangeListener> list) {
+        return list != null && !list.isEmpty();
     }
 
     private boolean valuesAreEqual(@Nonnull PropertyChangeEvent event) {
         if (null == event) return true;
-        if (event.getOldValue() == event.getNewValue()) return true;
-        return (event.getOldValue() != null && event.getOldValue().equals(event.getNewValue())) ||
-            (event.getNewValue() != null && event.getNewValue().equals(event.getOldValue()));
+        return valuesAreEqual(event.getOldValue(), event.getNewValue());
+    }
+
+    private static boolean valuesAreEqual(@Nullable Object oldValue, @Nullable Object newValue) {
+        if (oldValue == newValue) return true;
+        return (oldValue != null && oldValue.equals(newValue)) ||
+            (newValue != null && newValue.equals(oldValue));
     }
 }
@@ -22,7 +22,6 @@ import griffon.annotations.core.Nullable;
 import griffon.annotations.resources.InjectedResource;
 import griffon.converter.Converter;
 import griffon.converter.ConverterRegistry;
-import griffon.converter.FormattingConverter;
 import griffon.core.resources.ResourceInjector;
 import org.codehaus.griffon.runtime.util.PropertyDescriptor;
 import org.codehaus.griffon.runtime.util.PropertyDescriptorResolver;
@@ -216,11 +215,7 @@ public abstract class AbstractResourceInjector implements ResourceInjector {
     @Nullable
     protected Converter<?> resolveConverter(@Nonnull Class<?> type, @Nullable String format) {
         requireNonNull(type, ERROR_TYPE_NULL);
-        Converter<?> converter = converterRegistry.findConverter(type);
-        if (converter instanceof FormattingConverter) {
-            ((FormattingConverter) converter).setFormat(format);
-        }
-        return converter;
+        return converterRegistry.findConverter(type, null, format);
     }
 
     protected void setPropertyValue(@Nonnull Object instance, @Nonnull Method method, @Nonnull Object value, @Nonnull String fqName) {
@@ -371,7 +371,7 @@ public abstract class AbstractResourceResolver implements ResourceResolver {
             if (type.isAssignableFrom(value.getClass())) {
                 return (T) value;
             } else {
-                Converter<T> converter = converterRegistry.findConverter(type);
+                Converter<T> converter = converterRegistry.findConverter(type, null, null);
                 if (null != converter) {
                     return converter.fromObject(value);
                 }
@@ -0,0 +1,224 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.resources;
+
+import griffon.annotations.core.Nonnull;
+import griffon.annotations.core.Nullable;
+
+import java.lang.ref.SoftReference;
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Bounded cache of decoded images, keyed by resource URL and requested size.<p>
+ * Every entry is weighed (an estimate of its size in bytes); least recently used entries are evicted once
+ * the total weight exceeds the maximum weight. Entries are held through soft references so that the garbage
+ * collector may reclaim them under memory pressure. Cached images are shared, callers must not modify them.
+ * Images are decoded outside of the cache lock, concurrent misses on the same key may decode more than once.
+ *
+ * @param <T> the type of image.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public class ImageCache<T> {
+    public static final String KEY_MAXIMUM_WEIGHT = "griffon.image.cache.maximum.weight";
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 32L * 1024 * 1024;
+
+    private final long maximumWeight;
+    private final ToLongFunction<T> weigher;
+    private final Object lock = new Object[0];
+    private final Map<ImageKey, Entry<T>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private long weight;
+
+    /**
+     * Creates a cache whose maximum weight is read from the {@code griffon.image.cache.maximum.weight}
+     * System property, falling back to {@link #DEFAULT_MAXIMUM_WEIGHT}. A value of {@code 0} disables caching.
+     */
+    public ImageCache(@Nonnull ToLongFunction<T> weigher) {
+        this(Long.getLong(KEY_MAXIMUM_WEIGHT, DEFAULT_MAXIMUM_WEIGHT), weigher);
+    }
+
+    public ImageCache(long maximumWeight, @Nonnull ToLongFunction<T> weigher) {
+        if (maximumWeight < 0) {
+            throw new IllegalArgumentException("Argument 'maximumWeight' must not be negative");
+        }
+        this.maximumWeight = maximumWeight;
+        this.weigher = requireNonNull(weigher, "Argument 'weigher' must not be null");
+    }
+
+    /**
+     * Returns the image for the given URL at its natural size, decoding it if needed.
+     */
+    @Nullable
+    public T get(@Nonnull URL url, @Nonnull Decoder<T> decoder) throws Exception {
+        return get(url, 0, 0, decoder);
+    }
+
+    /**
+     * Returns the image for the given URL and requested size, decoding it if needed.
+     * A {@code null} result from the decoder is returned as is and not cached.
+     *
+     * @param url     the location of the image.
+     * @param width   the requested width, {@code 0} for the natural width.
+     * @param height  the requested height, {@code 0} for the natural height.
+     * @param decoder decodes the image on a cache miss.
+     */
+    @Nullable
+    public T get(@Nonnull URL url, double width, double height, @Nonnull Decoder<T> decoder) throws Exception {
+        requireNonNull(url, "Argument 'url' must not be null");
+        requireNonNull(decoder, "Argument 'decoder' must not be null");
+
+        ImageKey key = new ImageKey(url.toExternalForm(), width, height);
+        synchronized (lock) {
+            Entry<T> entry = entries.get(key);
+            if (entry != null) {
+                T image = entry.image.get();
+                if (image != null) {
+                    hits.increment();
+                    return image;
+                }
+                // reclaimed by the garbage collector
+                entries.remove(key);
+                weight -= entry.weight;
+            }
+        }
+
+        misses.increment();
+        T image = decoder.decode(url);
+        if (image == null || maximumWeight == 0) {
+            return image;
+        }
+
+        long w = Math.max(0, weigher.applyAsLong(image));
+        if (w > maximumWeight) {
+            return image;
+        }
+
+        synchronized (lock) {
+            Entry<T> previous = entries.put(key, new Entry<>(image, w));
+            if (previous != null) {
+                weight -= previous.weight;
+            }
+            weight += w;
+            evict();
+        }
+        return image;
+    }
+
+    public void clear() {
+        synchronized (lock) {
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    public int getSize() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @return the estimated weight of all entries, in bytes.
+     */
+    public long getWeight() {
+        synchronized (lock) {
+            return weight;
+        }
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private void evict() {
+        Iterator<Entry<T>> it = entries.values().iterator();
+        while (weight > maximumWeight && it.hasNext()) {
+            Entry<T> entry = it.next();
+            it.remove();
+            weight -= entry.weight;
+            evictions.increment();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Decoder<T> {
+        @Nullable
+        T decode(@Nonnull URL url) throws Exception;
+    }
+
+    private static final class Entry<T> {
+        private final SoftReference<T> image;
+        private final long weight;
+
+        private Entry(@Nonnull T image, long weight) {
+            this.image = new SoftReference<>(image);
+            this.weight = weight;
+        }
+    }
+
+    private static final class ImageKey {
+        private final String url;
+        private final double width;
+        private final double height;
+
+        private ImageKey(@Nonnull String url, double width, double height) {
+            this.url = url;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ImageKey that = (ImageKey) o;
+            return Double.compare(that.width, width) == 0 &&
+                Double.compare(that.height, height) == 0 &&
+                url.equals(that.url);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(url, width, height);
+        }
+    }
+}
@@ -59,7 +59,8 @@ public abstract class AbstractUIThreadManager implements UIThreadManager {
             this.executorServiceManager.remove(executorService);
         }
         this.executorServiceManager = executorServiceManager;
-        this.executorServiceManager.add(executorService);
+        // tasks are submitted to the registered instance so that they are accounted for by the manager
+        this.executorService = this.executorServiceManager.add(executorService);
     }
 
     /**
@@ -17,42 +17,31 @@
  */
 package org.codehaus.griffon.runtime.core.threading;
 
+import griffon.annotations.core.Nonnull;
+
+import javax.inject.Inject;
 import javax.inject.Provider;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * @author Andres Almiray
  * @since 2.2.0
  */
 public class DefaultExecutorServiceProvider implements Provider<ExecutorService> {
-    @Override
-    public ExecutorService get() {
-        return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new DefaultThreadFactory());
-    }
+    private static final AtomicInteger POOL_NUMBER = new AtomicInteger(1);
 
-    private static class DefaultThreadFactory implements ThreadFactory {
-        private static final AtomicInteger poolNumber = new AtomicInteger(1);
-        private final ThreadGroup group;
-        private final AtomicInteger threadNumber = new AtomicInteger(1);
-        private final String namePrefix;
+    private ExecutorServiceSettings executorServiceSettings = new ExecutorServiceSettings();
 
-        private DefaultThreadFactory() {
-            SecurityManager s = System.getSecurityManager();
-            group = (s != null) ? s.getThreadGroup() :
-                Thread.currentThread().getThreadGroup();
-            namePrefix = "griffon-pool-" +
-                poolNumber.getAndIncrement() +
-                "-thread-";
-        }
+    @Inject
+    public void setExecutorServiceSettings(@Nonnull ExecutorServiceSettings executorServiceSettings) {
+        this.executorServiceSettings = requireNonNull(executorServiceSettings, "Argument 'executorServiceSettings' must not be null");
+    }
 
-        public Thread newThread(Runnable r) {
-            Thread t = new Thread(group, r, namePrefix + threadNumber.getAndIncrement(), 0);
-            if (t.isDaemon()) t.setDaemon(false);
-            if (t.getPriority() != Thread.NORM_PRIORITY) t.setPriority(Thread.NORM_PRIORITY);
-            return t;
-        }
+    @Override
+    public ExecutorService get() {
+        return executorServiceSettings.createExecutorService("griffon-pool-" + POOL_NUMBER.getAndIncrement() + "-thread-");
     }
 }
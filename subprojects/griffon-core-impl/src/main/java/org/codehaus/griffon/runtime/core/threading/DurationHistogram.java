@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.threading;
+
+import griffon.core.ExecutorServiceMetrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of durations. Samples are counted in power of two buckets, thus percentiles are
+ * estimates bounded by a factor of two.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public class DurationHistogram implements ExecutorServiceMetrics.Histogram {
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    public void record(long duration) {
+        long value = Math.max(0L, duration);
+        buckets.incrementAndGet(bucketOf(value));
+        count.increment();
+        sum.add(value);
+        min.accumulate(value);
+        max.accumulate(value);
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public long getMin() {
+        long value = min.get();
+        return value == Long.MAX_VALUE ? 0L : value;
+    }
+
+    @Override
+    public long getMax() {
+        return max.get();
+    }
+
+    @Override
+    public long getMean() {
+        long samples = count.sum();
+        return samples == 0L ? 0L : sum.sum() / samples;
+    }
+
+    @Override
+    public long getPercentile(double percentile) {
+        if (percentile < 0d || percentile > 100d) {
+            throw new IllegalArgumentException("Argument 'percentile' must be between 0 and 100");
+        }
+
+        long[] snapshot = new long[BUCKETS];
+        long samples = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = buckets.get(i);
+            samples += snapshot[i];
+        }
+        if (samples == 0L) {
+            return 0L;
+        }
+
+        long rank = Math.max(1L, (long) Math.ceil(samples * percentile / 100d));
+        long seen = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    private static int bucketOf(long value) {
+        // bucket i holds values in [2^(i-1), 2^i)
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value));
+    }
+
+    private static long upperBoundOf(int bucket) {
+        return bucket >= BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1L;
+    }
+
+    @Override
+    public String toString() {
+        return "DurationHistogram[" +
+            "count=" + getCount() +
+            ", min=" + getMin() +
+            ", mean=" + getMean() +
+            ", p99=" + getPercentile(99d) +
+            ", max=" + getMax() +
+            ']';
+    }
+}
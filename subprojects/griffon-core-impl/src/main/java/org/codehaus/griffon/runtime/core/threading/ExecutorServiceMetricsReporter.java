@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.threading;
+
+import griffon.annotations.core.Nonnull;
+import griffon.core.ExecutorServiceManager;
+import griffon.core.event.EventRouter;
+import griffon.core.events.ExecutorServiceMetricsEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Periodically publishes an {@code ExecutorServiceMetricsEvent} with the metrics of all {@code ExecutorService}s
+ * registered with an {@code ExecutorServiceManager}. Events are published from a dedicated daemon thread.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public class ExecutorServiceMetricsReporter {
+    public static final String KEY_METRICS_INTERVAL = "griffon.executor.metrics.interval";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExecutorServiceMetricsReporter.class);
+
+    private final ExecutorServiceManager executorServiceManager;
+    private final EventRouter eventRouter;
+    private final long interval;
+    private final Object[] lock = new Object[0];
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * @param executorServiceManager the source of metrics. Must not be {@code null}.
+     * @param eventRouter            where events are published. Must not be {@code null}.
+     * @param interval               time between events, in milliseconds. Must be greater than zero.
+     */
+    public ExecutorServiceMetricsReporter(@Nonnull ExecutorServiceManager executorServiceManager, @Nonnull EventRouter eventRouter, long interval) {
+        this.executorServiceManager = requireNonNull(executorServiceManager, "Argument 'executorServiceManager' must not be null");
+        this.eventRouter = requireNonNull(eventRouter, "Argument 'eventRouter' must not be null");
+        if (interval <= 0) {
+            throw new IllegalArgumentException("Argument 'interval' must be greater than zero");
+        }
+        this.interval = interval;
+    }
+
+    public void start() {
+        synchronized (lock) {
+            if (scheduler != null) {
+                return;
+            }
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "griffon-executor-metrics");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleAtFixedRate(this::report, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void stop() {
+        synchronized (lock) {
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+                scheduler = null;
+            }
+        }
+    }
+
+    protected void report() {
+        try {
+            eventRouter.publishEvent(ExecutorServiceMetricsEvent.of(executorServiceManager.getExecutorServiceMetrics()));
+        } catch (RuntimeException e) {
+            // keep the schedule alive
+            LOG.warn("Could not publish executor metrics", e);
+        }
+    }
+}
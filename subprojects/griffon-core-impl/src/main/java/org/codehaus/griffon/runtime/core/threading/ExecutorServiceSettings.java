@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.threading;
+
+import griffon.annotations.core.Nonnull;
+
+import java.util.concurrent.ExecutorService;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Tuning options for the {@code ExecutorService} instances used to run code outside of the UI thread and to
+ * publish events asynchronously.
+ *
+ * @author Andres Almiray
+ * @see ExecutorServiceSettingsProvider
+ * @since 3.0.0
+ */
+public class ExecutorServiceSettings {
+    private final ExecutorServiceStrategy strategy;
+    private final int parallelism;
+
+    /**
+     * Creates settings with a fixed pool of one thread per available processor.
+     */
+    public ExecutorServiceSettings() {
+        this(ExecutorServiceStrategy.FIXED, Runtime.getRuntime().availableProcessors());
+    }
+
+    public ExecutorServiceSettings(@Nonnull ExecutorServiceStrategy strategy, int parallelism) {
+        this.strategy = requireNonNull(strategy, "Argument 'strategy' must not be null");
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    @Nonnull
+    public ExecutorServiceStrategy getStrategy() {
+        return strategy;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Creates a new {@code ExecutorService} that matches these settings.
+     *
+     * @param namePrefix prefix for the names of the threads created by the executor. Must not be blank.
+     *
+     * @return a new {@code ExecutorService}. Never returns {@code null}.
+     */
+    @Nonnull
+    public ExecutorService createExecutorService(@Nonnull String namePrefix) {
+        return strategy.createExecutorService(namePrefix, parallelism);
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutorServiceSettings[" +
+            "strategy=" + strategy +
+            ", parallelism=" + parallelism +
+            ']';
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.threading;
+
+import griffon.core.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import java.util.Locale;
+
+/**
+ * Reads {@code ExecutorServiceSettings} from the application's configuration. The following keys are supported
+ * <ul>
+ * <li>{@code griffon.executor.strategy}: one of {@code fixed}, {@code work_stealing}, {@code virtual}. Defaults to {@code fixed}.</li>
+ * <li>{@code griffon.executor.parallelism}: number of platform threads. Defaults to the number of available processors.</li>
+ * </ul>
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public class ExecutorServiceSettingsProvider implements Provider<ExecutorServiceSettings> {
+    public static final String KEY_STRATEGY = "griffon.executor.strategy";
+    public static final String KEY_PARALLELISM = "griffon.executor.parallelism";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExecutorServiceSettingsProvider.class);
+
+    @Inject
+    private Configuration configuration;
+
+    @Override
+    public ExecutorServiceSettings get() {
+        ExecutorServiceSettings defaults = new ExecutorServiceSettings();
+
+        String value = configuration.getAsString(KEY_STRATEGY, defaults.getStrategy().name());
+        int parallelism = configuration.getAsInt(KEY_PARALLELISM, defaults.getParallelism());
+
+        ExecutorServiceStrategy strategy;
+        try {
+            strategy = ExecutorServiceStrategy.valueOf(value.trim().toUpperCase(Locale.ENGLISH));
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Unknown value '{}' for {}. Using {} instead", value, KEY_STRATEGY, defaults.getStrategy());
+            strategy = defaults.getStrategy();
+        }
+
+        ExecutorServiceSettings settings = new ExecutorServiceSettings(strategy, parallelism);
+        LOG.debug("Using {}", settings);
+        return settings;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.threading;
+
+import griffon.annotations.core.Nonnull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static griffon.util.StringUtils.requireNonBlank;
+
+/**
+ * Defines how {@code ExecutorService} instances used to run code outside of the UI thread are created.<p>
+ * Virtual threads are looked up reflectively as they require Java 21 or later. {@code VIRTUAL} falls back
+ * to {@code FIXED} when the running JVM does not support them.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public enum ExecutorServiceStrategy {
+    /**
+     * A fixed number of platform threads sharing an unbounded queue.
+     */
+    FIXED {
+        @Nonnull
+        @Override
+        protected ExecutorService doCreateExecutorService(@Nonnull String namePrefix, int parallelism) {
+            return Executors.newFixedThreadPool(parallelism, new DefaultThreadFactory(namePrefix));
+        }
+    },
+    /**
+     * A {@code ForkJoinPool} in async mode, where idle threads steal tasks from busy ones.
+     */
+    WORK_STEALING {
+        @Nonnull
+        @Override
+        protected ExecutorService doCreateExecutorService(@Nonnull String namePrefix, int parallelism) {
+            AtomicInteger threadNumber = new AtomicInteger(1);
+            return new ForkJoinPool(parallelism, pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName(namePrefix + threadNumber.getAndIncrement());
+                return thread;
+            }, null, true);
+        }
+    },
+    /**
+     * A new virtual thread per task. {@code parallelism} is ignored.
+     */
+    VIRTUAL {
+        @Nonnull
+        @Override
+        protected ExecutorService doCreateExecutorService(@Nonnull String namePrefix, int parallelism) {
+            if (!isVirtualThreadSupported()) {
+                LOG.warn("Virtual threads are not supported by this JVM. Using {} instead", FIXED);
+                return FIXED.doCreateExecutorService(namePrefix, parallelism);
+            }
+
+            try {
+                return (ExecutorService) VirtualThreads.NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, VirtualThreads.newThreadFactory(namePrefix));
+            } catch (Exception e) {
+                LOG.warn("Could not create a virtual thread executor. Using {} instead", FIXED, e);
+                return FIXED.doCreateExecutorService(namePrefix, parallelism);
+            }
+        }
+    };
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExecutorServiceStrategy.class);
+
+    /**
+     * Creates a new {@code ExecutorService}.
+     *
+     * @param namePrefix  prefix for the names of the threads created by the executor. Must not be blank.
+     * @param parallelism number of platform threads. Values lower than {@code 1} are adjusted to {@code 1}.
+     *
+     * @return a new {@code ExecutorService}. Never returns {@code null}.
+     */
+    @Nonnull
+    public ExecutorService createExecutorService(@Nonnull String namePrefix, int parallelism) {
+        requireNonBlank(namePrefix, "Argument 'namePrefix' must not be blank");
+        return doCreateExecutorService(namePrefix, Math.max(1, parallelism));
+    }
+
+    @Nonnull
+    protected abstract ExecutorService doCreateExecutorService(@Nonnull String namePrefix, int parallelism);
+
+    /**
+     * @return {@code true} if the running JVM can create virtual threads.
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VirtualThreads.NEW_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    private static final class VirtualThreads {
+        private static final Method OF_VIRTUAL;
+        private static final Method NAME;
+        private static final Method FACTORY;
+        private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+        static {
+            Method ofVirtual = null;
+            Method name = null;
+            Method factory = null;
+            Method newThreadPerTaskExecutor = null;
+            try {
+                Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+                ofVirtual = Thread.class.getMethod("ofVirtual");
+                name = builderClass.getMethod("name", String.class, long.class);
+                factory = builderClass.getMethod("factory");
+                newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+                // preview releases expose the API but refuse to create virtual threads
+                ofVirtual.invoke(null);
+            } catch (Exception | LinkageError e) {
+                newThreadPerTaskExecutor = null;
+            }
+            OF_VIRTUAL = ofVirtual;
+            NAME = name;
+            FACTORY = factory;
+            NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+        }
+
+        @Nonnull
+        private static ThreadFactory newThreadFactory(@Nonnull String namePrefix) throws Exception {
+            Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), namePrefix, 1L);
+            return (ThreadFactory) FACTORY.invoke(builder);
+        }
+    }
+}
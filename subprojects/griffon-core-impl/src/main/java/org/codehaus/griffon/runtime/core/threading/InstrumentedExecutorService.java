@@ -0,0 +1,377 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.threading;
+
+import griffon.annotations.core.Nonnull;
+import griffon.core.ExecutorServiceMetrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Decorates an {@code ExecutorService} to keep track of task counts, wait and run times.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public class InstrumentedExecutorService implements ExecutorService, ExecutorServiceMetrics {
+    private static final String ERROR_TASK_NULL = "Argument 'task' must not be null";
+    private static final String ERROR_TASKS_NULL = "Argument 'tasks' must not be null";
+
+    private final ExecutorService delegate;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final DurationHistogram waitTime = new DurationHistogram();
+    private final DurationHistogram runTime = new DurationHistogram();
+
+    public InstrumentedExecutorService(@Nonnull ExecutorService delegate) {
+        this.delegate = requireNonNull(delegate, "Argument 'delegate' must not be null");
+    }
+
+    @Nonnull
+    public ExecutorService getDelegate() {
+        return delegate;
+    }
+
+    // -- ExecutorServiceMetrics
+
+    @Nonnull
+    @Override
+    public ExecutorService getExecutorService() {
+        return this;
+    }
+
+    @Override
+    public int getActiveCount() {
+        return active.get();
+    }
+
+    @Override
+    public int getQueueSize() {
+        return pending.get();
+    }
+
+    @Override
+    public long getSubmittedCount() {
+        return submitted.sum();
+    }
+
+    @Override
+    public long getCompletedCount() {
+        return completed.sum();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Nonnull
+    @Override
+    public Histogram getWaitTime() {
+        return waitTime;
+    }
+
+    @Nonnull
+    @Override
+    public Histogram getRunTime() {
+        return runTime;
+    }
+
+    // -- ExecutorService
+
+    @Override
+    public void execute(@Nonnull Runnable task) {
+        requireNonNull(task, ERROR_TASK_NULL);
+        InstrumentedRunnable instrumented = new InstrumentedRunnable(task);
+        try {
+            delegate.execute(instrumented);
+        } catch (RejectedExecutionException e) {
+            throw rejected(instrumented.pendingTask, e);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public Future<?> submit(@Nonnull Runnable task) {
+        return submit(task, null);
+    }
+
+    @Nonnull
+    @Override
+    public <T> Future<T> submit(@Nonnull Runnable task, T result) {
+        requireNonNull(task, ERROR_TASK_NULL);
+        return submitInstrumented(Executors.callable(task, result));
+    }
+
+    @Nonnull
+    @Override
+    public <T> Future<T> submit(@Nonnull Callable<T> task) {
+        requireNonNull(task, ERROR_TASK_NULL);
+        return submitInstrumented(task);
+    }
+
+    @Nonnull
+    @Override
+    public <T> List<Future<T>> invokeAll(@Nonnull Collection<? extends Callable<T>> tasks) throws InterruptedException {
+        List<PendingTask> pendingTasks = new ArrayList<>();
+        List<Callable<T>> instrumented = instrument(tasks, pendingTasks);
+        try {
+            return delegate.invokeAll(instrumented);
+        } catch (RejectedExecutionException e) {
+            throw rejected(instrumented.size(), e);
+        } finally {
+            dequeue(pendingTasks);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public <T> List<Future<T>> invokeAll(@Nonnull Collection<? extends Callable<T>> tasks, long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+        List<PendingTask> pendingTasks = new ArrayList<>();
+        List<Callable<T>> instrumented = instrument(tasks, pendingTasks);
+        try {
+            return delegate.invokeAll(instrumented, timeout, unit);
+        } catch (RejectedExecutionException e) {
+            throw rejected(instrumented.size(), e);
+        } finally {
+            dequeue(pendingTasks);
+        }
+    }
+
+    @Nonnull
+    @Override
+    public <T> T invokeAny(@Nonnull Collection<? extends Callable<T>> tasks) throws InterruptedException, ExecutionException {
+        List<PendingTask> pendingTasks = new ArrayList<>();
+        List<Callable<T>> instrumented = instrument(tasks, pendingTasks);
+        try {
+            return delegate.invokeAny(instrumented);
+        } catch (RejectedExecutionException e) {
+            throw rejected(instrumented.size(), e);
+        } finally {
+            dequeue(pendingTasks);
+        }
+    }
+
+    @Override
+    public <T> T invokeAny(@Nonnull Collection<? extends Callable<T>> tasks, long timeout, @Nonnull TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        List<PendingTask> pendingTasks = new ArrayList<>();
+        List<Callable<T>> instrumented = instrument(tasks, pendingTasks);
+        try {
+            return delegate.invokeAny(instrumented, timeout, unit);
+        } catch (RejectedExecutionException e) {
+            throw rejected(instrumented.size(), e);
+        } finally {
+            dequeue(pendingTasks);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Nonnull
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> tasks = delegate.shutdownNow();
+        for (Runnable task : tasks) {
+            if (task instanceof InstrumentedRunnable) {
+                ((InstrumentedRunnable) task).pendingTask.dequeue();
+            } else if (task instanceof InstrumentedFutureTask) {
+                ((InstrumentedFutureTask<?>) task).pendingTask.dequeue();
+            }
+            // tasks queued by invokeAll/invokeAny are dequeued once those calls return
+        }
+        return tasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, @Nonnull TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    @Nonnull
+    private <T> Future<T> submitInstrumented(@Nonnull Callable<T> task) {
+        InstrumentedFutureTask<T> instrumented = new InstrumentedFutureTask<>(new PendingTask(), task);
+        try {
+            delegate.execute(instrumented);
+        } catch (RejectedExecutionException e) {
+            throw rejected(instrumented.pendingTask, e);
+        }
+        return instrumented;
+    }
+
+    @Nonnull
+    private <T> Callable<T> instrument(@Nonnull PendingTask pendingTask, @Nonnull Callable<T> task) {
+        return () -> {
+            long startedAt = pendingTask.started();
+            try {
+                return task.call();
+            } finally {
+                taskFinished(startedAt);
+            }
+        };
+    }
+
+    @Nonnull
+    private <T> List<Callable<T>> instrument(@Nonnull Collection<? extends Callable<T>> tasks, @Nonnull List<PendingTask> pendingTasks) {
+        requireNonNull(tasks, ERROR_TASKS_NULL);
+        List<Callable<T>> instrumented = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            requireNonNull(task, ERROR_TASK_NULL);
+            PendingTask pendingTask = new PendingTask();
+            pendingTasks.add(pendingTask);
+            instrumented.add(instrument(pendingTask, task));
+        }
+        return instrumented;
+    }
+
+    private void dequeue(@Nonnull List<PendingTask> pendingTasks) {
+        // invokeAll/invokeAny cancel every task that did not complete before returning, tasks that never
+        // started will not run anymore
+        for (PendingTask pendingTask : pendingTasks) {
+            pendingTask.dequeue();
+        }
+    }
+
+    private void taskFinished(long startedAt) {
+        runTime.record(System.nanoTime() - startedAt);
+        active.decrementAndGet();
+        completed.increment();
+    }
+
+    @Nonnull
+    private RejectedExecutionException rejected(@Nonnull PendingTask pendingTask, @Nonnull RejectedExecutionException e) {
+        pendingTask.dequeue();
+        return rejected(1, e);
+    }
+
+    @Nonnull
+    private RejectedExecutionException rejected(int tasks, @Nonnull RejectedExecutionException e) {
+        rejected.add(tasks);
+        return e;
+    }
+
+    /**
+     * Tracks a submitted task until it leaves the queue, either because it starts running or because it is
+     * cancelled, rejected or drained by {@code shutdownNow}. The queue size is decremented exactly once.
+     */
+    private final class PendingTask {
+        private final AtomicBoolean queued = new AtomicBoolean(true);
+        private final long submittedAt;
+
+        private PendingTask() {
+            submitted.increment();
+            pending.incrementAndGet();
+            submittedAt = System.nanoTime();
+        }
+
+        private void dequeue() {
+            if (queued.compareAndSet(true, false)) {
+                pending.decrementAndGet();
+            }
+        }
+
+        private long started() {
+            long startedAt = System.nanoTime();
+            dequeue();
+            active.incrementAndGet();
+            waitTime.record(startedAt - submittedAt);
+            return startedAt;
+        }
+    }
+
+    private final class InstrumentedRunnable implements Runnable {
+        private final PendingTask pendingTask = new PendingTask();
+        private final Runnable task;
+
+        private InstrumentedRunnable(@Nonnull Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            long startedAt = pendingTask.started();
+            try {
+                task.run();
+            } finally {
+                taskFinished(startedAt);
+            }
+        }
+    }
+
+    private final class InstrumentedFutureTask<T> extends FutureTask<T> {
+        private final PendingTask pendingTask;
+
+        private InstrumentedFutureTask(@Nonnull PendingTask pendingTask, @Nonnull Callable<T> task) {
+            super(instrument(pendingTask, task));
+            this.pendingTask = pendingTask;
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                // no-op if the task had already started
+                pendingTask.dequeue();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "InstrumentedExecutorService[" +
+            "delegate=" + delegate +
+            ", active=" + getActiveCount() +
+            ", queued=" + getQueueSize() +
+            ", submitted=" + getSubmittedCount() +
+            ", completed=" + getCompletedCount() +
+            ", rejected=" + getRejectedCount() +
+            ", waitTime=" + waitTime +
+            ", runTime=" + runTime +
+            ']';
+    }
+}
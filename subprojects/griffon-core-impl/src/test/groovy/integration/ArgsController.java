@@ -20,18 +20,21 @@ package integration;
 import griffon.annotations.core.Nonnull;
 import griffon.annotations.inject.MVCMember;
 import griffon.core.artifact.GriffonController;
+import griffon.core.mvc.ResettableMVCMember;
 import org.codehaus.griffon.runtime.core.artifact.AbstractGriffonController;
 import org.kordamp.jipsy.annotations.ServiceProviderFor;
 
 import java.util.Map;
 
 @ServiceProviderFor(GriffonController.class)
-public class ArgsController extends AbstractGriffonController {
+public class ArgsController extends AbstractGriffonController implements ResettableMVCMember {
     private ArgsModel model;
     private ArgsView view;
     @MVCMember @Nonnull
     private String arg1;
     private String arg2;
+    private boolean destroyed;
+    private boolean reset;
 
     @MVCMember
     public void setModel(@Nonnull ArgsModel model) {
@@ -62,4 +65,24 @@ public class ArgsController extends AbstractGriffonController {
     public void mvcGroupInit(@Nonnull Map<String, Object> args) {
         getMvcGroup().getContext().put("KEY", "VALUE");
     }
+
+    @Override
+    public void mvcGroupDestroy() {
+        destroyed = true;
+    }
+
+    public boolean isDestroyed() {
+        return destroyed;
+    }
+
+    @Override
+    public void mvcGroupReset() {
+        arg1 = null;
+        arg2 = null;
+        reset = true;
+    }
+
+    public boolean isReset() {
+        return reset;
+    }
 }
@@ -18,10 +18,14 @@
 package integration;
 
 import griffon.core.artifact.GriffonModel;
+import griffon.core.mvc.ResettableMVCMember;
 import org.codehaus.griffon.runtime.core.artifact.AbstractGriffonModel;
 import org.kordamp.jipsy.annotations.ServiceProviderFor;
 
 @ServiceProviderFor(GriffonModel.class)
-public class ArgsModel extends AbstractGriffonModel {
+public class ArgsModel extends AbstractGriffonModel implements ResettableMVCMember {
+    @Override
+    public void mvcGroupReset() {
 
+    }
 }
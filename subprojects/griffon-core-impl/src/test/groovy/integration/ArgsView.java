@@ -20,11 +20,12 @@ package integration;
 import griffon.annotations.core.Nonnull;
 import griffon.annotations.inject.MVCMember;
 import griffon.core.artifact.GriffonView;
+import griffon.core.mvc.ResettableMVCMember;
 import org.codehaus.griffon.runtime.core.artifact.AbstractGriffonView;
 import org.kordamp.jipsy.annotations.ServiceProviderFor;
 
 @ServiceProviderFor(GriffonView.class)
-public class ArgsView extends AbstractGriffonView implements Invokable {
+public class ArgsView extends AbstractGriffonView implements Invokable, ResettableMVCMember {
     private ArgsController controller;
     private ArgsModel model;
     private boolean invoked;
@@ -47,4 +48,9 @@ public class ArgsView extends AbstractGriffonView implements Invokable {
     public boolean isInvoked() {
         return invoked;
     }
+
+    @Override
+    public void mvcGroupReset() {
+
+    }
 }
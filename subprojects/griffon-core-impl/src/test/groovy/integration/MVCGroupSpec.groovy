@@ -600,6 +600,97 @@ class MVCGroupSpec extends Specification {
         thrown(MVCGroupInstantiationException)
     }
 
+    def 'Injection points are computed once per member class'() {
+        given:
+        def injectionPoints = application.mvcGroupManager.resolveInjectionPoints(ArgsController)
+
+        when:
+        application.mvcGroupManager.withMVCGroup('args', [arg1: 'value1', arg2: 'value2']) { MVCGroup group -> }
+        application.mvcGroupManager.withMVCGroup('args', [arg1: 'value3', arg2: 'value4']) { MVCGroup group ->
+            assert group.controller.arg1 == 'value3'
+            assert group.controller.arg2 == 'value4'
+        }
+
+        then:
+        injectionPoints.is(application.mvcGroupManager.resolveInjectionPoints(ArgsController))
+        injectionPoints*.name.containsAll(['arg1', 'arg2'])
+    }
+
+    def 'Members of pooled MVC groups are reused'() {
+        given:
+        def controllers = []
+        def members = [model: 'integration.ArgsModel', view: 'integration.ArgsView', controller: 'integration.ArgsController']
+        application.mvcGroupManager.addConfiguration(application.mvcGroupManager.newMVCGroupConfiguration('pooled', members, [pool: [size: 1]]))
+
+        when:
+        application.mvcGroupManager.withMVCGroup('pooled', [arg1: 'value1', arg2: 'value2']) { MVCGroup group ->
+            controllers << group.controller
+        }
+        application.mvcGroupManager.withMVCGroup('pooled', [arg1: 'value3', arg2: 'value4']) { MVCGroup group ->
+            controllers << group.controller
+            assert group.controller.arg1 == 'value3'
+            assert group.controller.arg2 == 'value4'
+            assert group.context.get('KEY') == 'VALUE'
+        }
+        def pool = application.mvcGroupManager.findPool('pooled')
+        application.mvcGroupManager.removeConfiguration('pooled')
+
+        then:
+        controllers[0].is(controllers[1])
+        controllers[0].reset
+        controllers[0].destroyed
+        pool.size == 0
+        pool.hitCount == 1
+        pool.missCount == 1
+        pool.recycledCount == 2
+        !application.mvcGroupManager.findPool('pooled')
+        !application.mvcGroupManager.findPool('args')
+    }
+
+    def 'Members of pooled MVC groups that can not be reset are not reused'() {
+        given:
+        def controllers = []
+        def members = [model: 'integration.RootModel', view: 'integration.RootView', controller: 'integration.RootController']
+        application.mvcGroupManager.addConfiguration(application.mvcGroupManager.newMVCGroupConfiguration('pooledRoot', members, [pool: [size: 1]]))
+
+        when:
+        application.mvcGroupManager.withMVCGroup('pooledRoot') { MVCGroup group ->
+            controllers << group.controller
+        }
+        application.mvcGroupManager.withMVCGroup('pooledRoot') { MVCGroup group ->
+            controllers << group.controller
+        }
+        def pool = application.mvcGroupManager.findPool('pooledRoot')
+        application.mvcGroupManager.removeConfiguration('pooledRoot')
+
+        then:
+        !controllers[0].is(controllers[1])
+        pool.size == 0
+        pool.hitCount == 0
+        pool.missCount == 2
+        pool.recycledCount == 0
+        pool.discardedCount == 2
+    }
+
+    def 'Members of pooled MVC groups with children are not reused'() {
+        given:
+        def members = [model: 'integration.RootModel', view: 'integration.RootView', controller: 'integration.RootController']
+        application.mvcGroupManager.addConfiguration(application.mvcGroupManager.newMVCGroupConfiguration('pooledRoot', members, [pool: [size: 1]]))
+
+        when:
+        MVCGroup root = application.mvcGroupManager.createMVCGroup('pooledRoot')
+        root.createMVCGroup('child', 'pooledChild')
+        root.destroy()
+        def pool = application.mvcGroupManager.findPool('pooledRoot')
+        application.mvcGroupManager.removeConfiguration('pooledRoot')
+
+        then:
+        !application.mvcGroupManager.findGroup('pooledChild')
+        pool.size == 0
+        pool.recycledCount == 0
+        pool.discardedCount == 1
+    }
+
     def 'Validate argument injections with property editor (field success)'() {
         given:
         MVCGroup root = application.mvcGroupManager.createMVCGroup('root')
@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package integration
+
+import griffon.annotations.event.EventHandler
+import griffon.core.BootstrapPhase
+import griffon.core.env.ApplicationPhase
+import griffon.core.events.BootstrapTimelineEvent
+import org.codehaus.griffon.runtime.core.AbstractApplicationBootstrapper
+import org.codehaus.griffon.runtime.core.DefaultApplicationBootstrapper
+import spock.lang.Specification
+
+class ParallelBootstrapSpec extends Specification {
+    static {
+        System.setProperty('org.slf4j.simpleLogger.defaultLogLevel', 'trace')
+    }
+
+    void cleanup() {
+        System.clearProperty(AbstractApplicationBootstrapper.KEY_PARALLEL)
+    }
+
+    def 'Modules and artifacts are loaded in parallel'() {
+        given:
+        System.setProperty(AbstractApplicationBootstrapper.KEY_PARALLEL, 'true')
+        TestGriffonApplication application = new TestGriffonApplication(['foo', 'bar'] as String[])
+        DefaultApplicationBootstrapper bootstrapper = new DefaultApplicationBootstrapper(application)
+        TimelineListener listener = new TimelineListener()
+
+        when:
+        bootstrapper.bootstrap()
+        application.eventRouter.subscribe(listener)
+        bootstrapper.run()
+        Map<String, BootstrapPhase> phases = bootstrapper.timeline.phases.collectEntries { [(it.name): it] }
+
+        then:
+        ApplicationPhase.MAIN == application.phase
+        application.injector.getInstance(IntegrationService).is(application.injector.getInstance(IntegrationService))
+        application.artifactManager.findGriffonClass(IntegrationController)
+        ['loadModules', 'loadArtifactClasses', 'createBindings', 'createInjector', 'harvestMetadata IntegrationService'].every { phases.containsKey(it) }
+        phases.loadModules.threadName.startsWith('griffon-bootstrap-')
+        phases.createBindings.threadName == Thread.currentThread().name
+        listener.phases*.name == bootstrapper.timeline.phases*.name
+
+        cleanup:
+        application.shutdown()
+    }
+
+    static class TimelineListener {
+        List<BootstrapPhase> phases = []
+
+        @EventHandler
+        void handleBootstrapTimelineEvent(BootstrapTimelineEvent event) {
+            phases.addAll(event.phases)
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package integration
+
+import griffon.core.env.ApplicationPhase
+import groovy.json.JsonSlurper
+import org.codehaus.griffon.runtime.core.DefaultApplicationBootstrapper
+import org.codehaus.griffon.runtime.core.StartupProfiler
+import spock.lang.Specification
+
+class StartupProfilerSpec extends Specification {
+    static {
+        System.setProperty('org.slf4j.simpleLogger.defaultLogLevel', 'trace')
+    }
+
+    void cleanup() {
+        System.clearProperty(StartupProfiler.KEY_ENABLED)
+        System.clearProperty(StartupProfiler.KEY_OUTPUT)
+    }
+
+    def 'Startup spans are written at shutdown'() {
+        given:
+        File file = File.createTempFile('startup', '.json')
+        System.setProperty(StartupProfiler.KEY_ENABLED, 'true')
+        System.setProperty(StartupProfiler.KEY_OUTPUT, file.absolutePath)
+        TestGriffonApplication application = new TestGriffonApplication(['foo', 'bar'] as String[])
+        DefaultApplicationBootstrapper bootstrapper = new DefaultApplicationBootstrapper(application)
+
+        when:
+        bootstrapper.bootstrap()
+        bootstrapper.run()
+        application.shutdown()
+        List<String> names = new JsonSlurper().parse(file).traceEvents.findAll { it.ph == 'X' }*.name
+
+        then:
+        ApplicationPhase.SHUTDOWN == application.phase
+        names.containsAll(['bootstrap', 'createBindings', 'createInjector', 'initialize', 'addonManager',
+                           'addon integration', 'lifecycleHandler Initialize', 'startup', 'ready'])
+
+        cleanup:
+        file.delete()
+    }
+}
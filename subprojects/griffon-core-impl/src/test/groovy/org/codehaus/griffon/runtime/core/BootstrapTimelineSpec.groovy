@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core
+
+import spock.lang.Specification
+
+import java.util.concurrent.Callable
+
+class BootstrapTimelineSpec extends Specification {
+    def 'Phases are recorded in start order'() {
+        given:
+        BootstrapTimeline timeline = new BootstrapTimeline()
+
+        when:
+        timeline.record('first', { Thread.sleep(5) } as Runnable)
+        Thread thread = Thread.start('worker') { timeline.record('second', { 'done' } as Runnable) }
+        thread.join()
+        String result = timeline.record('third', { 'value' } as Callable<String>)
+
+        then:
+        result == 'value'
+        timeline.phases*.name == ['first', 'second', 'third']
+        timeline.phases*.threadName == [Thread.currentThread().name, 'worker', Thread.currentThread().name]
+        timeline.phases[0].duration >= 5_000_000L
+        timeline.phases[1].startTime >= timeline.phases[0].startTime + timeline.phases[0].duration
+        timeline.report().readLines().size() == 4
+    }
+
+    def 'Failed phases are recorded'() {
+        given:
+        BootstrapTimeline timeline = new BootstrapTimeline()
+
+        when:
+        timeline.record('failure', { throw new IllegalStateException('boom') } as Runnable)
+
+        then:
+        thrown(IllegalStateException)
+        timeline.phases*.name == ['failure']
+    }
+
+    def 'Phase names must not be blank'() {
+        when:
+        new BootstrapTimeline().record(' ', {} as Runnable)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+}
@@ -22,12 +22,18 @@ import com.google.guiceberry.junit4.GuiceBerryRule
 import com.google.inject.AbstractModule
 import com.google.inject.Inject
 import griffon.core.ExecutorServiceManager
+import griffon.core.ExecutorServiceMetrics
 import org.junit.Rule
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
 import java.util.concurrent.ExecutorService
 import java.util.concurrent.Executors
+import java.util.concurrent.Future
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.TimeUnit
 
 @Unroll
 class ExecutorServiceManagerSpec extends Specification {
@@ -61,6 +67,70 @@ class ExecutorServiceManagerSpec extends Specification {
         s3.shutdown
     }
 
+    def 'Registered executors report metrics'() {
+        given:
+        ExecutorService raw = Executors.newFixedThreadPool(1)
+        ExecutorService executorService = executorServiceManager.add(raw)
+
+        when:
+        executorService.submit({ Thread.sleep(10) } as Runnable).get(5, TimeUnit.SECONDS)
+        executorService.submit({ 'done' } as Callable).get(5, TimeUnit.SECONDS)
+        ExecutorServiceMetrics metrics = executorServiceManager.getExecutorServiceMetrics(raw)
+
+        then:
+        executorService != raw
+        executorServiceManager.executorServiceMetrics.size() == 1
+        metrics.is(executorServiceManager.getExecutorServiceMetrics(executorService))
+        metrics.submittedCount == 2
+        metrics.completedCount == 2
+        metrics.activeCount == 0
+        metrics.queueSize == 0
+        metrics.runTime.count == 2
+        metrics.runTime.max >= TimeUnit.MILLISECONDS.toNanos(10)
+        metrics.runTime.getPercentile(100) >= metrics.runTime.getPercentile(50)
+        metrics.waitTime.count == 2
+
+        when:
+        raw.shutdown()
+        executorService.execute({} as Runnable)
+
+        then:
+        thrown(RejectedExecutionException)
+        metrics.rejectedCount == 1
+        metrics.submittedCount == 3
+        metrics.queueSize == 0
+    }
+
+    def 'Tasks cancelled before they start leave the queue'() {
+        given:
+        ExecutorService raw = Executors.newFixedThreadPool(1)
+        ExecutorService executorService = executorServiceManager.add(raw)
+        ExecutorServiceMetrics metrics = executorServiceManager.getExecutorServiceMetrics(raw)
+        CountDownLatch release = new CountDownLatch(1)
+
+        when:
+        Future<?> blocker = executorService.submit({ release.await() } as Runnable)
+        Future<?> queued = executorService.submit({} as Runnable)
+        queued.cancel(false)
+        List<Future<String>> futures = executorService.invokeAll([{ 'one' } as Callable<String>, { 'two' } as Callable<String>], 10, TimeUnit.MILLISECONDS)
+
+        then:
+        futures.every { it.cancelled }
+        metrics.queueSize == 0
+
+        when:
+        release.countDown()
+        blocker.get(5, TimeUnit.SECONDS)
+        raw.shutdown()
+        raw.awaitTermination(5, TimeUnit.SECONDS)
+
+        then:
+        metrics.submittedCount == 4
+        metrics.completedCount == 1
+        metrics.activeCount == 0
+        metrics.queueSize == 0
+    }
+
     static final class TestModule extends AbstractModule {
         @Override
         protected void configure() {
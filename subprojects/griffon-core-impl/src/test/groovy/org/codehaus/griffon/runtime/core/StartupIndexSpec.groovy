@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core
+
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class StartupIndexSpec extends Specification {
+    private final List<Path> roots = []
+
+    void cleanup() {
+        System.clearProperty(StartupIndex.KEY_STRICT)
+        System.clearProperty(StartupIndex.KEY_DISABLED)
+        roots.each { it.toFile().deleteDir() }
+    }
+
+    def 'Providers are read from the index'() {
+        given:
+        Path indexed = root(
+            (StartupIndex.INDEX_LOCATION): "# generated\n${Runnable.name}=java.lang.Thread\n${Runnable.name}=java.util.TimerTask\n")
+
+        when:
+        StartupIndex index = StartupIndex.of(classLoaderFor(indexed))
+
+        then:
+        index.available
+        index.getProviders(Runnable) == ['java.lang.Thread', 'java.util.TimerTask']
+        index.getProviders(Comparable).empty
+    }
+
+    def 'Entries without an index are scanned unless strict'() {
+        given:
+        Path indexed = root(
+            (StartupIndex.INDEX_LOCATION): "${Runnable.name}=java.lang.Thread\n",
+            ('META-INF/services/' + Runnable.name): "should.not.be.Read\n")
+        Path plain = root(('META-INF/services/' + Runnable.name): "java.lang.Thread\n# comment\njava.util.TimerTask\n")
+        if (strict) System.setProperty(StartupIndex.KEY_STRICT, 'true')
+
+        expect:
+        StartupIndex.of(classLoaderFor(indexed, plain)).getProviders(Runnable) == providers
+
+        where:
+        strict || providers
+        false  || ['java.lang.Thread', 'java.util.TimerTask']
+        true   || ['java.lang.Thread']
+    }
+
+    def 'Services are instantiated from the index'() {
+        given:
+        Path indexed = root((StartupIndex.INDEX_LOCATION): "${Runnable.name}=java.lang.Thread\n")
+
+        when:
+        List<Runnable> services = StartupIndex.of(classLoaderFor(indexed)).loadServices(Runnable)
+
+        then:
+        services*.class == [Thread]
+    }
+
+    def 'Scanning is used when no index is available'() {
+        given:
+        Path indexed = root((StartupIndex.INDEX_LOCATION): "${Runnable.name}=java.lang.Thread\n")
+        Path plain = root(('META-INF/services/' + Runnable.name): "java.util.TimerTask\n")
+        System.setProperty(StartupIndex.KEY_DISABLED, 'true')
+        List<String> lines = []
+
+        when:
+        StartupIndex index = StartupIndex.of(classLoaderFor(indexed, plain))
+        index.load(Runnable) { cl, type, line -> lines << line.trim() }
+
+        then:
+        !index.available
+        lines == ['java.util.TimerTask']
+    }
+
+    private Path root(Map<String, String> files) {
+        Path root = Files.createTempDirectory('startup-index')
+        roots << root
+        files.each { String path, String content ->
+            Path file = root.resolve(path)
+            Files.createDirectories(file.parent)
+            file.toFile().text = content
+        }
+        root
+    }
+
+    private static ClassLoader classLoaderFor(Path... roots) {
+        new URLClassLoader(roots*.toUri()*.toURL() as URL[], (ClassLoader) null)
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core
+
+import griffon.core.GriffonApplication
+import griffon.core.injection.Injector
+import griffon.exceptions.InstanceNotFoundException
+import groovy.json.JsonSlurper
+import spock.lang.Specification
+
+class StartupProfilerSpec extends Specification {
+    def 'Disabled profilers do not record spans'() {
+        given:
+        StartupProfiler profiler = new StartupProfiler()
+        StringWriter writer = new StringWriter()
+
+        when:
+        profiler.span('one', 'test').close()
+        profiler.writeChromeTrace(writer)
+
+        then:
+        !profiler.enabled
+        new JsonSlurper().parseText(writer.toString()).traceEvents == []
+    }
+
+    def 'Nested spans are written as Chrome trace events'() {
+        given:
+        StartupProfiler profiler = new StartupProfiler(true, null)
+        StringWriter writer = new StringWriter()
+
+        when:
+        StartupProfiler.Span outer = profiler.span('outer "span"', 'test')
+        StartupProfiler.Span inner = profiler.span('inner', 'test')
+        Thread.sleep(2)
+        inner.close()
+        outer.close()
+        Thread.start('worker') { profiler.span('other', 'test').close() }.join()
+        profiler.writeChromeTrace(writer)
+        List<Map> events = new JsonSlurper().parseText(writer.toString()).traceEvents
+
+        then:
+        events.findAll { it.ph == 'M' }*.args*.name == [Thread.currentThread().name, 'worker']
+        List<Map> spans = events.findAll { it.ph == 'X' }
+        spans*.name == ['outer "span"', 'inner', 'other']
+        spans[0].ts <= spans[1].ts
+        spans[0].ts + spans[0].dur >= spans[1].ts + spans[1].dur
+        spans[1].dur >= 2000
+        spans[0].tid == spans[1].tid
+        spans[0].tid != spans[2].tid
+    }
+
+    def 'Spans are written to a file'() {
+        given:
+        File file = File.createTempFile('startup', '.json')
+        StartupProfiler profiler = new StartupProfiler(true, file.absolutePath)
+
+        when:
+        profiler.span('one', 'test').close()
+        profiler.writeChromeTrace(file.toPath())
+
+        then:
+        profiler.output == file.absolutePath
+        new JsonSlurper().parse(file).traceEvents.find { it.ph == 'X' }.name == 'one'
+
+        cleanup:
+        file.delete()
+    }
+
+    def 'Prefixed span names are only built when enabled'() {
+        given:
+        StartupProfiler profiler = new StartupProfiler(true, null)
+        StringWriter writer = new StringWriter()
+
+        when:
+        profiler.span('addon', 'foo', 'addon').close()
+        profiler.writeChromeTrace(writer)
+
+        then:
+        new JsonSlurper().parseText(writer.toString()).traceEvents.find { it.ph == 'X' }.name == 'addon foo'
+        new StartupProfiler().span('addon', 'foo', 'addon').is(new StartupProfiler().span('mvcGroup', 'bar', 'mvc'))
+    }
+
+    def 'Profilers not bound to the injector are disabled'() {
+        given:
+        Injector injector = Mock(Injector)
+        GriffonApplication application = Mock(GriffonApplication) {
+            getInjector() >> injector
+        }
+
+        when:
+        StartupProfiler profiler = StartupProfiler.of(application)
+
+        then:
+        1 * injector.getInstance(StartupProfiler) >> { throw new InstanceNotFoundException(StartupProfiler) }
+        !profiler.enabled
+    }
+
+    def 'Injector failures other than missing bindings are not swallowed'() {
+        given:
+        Injector injector = Mock(Injector)
+        GriffonApplication application = Mock(GriffonApplication) {
+            getInjector() >> injector
+        }
+        injector.getInstance(StartupProfiler) >> { throw new IllegalStateException('boom') }
+
+        when:
+        StartupProfiler.of(application)
+
+        then:
+        thrown(IllegalStateException)
+    }
+}
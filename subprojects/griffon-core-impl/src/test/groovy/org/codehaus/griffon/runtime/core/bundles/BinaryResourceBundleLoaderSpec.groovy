@@ -0,0 +1,171 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.bundles
+
+import griffon.core.bundles.CompositeResourceBundleBuilder
+import griffon.core.bundles.ResourceBundleLoader
+import griffon.core.injection.Injector
+import griffon.core.resources.ResourceHandler
+import spock.lang.Specification
+
+import javax.inject.Provider
+import java.nio.ByteBuffer
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.Paths
+import java.util.zip.ZipEntry
+import java.util.zip.ZipOutputStream
+
+class BinaryResourceBundleLoaderSpec extends Specification {
+    private final BinaryResourceBundleWriter writer = new BinaryResourceBundleWriter()
+    private final ResourceBundleReader reader = new ResourceBundleReader()
+    private Path root
+
+    def setup() {
+        root = Files.createTempDirectory('binary-bundles')
+        reader.registerConditionalBlock('environments', 'development')
+    }
+
+    def 'Load bundle converted from #source'() {
+        given:
+        writer.write(writer.read(Paths.get(getClass().getResource('/org/codehaus/griffon/runtime/util/' + source).toURI())), root.resolve('Bundle.gbundle'))
+        BinaryResourceBundleLoader loader = new BinaryResourceBundleLoader(resourceHandler(root.resolve('Bundle.gbundle').toUri().toURL()), reader)
+
+        when:
+        Collection<ResourceBundle> bundles = loader.load('Bundle')
+
+        then:
+        bundles.size() == 1
+        bundles[0].getString('string') == 'string'
+        bundles[0].getString('integer') == '42'
+        bundles[0].getString('keys.bar') == 'bar'
+        bundles[0].getString('foo') == 'dev'
+        !bundles[0].containsKey('environments.test.foo')
+
+        where:
+        source << ['PropertiesBundle.properties', 'XmlBundle.xml']
+    }
+
+    def 'Bundles inside archives are loaded'() {
+        given:
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream()
+        writer.write([greeting: 'hello'], bytes)
+        Path archive = root.resolve('bundles.jar')
+        new ZipOutputStream(Files.newOutputStream(archive)).withCloseable { ZipOutputStream zip ->
+            zip.putNextEntry(new ZipEntry('Bundle.gbundle'))
+            zip.write(bytes.toByteArray())
+            zip.closeEntry()
+        }
+        URL url = new URL("jar:${archive.toUri()}!/Bundle.gbundle")
+        BinaryResourceBundleLoader loader = new BinaryResourceBundleLoader(resourceHandler(url), reader)
+
+        when:
+        Collection<ResourceBundle> bundles = loader.load('Bundle')
+
+        then:
+        bundles.size() == 1
+        bundles[0] instanceof BinaryResourceBundle
+        bundles[0].getString('greeting') == 'hello'
+    }
+
+    def 'Invalid bundles are skipped'() {
+        given:
+        Path file = root.resolve('Bundle.gbundle')
+        file.text = 'not a bundle'
+        BinaryResourceBundleLoader loader = new BinaryResourceBundleLoader(resourceHandler(file.toUri().toURL()), reader)
+
+        expect:
+        loader.load('Bundle').isEmpty()
+    }
+
+    def 'Keys are resolved through the index'() {
+        given:
+        Map<String, String> entries = [:]
+        (0..<1000).each { int i -> entries["key.${i}".toString()] = "value ${i} ä".toString() }
+        entries['empty'] = ''
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream()
+        writer.write(entries, bytes)
+
+        when:
+        BinaryResourceBundle bundle = new BinaryResourceBundle(ByteBuffer.wrap(bytes.toByteArray()))
+
+        then:
+        bundle.size() == 1001
+        (0..<1000).every { int i -> bundle.getString("key.${i}") == "value ${i} ä" }
+        bundle.getString('empty') == ''
+        bundle.keySet() == entries.keySet()
+        !bundle.containsKey('key.1000')
+        bundle.hasKeyWithPrefix('key.')
+        !bundle.hasKeyWithPrefix('environments.')
+
+        when:
+        bundle.getString('key.1000')
+
+        then:
+        thrown(MissingResourceException)
+    }
+
+    def 'Bundles created by the composite builder are neither copied nor expanded'() {
+        given:
+        Path file = root.resolve('Bundle.gbundle')
+        writer.write([greeting: 'hello', 'keys.foo': 'foo'], file)
+        BinaryResourceBundleLoader loader = new BinaryResourceBundleLoader(resourceHandler(file.toUri().toURL()), reader)
+        ResourceBundleLoader brokenLoader = Stub(ResourceBundleLoader) {
+            load('Bundle') >> [new BrokenBundle(), new PropertyResourceBundle(new StringReader('farewell=bye'))]
+        }
+        Injector injector = Stub(Injector) {
+            getInstances(ResourceBundleLoader) >> [loader, brokenLoader]
+        }
+        CompositeResourceBundleBuilder builder = new DefaultCompositeResourceBundleBuilder({ injector } as Provider<Injector>)
+
+        when:
+        ResourceBundle bundle = builder.create('Bundle', Locale.ROOT)
+
+        then:
+        bundle instanceof CompositeResourceBundle
+        bundle.@bundles.find { it instanceof BinaryResourceBundle }
+        bundle.getString('greeting') == 'hello'
+        bundle.getString('keys.foo') == 'foo'
+        bundle.getString('farewell') == 'bye'
+        !bundle.containsKey('keys')
+        bundle.keySet() == ['greeting', 'keys.foo', 'farewell'] as Set
+    }
+
+    private ResourceHandler resourceHandler(URL url) {
+        Stub(ResourceHandler) {
+            getResources('Bundle.gbundle') >> [url]
+        }
+    }
+}
+
+class BrokenBundle extends BinaryResourceBundle {
+    BrokenBundle() {
+        super(brokenBuffer())
+    }
+
+    @Override
+    protected Object handleGetObject(String key) {
+        throw new IllegalStateException(key)
+    }
+
+    private static ByteBuffer brokenBuffer() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream()
+        new BinaryResourceBundleWriter().write([greeting: 'broken', farewell: 'broken'], bytes)
+        ByteBuffer.wrap(bytes.toByteArray())
+    }
+}
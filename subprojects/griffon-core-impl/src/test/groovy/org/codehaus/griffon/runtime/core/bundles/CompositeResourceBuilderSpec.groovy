@@ -50,4 +50,38 @@ class CompositeResourceBuilderSpec extends Specification {
         'key.number' | 'number'
         'key.float'  | 'float'
     }
+
+    def 'First bundle wins when keys overlap'() {
+        given:
+        ResourceBundle bundle = new CompositeResourceBundle([
+            properties('greeting=hello\nshared=first'),
+            properties('shared=second\nfarewell=bye')
+        ])
+
+        expect:
+        bundle.getString('greeting') == 'hello'
+        bundle.getString('shared') == 'first'
+        bundle.getString('farewell') == 'bye'
+        bundle.keySet() == ['greeting', 'shared', 'farewell'] as Set
+        Collections.list(bundle.keys).size() == 3
+    }
+
+    def 'Missing keys are reported with MissingResourceException'() {
+        given:
+        ResourceBundle bundle = new CompositeResourceBundle([new MapResourceBundle(), new MapResourceBundle2()])
+
+        when:
+        bundle.getString('key.missing')
+
+        then:
+        thrown(MissingResourceException)
+
+        and:
+        !bundle.containsKey('key.missing')
+        bundle.containsKey('key.float')
+    }
+
+    private static ResourceBundle properties(String content) {
+        new PropertyResourceBundle(new StringReader(content))
+    }
 }
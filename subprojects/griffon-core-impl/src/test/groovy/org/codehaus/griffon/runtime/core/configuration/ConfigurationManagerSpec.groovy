@@ -0,0 +1,177 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.configuration
+
+import griffon.annotations.configuration.Configured
+import griffon.annotations.core.Nonnull
+import griffon.annotations.core.Nullable
+import griffon.converter.Converter
+import griffon.converter.NoopConverter
+import griffon.core.Configuration
+import griffon.core.MutableConfiguration
+import griffon.exceptions.GriffonException
+import org.codehaus.griffon.converter.DefaultConverterRegistry
+import org.codehaus.griffon.runtime.core.bundles.AbstractMapResourceBundle
+import spock.lang.Specification
+
+class ConfigurationManagerSpec extends Specification {
+    def 'Configuration descriptors are harvested once per class'() {
+        given:
+        TestConfigurationManager manager = new TestConfigurationManager()
+
+        when:
+        SubBean first = new SubBean()
+        SubBean second = new SubBean()
+        manager.injectConfiguration(first)
+        manager.injectConfiguration(second)
+        manager.injectConfiguration(new Object())
+
+        then:
+        manager.harvestedClasses.count(SubBean) == 1
+        manager.harvestedClasses.count(BaseBean) == 1
+        first.name == 'griffon'
+        first.port == 8080
+        second.name == 'griffon'
+        second.port == 8080
+    }
+
+    def 'Converted values are reused until the configuration changes'() {
+        given:
+        TestConfigurationManager manager = new TestConfigurationManager()
+        SubBean bean = new SubBean()
+
+        when:
+        manager.injectConfiguration(bean)
+        manager.injectConfiguration(bean)
+
+        then:
+        manager.conversions.count('app.port') == 1
+        bean.port == 8080
+
+        when:
+        manager.configuration.set('app.port', '9090')
+        manager.injectConfiguration(bean)
+
+        then:
+        manager.conversions.count('app.port') == 2
+        bean.port == 9090
+    }
+
+    def 'Mutable converted values are not shared between instances'() {
+        given:
+        TestConfigurationManager manager = new TestConfigurationManager()
+        SubBean first = new SubBean()
+        SubBean second = new SubBean()
+
+        when:
+        manager.injectConfiguration(first)
+        manager.injectConfiguration(second)
+
+        then:
+        manager.conversions.count('app.date') == 2
+        first.date == second.date
+        !first.date.is(second.date)
+    }
+
+    def 'Missing converters are reported apart from converters that can not be instantiated'() {
+        given:
+        TestConfigurationManager manager = new TestConfigurationManager()
+
+        when:
+        manager.resolveConverter(Thread, null, NoopConverter)
+
+        then:
+        GriffonException missing = thrown(GriffonException)
+        missing.message == 'Could not find a converter for java.lang.Thread'
+
+        when:
+        manager.resolveConverter(Integer, null, BrokenConverter)
+
+        then:
+        GriffonException broken = thrown(GriffonException)
+        broken.message.startsWith('Could not instantiate converter with')
+    }
+
+    static class TestConfigurationManager extends AbstractConfigurationManager {
+        final MutableConfiguration configuration = new DelegatingMutableConfiguration(new ResourceBundleConfiguration(new DefaultConverterRegistry(), new TestResourceBundle()))
+        final List<Class<?>> harvestedClasses = []
+        final List<String> conversions = []
+
+        TestConfigurationManager() {
+            converterRegistry = new DefaultConverterRegistry()
+        }
+
+        @Nonnull
+        @Override
+        Configuration getConfiguration() {
+            configuration
+        }
+
+        @Nonnull
+        @Override
+        Configuration getConfiguration(@Nonnull String name) {
+            configuration
+        }
+
+        @Override
+        protected void harvestDescriptors(@Nonnull Class<?> instanceClass, @Nonnull Class<?> currentClass, @Nonnull Object instance, @Nonnull Map<String, ConfigurationDescriptor> descriptors) {
+            harvestedClasses << currentClass
+            super.harvestDescriptors(instanceClass, currentClass, instance, descriptors)
+        }
+
+        @Nonnull
+        @Override
+        protected Object convertValue(@Nonnull Class<?> type, @Nonnull Object value, @Nullable String format, @Nonnull Class<? extends Converter> converter) {
+            conversions << (type == Integer.TYPE ? 'app.port' : 'app.date')
+            super.convertValue(type, value, format, converter)
+        }
+    }
+
+    static class BrokenConverter implements Converter<Integer> {
+        BrokenConverter() {
+            throw new IllegalStateException('broken')
+        }
+
+        @Override
+        Integer fromObject(Object value) {
+            null
+        }
+    }
+
+    static class TestResourceBundle extends AbstractMapResourceBundle {
+        @Override
+        protected void initialize(@Nonnull Map<String, Object> entries) {
+            entries['app.name'] = 'griffon'
+            entries['app.port'] = '8080'
+            entries['app.date'] = '01/01/2000'
+        }
+    }
+
+    static class BaseBean {
+        @Configured('app.name')
+        String name
+    }
+
+    static class SubBean extends BaseBean {
+        @Configured('app.port')
+        int port
+
+        @Configured(value = 'app.date', format = 'dd/MM/yyyy')
+        Date date
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.configuration
+
+import griffon.annotations.core.Nonnull
+import griffon.core.util.ConfigUtils
+import org.codehaus.griffon.converter.DefaultConverterRegistry
+import org.codehaus.griffon.runtime.core.bundles.AbstractMapResourceBundle
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+@Unroll
+class ResourceBundleConfigurationSpec extends Specification {
+    @Shared
+    private ResourceBundle resourceBundle = new NestedResourceBundle()
+
+    @Shared
+    private ResourceBundleConfiguration configuration = new ResourceBundleConfiguration(new DefaultConverterRegistry(), resourceBundle)
+
+    def 'Calling get(#key) matches ConfigUtils.getConfigValue()'() {
+        expect:
+        expectedValue == configuration.get(key)
+        expectedValue == lookup(key)
+
+        where:
+        key                 || expectedValue
+        'single'            || 'single'
+        'flat.key'          || 'flat'
+        'nested.key'        || 'nested'
+        'nested.child.leaf' || 'leaf'
+        'nested.child'      || [leaf: 'leaf']
+        'nested.child.'     || [leaf: 'leaf']
+        'shadow.key'        || 'flat wins'
+        'nested.missing'    || null
+        'missing'           || null
+    }
+
+    def 'Typed getters read from nested maps'() {
+        expect:
+        configuration.getAsBoolean('nested.flag')
+        configuration.getAsInt('nested.number') == 42
+        configuration.getAsInt('nested.missing', 7) == 7
+    }
+
+    private Object lookup(String key) {
+        try {
+            return ConfigUtils.getConfigValue(resourceBundle, key)
+        } catch (MissingResourceException ignored) {
+            return null
+        }
+    }
+
+    static class NestedResourceBundle extends AbstractMapResourceBundle {
+        @Override
+        protected void initialize(@Nonnull Map<String, Object> entries) {
+            entries['single'] = 'single'
+            entries['flat.key'] = 'flat'
+            entries['shadow.key'] = 'flat wins'
+            entries['shadow'] = [key: 'nested loses']
+            entries['nested'] = [
+                key   : 'nested',
+                flag  : 'true',
+                number: 42,
+                child : [leaf: 'leaf']
+            ]
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.controller
+
+import griffon.exceptions.InstanceMethodInvocationException
+import org.codehaus.griffon.runtime.core.artifact.AbstractGriffonController
+import spock.lang.Specification
+
+class ActionInvokerSpec extends Specification {
+    def 'Invoke an action with matching arguments'() {
+        given:
+        InvokerController controller = new InvokerController()
+        ActionInvoker invoker = ActionInvoker.of(controller, InvokerController.getMethod('greet', String, int))
+
+        when:
+        Object[] args = invoker.resolveArguments(['Griffon', 2] as Object[])
+        invoker.invoke(args)
+
+        then:
+        controller.invocations == ['Griffon:2']
+        !invoker.resolveArguments(['Griffon', null] as Object[])
+        !invoker.resolveArguments(['Griffon'] as Object[])
+    }
+
+    def 'EventObject arguments are dropped for actions without parameters'() {
+        given:
+        InvokerController controller = new InvokerController()
+        ActionInvoker invoker = ActionInvoker.of(controller, InvokerController.getMethod('click'))
+
+        when:
+        Object[] args = invoker.resolveArguments([new EventObject(this)] as Object[])
+        invoker.invoke(args)
+
+        then:
+        args.length == 0
+        controller.invocations == ['click']
+        !invoker.resolveArguments(['click'] as Object[])
+    }
+
+    def 'Exceptions thrown by actions are wrapped'() {
+        given:
+        ActionInvoker invoker = ActionInvoker.of(new InvokerController(), InvokerController.getMethod('fail'))
+
+        when:
+        invoker.invoke(new Object[0])
+
+        then:
+        InstanceMethodInvocationException e = thrown()
+        e.cause instanceof IllegalStateException
+    }
+
+    def 'Overloaded actions have no invoker'() {
+        expect:
+        !ActionInvoker.of(new InvokerController(), InvokerController.getMethod('overloaded'))
+    }
+
+    static class InvokerController extends AbstractGriffonController {
+        List<String> invocations = []
+
+        void greet(String name, int times) {
+            invocations << name + ':' + times
+        }
+
+        void click() {
+            invocations << 'click'
+        }
+
+        void fail() {
+            throw new IllegalStateException('boom')
+        }
+
+        void overloaded() {}
+
+        void overloaded(String arg) {}
+    }
+}
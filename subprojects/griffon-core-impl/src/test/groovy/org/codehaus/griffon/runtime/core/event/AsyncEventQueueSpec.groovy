@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.event
+
+import spock.lang.Specification
+
+import java.util.concurrent.Executor
+
+import static org.codehaus.griffon.runtime.core.event.AsyncEventQueue.OverflowPolicy.BLOCK
+import static org.codehaus.griffon.runtime.core.event.AsyncEventQueue.OverflowPolicy.CALLER_RUNS
+import static org.codehaus.griffon.runtime.core.event.AsyncEventQueue.OverflowPolicy.DROP_OLDEST
+
+class AsyncEventQueueSpec extends Specification {
+    private final List<Runnable> drainers = []
+    private final Executor executor = { Runnable r -> drainers << r } as Executor
+
+    def 'Pending publications are dispatched by the executor'() {
+        given:
+        List<String> published = []
+        AsyncEventQueue queue = new AsyncEventQueue(executor, 0, 1, DROP_OLDEST)
+
+        when:
+        queue.submit({ published << 'one' } as Runnable)
+        queue.submit({ published << 'two' } as Runnable)
+
+        then:
+        drainers.size() == 1
+        queue.queueSize == 2
+
+        when:
+        runDrainers()
+
+        then:
+        published == ['one', 'two']
+        queue.queueSize == 0
+        queue.submittedCount == 2
+    }
+
+    def 'Oldest publications are dropped when the queue is full'() {
+        given:
+        List<String> published = []
+        AsyncEventQueue queue = new AsyncEventQueue(executor, 2, 1, DROP_OLDEST)
+
+        when:
+        ['one', 'two', 'three'].each { String s -> queue.submit({ published << s } as Runnable) }
+        runDrainers()
+
+        then:
+        published == ['two', 'three']
+        queue.droppedCount == 1
+    }
+
+    def 'Publications run in the caller thread when the queue is full'() {
+        given:
+        List<String> published = []
+        AsyncEventQueue queue = new AsyncEventQueue(executor, 1, 1, CALLER_RUNS)
+
+        when:
+        ['one', 'two'].each { String s -> queue.submit({ published << s } as Runnable) }
+
+        then:
+        published == ['two']
+        queue.callerRunsCount == 1
+
+        when:
+        runDrainers()
+
+        then:
+        published == ['two', 'one']
+    }
+
+    def 'Pending publications with the same key are coalesced'() {
+        given:
+        List<String> published = []
+        AsyncEventQueue queue = new AsyncEventQueue(executor, 0, 1, DROP_OLDEST)
+
+        when:
+        ['one', 'two', 'three'].each { String s -> queue.submit('key', { published << s } as Runnable) }
+        queue.submit('other', { published << 'other' } as Runnable)
+        runDrainers()
+
+        then:
+        published == ['three', 'other']
+        queue.coalescedCount == 2
+
+        when:
+        queue.submit('key', { published << 'four' } as Runnable)
+        runDrainers()
+
+        then:
+        published == ['three', 'other', 'four']
+    }
+
+    def 'Dropped coalescing slots do not swallow later publications'() {
+        given:
+        List<String> published = []
+        AsyncEventQueue queue = new AsyncEventQueue(executor, 1, 1, DROP_OLDEST)
+
+        when:
+        queue.submit('key', { published << 'one' } as Runnable)
+        queue.submit({ published << 'two' } as Runnable)
+        queue.submit('key', { published << 'three' } as Runnable)
+        runDrainers()
+
+        then:
+        published == ['three']
+        queue.droppedCount == 2
+        queue.coalescedCount == 0
+    }
+
+    def 'Failures are reported to the exception handler'() {
+        given:
+        List<Throwable> failures = []
+        AsyncEventQueue queue = new AsyncEventQueue(executor, 0, 1, BLOCK, { Thread t, Throwable e -> failures << e } as Thread.UncaughtExceptionHandler)
+        List<String> published = []
+
+        when:
+        queue.submit({ throw new IllegalStateException('boom') } as Runnable)
+        queue.submit({ published << 'two' } as Runnable)
+        runDrainers()
+
+        then:
+        failures*.message == ['boom']
+        published == ['two']
+    }
+
+    def 'Publications made by a drain task do not block on a full queue'() {
+        given:
+        List<String> published = []
+        AsyncEventQueue queue = new AsyncEventQueue(executor, 1, 1, BLOCK)
+
+        when:
+        queue.submit({
+            queue.submit({ published << 'two' } as Runnable)
+            queue.submit({ published << 'three' } as Runnable)
+            published << 'one'
+        } as Runnable)
+        runDrainers()
+
+        then:
+        published == ['three', 'one', 'two']
+        queue.callerRunsCount == 1
+        queue.queueSize == 0
+    }
+
+    private void runDrainers() {
+        List<Runnable> pending = new ArrayList<>(drainers)
+        drainers.clear()
+        pending*.run()
+    }
+}
@@ -20,7 +20,10 @@ package org.codehaus.griffon.runtime.core.event
 import com.google.guiceberry.GuiceBerryModule
 import com.google.guiceberry.junit4.GuiceBerryRule
 import com.google.inject.AbstractModule
+import griffon.annotations.event.EventFilter
 import griffon.annotations.event.EventHandler
+import griffon.annotations.event.EventMetadata
+import griffon.annotations.inject.Prototype
 import griffon.core.ExceptionHandler
 import griffon.core.ExecutorServiceManager
 import griffon.core.Instantiator
@@ -124,6 +127,89 @@ class DefaultEventRouterSpec extends Specification {
     }
     */
 
+    def 'Subscribing and unsubscribing between publications updates the dispatch plan'() {
+        given:
+        TestMyEvent1Handler eventHandler1 = new TestMyEvent1Handler()
+        TestEventHandler eventHandler2 = new TestEventHandler()
+        eventRouter.subscribe(eventHandler1)
+
+        when:
+        eventRouter.publishEvent(new MyEvent1())
+        eventRouter.subscribe(eventHandler2)
+        eventRouter.publishEvent(new MyEvent1())
+        eventRouter.unsubscribe(eventHandler1)
+        eventRouter.publishEvent(new MyEvent1())
+
+        then:
+        eventHandler1.called == 2
+        eventHandler2.called == 2
+    }
+
+    def 'Event handlers of a listener are invoked by priority'() {
+        given:
+        TestPriorityEventHandler eventHandler = new TestPriorityEventHandler()
+        eventRouter.subscribe(eventHandler)
+
+        when:
+        eventRouter.publishEvent(new MyEvent1())
+
+        then:
+        eventHandler.invocations == ['first', 'second', 'third']
+    }
+
+    def 'Event filters are instantiated once per handler method unless marked as prototype'() {
+        given:
+        AcceptingEventFilter.instances = 0
+        PrototypeEventFilter.instances = 0
+        TestFilteredEventHandler eventHandler = new TestFilteredEventHandler()
+        eventRouter.subscribe(eventHandler)
+
+        when:
+        3.times { eventRouter.publishEvent(new MyEvent1()) }
+
+        then:
+        eventHandler.accepted == 3
+        eventHandler.rejected == 0
+        AcceptingEventFilter.instances == 2
+        PrototypeEventFilter.instances == 3
+    }
+
+    def 'Event filter evaluations and rejections are counted'() {
+        given:
+        TestFilteredEventHandler eventHandler = new TestFilteredEventHandler()
+        eventRouter.subscribe(eventHandler)
+
+        when:
+        2.times { eventRouter.publishEvent(new MyEvent1()) }
+        Map<Class, AbstractEventRouter.EventFilterStatistics> statistics = ((AbstractEventRouter) eventRouter).eventFilterStatistics
+            .collectEntries { [(it.filterClass): it] }
+
+        then:
+        statistics[AcceptingEventFilter].evaluations == 4
+        statistics[AcceptingEventFilter].rejections == 0
+        statistics[RejectingEventFilter].evaluations == 2
+        statistics[RejectingEventFilter].rejections == 2
+    }
+
+    def 'Deprecated applyFilters reuses the filters resolved for dispatch'() {
+        given:
+        AcceptingEventFilter.instances = 0
+        TestFilteredEventHandler eventHandler = new TestFilteredEventHandler()
+        eventRouter.subscribe(eventHandler)
+        eventRouter.publishEvent(new MyEvent1())
+        AbstractEventRouter router = (AbstractEventRouter) eventRouter
+        EventMetadata<MyEvent1> metadata = router.createEventMetadata(new MyEvent1())
+
+        when:
+        boolean accepted = router.applyFilters(TestFilteredEventHandler.getMethod('handleAccepted', MyEvent1), metadata)
+        boolean rejected = router.applyFilters(TestFilteredEventHandler.getMethod('handleRejected', MyEvent1), metadata)
+
+        then:
+        accepted
+        !rejected
+        AcceptingEventFilter.instances == 2
+    }
+
     def 'Register and unregister an invalid listener'() {
         given:
         Object eventHandler = new Object()
@@ -218,6 +304,74 @@ class DefaultEventRouterSpec extends Specification {
         }
     }
 
+    static class TestPriorityEventHandler {
+        List<String> invocations = []
+
+        @EventHandler(priority = 3)
+        void handleThird(MyEvent1 event) {
+            invocations << 'third'
+        }
+
+        @EventHandler(priority = 1)
+        void handleFirst(MyEvent1 event) {
+            invocations << 'first'
+        }
+
+        @EventHandler(priority = 2)
+        void handleSecond(MyEvent1 event) {
+            invocations << 'second'
+        }
+    }
+
+    static class TestFilteredEventHandler {
+        int accepted
+        int rejected
+
+        @EventHandler(filters = [AcceptingEventFilter, PrototypeEventFilter])
+        void handleAccepted(MyEvent1 event) {
+            accepted++
+        }
+
+        @EventHandler(filters = [AcceptingEventFilter, RejectingEventFilter])
+        void handleRejected(MyEvent1 event) {
+            rejected++
+        }
+    }
+
+    static class AcceptingEventFilter implements EventFilter<MyEvent1> {
+        static int instances
+
+        AcceptingEventFilter() {
+            instances++
+        }
+
+        @Override
+        Boolean apply(EventMetadata<MyEvent1> metadata) {
+            true
+        }
+    }
+
+    static class RejectingEventFilter implements EventFilter<MyEvent1> {
+        @Override
+        Boolean apply(EventMetadata<MyEvent1> metadata) {
+            false
+        }
+    }
+
+    @Prototype
+    static class PrototypeEventFilter implements EventFilter<MyEvent1> {
+        static int instances
+
+        PrototypeEventFilter() {
+            instances++
+        }
+
+        @Override
+        Boolean apply(EventMetadata<MyEvent1> metadata) {
+            true
+        }
+    }
+
     static class MyEvent1 extends Event {
     }
 
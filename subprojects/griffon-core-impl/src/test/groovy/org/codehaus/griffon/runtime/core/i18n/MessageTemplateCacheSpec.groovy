@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.i18n
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.text.MessageFormat
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+class MessageTemplateCacheSpec extends Specification {
+    @Unroll
+    def "Positional pattern '#pattern' is formatted like MessageFormat"() {
+        given:
+        MessageTemplateCache cache = new MessageTemplateCache()
+        Object[] arguments = args as Object[]
+
+        expect:
+        cache.format(pattern, locale, arguments) == new MessageFormat(pattern, locale).format(arguments)
+        cache.format(pattern, locale, arguments) == new MessageFormat(pattern, locale).format(arguments)
+
+        where:
+        pattern                                 | locale         | args
+        'Hello {0}'                             | Locale.ENGLISH | ['World']
+        '{1} and {0}, } alone'                  | Locale.ENGLISH | ['one', 'two']
+        'Missing {2} and {0}'                   | Locale.ENGLISH | ['one']
+        'Null {0} and {1}'                      | Locale.ENGLISH | [null, new StringBuilder('sb')]
+        'Number {0}'                            | Locale.ENGLISH | [1234567]
+        'Number {0}'                            | Locale.GERMAN  | [1234.5]
+        'Date {0}'                              | Locale.ENGLISH | [new Date(0L)]
+        "It''s {0}"                             | Locale.ENGLISH | ['quoted']
+        "It's {0}"                              | Locale.ENGLISH | ['quoted']
+        'Typed {0,number,#.##}'                 | Locale.ENGLISH | [3.14159]
+        '{0,choice,0#none|1#one|1<many {0}}'    | Locale.ENGLISH | [2]
+        'No placeholders'                       | Locale.ENGLISH | ['unused']
+    }
+
+    def 'Invalid positional patterns fail like MessageFormat'() {
+        when:
+        new MessageTemplateCache().format('Unmatched {0', Locale.ENGLISH, ['x'] as Object[])
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    @Unroll
+    def "Named pattern '#pattern' is formatted"() {
+        expect:
+        new MessageTemplateCache().format(pattern, args) == result
+
+        where:
+        pattern                      | args                        | result
+        'key = {:value}'             | [value: 'value']            | 'key = value'
+        'key = {:value}'             | [value: null]               | 'key = {:value}'
+        '{:a} {:b} {:a} {:missing}'  | [a: 1, b: 'two']            | '1 two 1 {:missing}'
+        'plain {0} text {:'          | [value: 'value']            | 'plain {0} text {:'
+    }
+
+    def 'Templates are reused and counted'() {
+        given:
+        MessageTemplateCache cache = new MessageTemplateCache()
+
+        when:
+        cache.format('Hello {0}', Locale.ENGLISH, ['one'] as Object[])
+        cache.format('Hello {0}', Locale.ENGLISH, ['two'] as Object[])
+        cache.format('Hello {0}', Locale.GERMAN, ['three'] as Object[])
+        cache.format('Hello {:name}', [name: 'four'])
+        cache.format('Hello {:name}', [name: 'five'])
+
+        then:
+        cache.missCount == 3
+        cache.hitCount == 2
+        cache.size == 3
+    }
+
+    def 'Cache size is bounded'() {
+        given:
+        MessageTemplateCache cache = new MessageTemplateCache(2)
+
+        when:
+        (1..5).each { cache.format("Message $it {0}".toString(), Locale.ENGLISH, ['x'] as Object[]) }
+
+        then:
+        cache.size == 2
+        cache.evictionCount == 3
+        cache.missCount == 5
+    }
+
+    def 'Templates may be formatted concurrently'() {
+        given:
+        MessageTemplateCache cache = new MessageTemplateCache()
+        ExecutorService executor = Executors.newFixedThreadPool(4)
+        List<Callable<Boolean>> tasks = (1..200).collect { int i ->
+            { ->
+                cache.format('{0} = {1,number,#}', Locale.ENGLISH, ["value$i".toString(), i] as Object[]) == "value$i = $i".toString()
+            } as Callable<Boolean>
+        }
+
+        expect:
+        executor.invokeAll(tasks)*.get().every()
+
+        cleanup:
+        executor.shutdown()
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.properties
+
+import griffon.core.properties.PropertyChangeEvent
+import griffon.core.properties.PropertyChangeListener
+import griffon.util.PropertyChangeBatchListener
+import spock.lang.Specification
+import spock.lang.Unroll
+
+@Unroll
+class PropertyChangeSupportSpec extends Specification {
+    private final AbstractPropertySource bean = new AbstractPropertySource()
+    private final PropertyChangeSupport pcs = new PropertyChangeSupport(bean)
+
+    def 'Changes to #oldValue -> #newValue are #description'() {
+        given:
+        List<PropertyChangeEvent> events = []
+        pcs.addPropertyChangeListener({ events << it } as PropertyChangeListener)
+
+        when:
+        pcs.firePropertyChange('value', oldValue, newValue)
+
+        then:
+        events.size() == count
+        events.every { it.oldValue == oldValue && it.newValue == newValue && it.source.is(bean) }
+
+        where:
+        oldValue   | newValue   | count | description
+        1i         | 2i         | 1     | 'delivered (int)'
+        1i         | 1i         | 0     | 'skipped (int)'
+        1L         | 2L         | 1     | 'delivered (long)'
+        1L         | 1L         | 0     | 'skipped (long)'
+        1.0d       | 2.0d       | 1     | 'delivered (double)'
+        Double.NaN | Double.NaN | 0     | 'skipped (double)'
+        false      | true       | 1     | 'delivered (boolean)'
+        true       | true       | 0     | 'skipped (boolean)'
+        'a'        | 'b'        | 1     | 'delivered (Object)'
+        'a'        | 'a'        | 0     | 'skipped (Object)'
+        null       | null       | 0     | 'skipped (null)'
+    }
+
+    def 'Named listeners only receive changes to their property'() {
+        given:
+        List<String> events = []
+        pcs.addPropertyChangeListener('count', { events << it.propertyName } as PropertyChangeListener)
+
+        when:
+        pcs.firePropertyChange('count', 0, 1)
+        pcs.firePropertyChange('other', 0, 1)
+
+        then:
+        events == ['count']
+        pcs.hasListeners('count')
+        !pcs.hasListeners('other')
+        pcs.hasListeners()
+    }
+
+    def 'Listener presence is tracked after removal'() {
+        given:
+        PropertyChangeListener listener = { } as PropertyChangeListener
+
+        expect:
+        !pcs.hasListeners()
+
+        when:
+        pcs.addPropertyChangeListener(listener)
+        pcs.removePropertyChangeListener(listener)
+
+        then:
+        !pcs.hasListeners()
+    }
+
+    def 'Changes made inside a batch are coalesced and delivered on commit'() {
+        given:
+        List<String> events = []
+        List<String> named = []
+        List<Integer> batches = []
+        pcs.addPropertyChangeListener({ events << "${it.propertyName}:${it.oldValue}:${it.newValue}".toString() } as PropertyChangeListener)
+        pcs.addPropertyChangeListener('count', { named << "${it.oldValue}:${it.newValue}".toString() } as PropertyChangeListener)
+        pcs.addPropertyChangeListener(new BatchListener(batches))
+
+        when:
+        pcs.batch {
+            pcs.firePropertyChange('count', 0, 1)
+            pcs.firePropertyChange('name', 'a', 'b')
+            pcs.batch { pcs.firePropertyChange('count', 1, 2) }
+            pcs.firePropertyChange('flag', false, true)
+            pcs.firePropertyChange('flag', true, false)
+            assert pcs.batching
+            assert events.empty
+        }
+
+        then:
+        events == ['count:0:2', 'name:a:b']
+        named == ['0:2']
+        batches == [2]
+        !pcs.batching
+    }
+
+    def 'Failing listeners do not stop the delivery of a batch'() {
+        given:
+        List<String> events = []
+        pcs.addPropertyChangeListener({ throw new IllegalStateException('first') } as PropertyChangeListener)
+        pcs.addPropertyChangeListener({ events << it.propertyName } as PropertyChangeListener)
+        pcs.addPropertyChangeListener('count', { throw new IllegalStateException('second') } as PropertyChangeListener)
+        pcs.addPropertyChangeListener('count', { events << "count:${it.newValue}".toString() } as PropertyChangeListener)
+
+        when:
+        pcs.batch {
+            pcs.firePropertyChange('count', 0, 1)
+            pcs.firePropertyChange('name', 'a', 'b')
+        }
+
+        then:
+        IllegalStateException e = thrown(IllegalStateException)
+        e.message == 'first'
+        e.suppressed*.message == ['first', 'second']
+        events == ['count', 'name', 'count:1']
+        !pcs.batching
+    }
+
+    def 'A failing commit does not mask the failure of the batch'() {
+        given:
+        pcs.addPropertyChangeListener({ throw new IllegalStateException('listener') } as PropertyChangeListener)
+
+        when:
+        pcs.batch {
+            pcs.firePropertyChange('count', 0, 1)
+            throw new IllegalArgumentException('batch')
+        }
+
+        then:
+        IllegalArgumentException e = thrown(IllegalArgumentException)
+        e.suppressed*.message == ['listener']
+        !pcs.batching
+    }
+
+    def 'Batches belong to the thread that opened them'() {
+        given:
+        List<String> events = []
+        pcs.addPropertyChangeListener({ events << it.propertyName } as PropertyChangeListener)
+
+        when:
+        pcs.beginBatch()
+        pcs.firePropertyChange('count', 0, 1)
+        boolean batchingElsewhere = true
+        Thread.start {
+            batchingElsewhere = pcs.batching
+            pcs.firePropertyChange('name', 'a', 'b')
+        }.join()
+
+        then:
+        !batchingElsewhere
+        events == ['name']
+
+        when:
+        pcs.commitBatch()
+
+        then:
+        events == ['name', 'count']
+    }
+
+    def 'Committing without an open batch fails'() {
+        when:
+        pcs.commitBatch()
+
+        then:
+        thrown(IllegalStateException)
+    }
+
+    private static class BatchListener implements PropertyChangeListener, PropertyChangeBatchListener<PropertyChangeEvent> {
+        private final List<Integer> batches
+
+        BatchListener(List<Integer> batches) {
+            this.batches = batches
+        }
+
+        @Override
+        void propertyChange(PropertyChangeEvent evt) {
+            batches << 0
+        }
+
+        @Override
+        void propertiesChanged(List<PropertyChangeEvent> changes) {
+            batches << changes.size()
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.resources
+
+import spock.lang.Specification
+
+import java.util.function.ToLongFunction
+
+class ImageCacheSpec extends Specification {
+    private static final ToLongFunction<String> WEIGHER = { String s -> (long) s.length() } as ToLongFunction<String>
+
+    private final List<URL> decoded = []
+    private final ImageCache.Decoder<String> decoder = { URL url ->
+        decoded << url
+        url.path.substring(1)
+    } as ImageCache.Decoder<String>
+
+    def 'Images are decoded once per url'() {
+        given:
+        ImageCache<String> cache = new ImageCache<>(100, WEIGHER)
+        URL url = new URL('file:/abcd')
+
+        when:
+        String first = cache.get(url, decoder)
+        String second = cache.get(url, decoder)
+
+        then:
+        first == 'abcd'
+        second.is(first)
+        decoded == [url]
+        cache.hitCount == 1
+        cache.missCount == 1
+        cache.size == 1
+        cache.weight == 4
+    }
+
+    def 'Requested sizes are cached separately'() {
+        given:
+        ImageCache<String> cache = new ImageCache<>(100, WEIGHER)
+        URL url = new URL('file:/abcd')
+
+        when:
+        cache.get(url, decoder)
+        cache.get(url, 16, 16, decoder)
+        cache.get(url, 16, 16, decoder)
+
+        then:
+        decoded.size() == 2
+        cache.size == 2
+        cache.hitCount == 1
+    }
+
+    def 'Least recently used images are evicted once the maximum weight is exceeded'() {
+        given:
+        ImageCache<String> cache = new ImageCache<>(8, WEIGHER)
+        URL a = new URL('file:/aaaa')
+        URL b = new URL('file:/bbbb')
+        URL c = new URL('file:/cccc')
+
+        when:
+        cache.get(a, decoder)
+        cache.get(b, decoder)
+        cache.get(a, decoder)
+        cache.get(c, decoder)
+
+        then:
+        cache.size == 2
+        cache.weight == 8
+        cache.evictionCount == 1
+
+        when:
+        decoded.clear()
+        cache.get(a, decoder)
+        cache.get(b, decoder)
+
+        then:
+        decoded == [b]
+    }
+
+    def 'Null images and images heavier than the maximum weight are not cached'() {
+        given:
+        ImageCache<String> cache = new ImageCache<>(2, WEIGHER)
+
+        when:
+        String missing = cache.get(new URL('file:/missing'), { URL url -> null } as ImageCache.Decoder<String>)
+        String heavy = cache.get(new URL('file:/abcd'), decoder)
+
+        then:
+        missing == null
+        heavy == 'abcd'
+        cache.size == 0
+        cache.weight == 0
+    }
+
+    def 'A maximum weight of zero disables caching'() {
+        given:
+        ImageCache<String> cache = new ImageCache<>(0, WEIGHER)
+        URL url = new URL('file:/abcd')
+
+        when:
+        cache.get(url, decoder)
+        cache.get(url, decoder)
+
+        then:
+        decoded.size() == 2
+        cache.size == 0
+    }
+
+    def 'Clearing the cache resets its weight'() {
+        given:
+        ImageCache<String> cache = new ImageCache<>(100, WEIGHER)
+        cache.get(new URL('file:/abcd'), decoder)
+
+        when:
+        cache.clear()
+
+        then:
+        cache.size == 0
+        cache.weight == 0
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.core.threading
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+
+class ExecutorServiceStrategySpec extends Specification {
+    @Unroll
+    def "Strategy #strategy runs tasks in threads named after the prefix"() {
+        given:
+        ExecutorService executorService = strategy.createExecutorService('test-pool-thread-', 2)
+
+        when:
+        String threadName = executorService.submit({ Thread.currentThread().name } as Callable).get(5, TimeUnit.SECONDS)
+
+        then:
+        threadName.startsWith('test-pool-thread-')
+
+        cleanup:
+        executorService?.shutdownNow()
+
+        where:
+        strategy << ExecutorServiceStrategy.values()
+    }
+
+    def "Fixed and work stealing strategies honor parallelism"() {
+        given:
+        ExecutorService fixed = ExecutorServiceStrategy.FIXED.createExecutorService('fixed-', 3)
+        ExecutorService workStealing = ExecutorServiceStrategy.WORK_STEALING.createExecutorService('stealing-', 3)
+
+        expect:
+        fixed instanceof ThreadPoolExecutor
+        ((ThreadPoolExecutor) fixed).corePoolSize == 3
+        workStealing instanceof ForkJoinPool
+        ((ForkJoinPool) workStealing).parallelism == 3
+
+        cleanup:
+        fixed?.shutdownNow()
+        workStealing?.shutdownNow()
+    }
+
+    def "Virtual strategy falls back to a fixed pool when virtual threads are not supported"() {
+        given:
+        ExecutorService executorService = ExecutorServiceStrategy.VIRTUAL.createExecutorService('virtual-', 2)
+
+        expect:
+        ExecutorServiceStrategy.virtualThreadSupported || executorService instanceof ThreadPoolExecutor
+
+        cleanup:
+        executorService?.shutdownNow()
+    }
+
+    def "Provider reads the strategy from settings"() {
+        given:
+        DefaultExecutorServiceProvider provider = new DefaultExecutorServiceProvider()
+        provider.executorServiceSettings = new ExecutorServiceSettings(ExecutorServiceStrategy.WORK_STEALING, 2)
+
+        when:
+        ExecutorService executorService = provider.get()
+
+        then:
+        executorService instanceof ForkJoinPool
+
+        cleanup:
+        executorService?.shutdownNow()
+    }
+}
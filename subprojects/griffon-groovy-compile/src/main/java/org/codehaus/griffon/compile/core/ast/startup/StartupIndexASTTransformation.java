@@ -0,0 +1,129 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.compile.core.ast.startup;
+
+import org.codehaus.griffon.compile.core.processor.startup.StartupIndexCollector;
+import org.codehaus.groovy.ast.AnnotationNode;
+import org.codehaus.groovy.ast.ClassNode;
+import org.codehaus.groovy.ast.ModuleNode;
+import org.codehaus.groovy.ast.expr.ClassExpression;
+import org.codehaus.groovy.ast.expr.Expression;
+import org.codehaus.groovy.control.CompilePhase;
+import org.codehaus.groovy.transform.ASTTransformation;
+import org.codehaus.groovy.transform.GroovyASTTransformation;
+import org.kordamp.gipsy.transform.GipsyASTTransformation;
+import org.kordamp.jipsy.annotations.ServiceProviderFor;
+import org.kordamp.jipsy.processor.LogLocation;
+import org.kordamp.jipsy.processor.Persistence;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static java.lang.reflect.Modifier.isAbstract;
+import static java.lang.reflect.Modifier.isPublic;
+
+/**
+ * Groovy counterpart of {@code StartupIndexProcessor}. Writes every Groovy class annotated with
+ * {@code @ServiceProviderFor} to {@code META-INF/griffon/startup.index}, merging them with the providers already
+ * recorded by the annotation processor. Invalid providers are skipped, they are reported by gipsy's own transformation.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+@ServiceProviderFor(ASTTransformation.class)
+@GroovyASTTransformation(phase = CompilePhase.CLASS_GENERATION)
+public class StartupIndexASTTransformation extends GipsyASTTransformation {
+    public static final String NAME = StartupIndexASTTransformation.class.getName()
+        + " (" + StartupIndexASTTransformation.class.getPackage().getImplementationVersion() + ")";
+
+    private static final ClassNode SERVICE_PROVIDER_FOR_TYPE = makeClassSafe(ServiceProviderFor.class);
+
+    private Persistence persistence;
+    private StartupIndexCollector data;
+
+    @Override
+    protected ClassNode getAnnotationClassNode() {
+        return SERVICE_PROVIDER_FOR_TYPE;
+    }
+
+    @Override
+    protected void initialize(ModuleNode moduleNode) {
+        super.initialize(moduleNode);
+
+        File outputDir = moduleNode.getContext().getConfiguration().getTargetDirectory();
+        persistence = new StartupIndexFilePersistence(NAME, options.dir(), outputDir, logger);
+        data = new StartupIndexCollector(persistence.getInitializer(), logger);
+        data.load();
+    }
+
+    @Override
+    protected void removeStaleData(ClassNode classNode, ModuleNode moduleNode) {
+        data.removeProvider(classNode.getName());
+    }
+
+    @Override
+    protected void handleAnnotations(ClassNode classNode, List<AnnotationNode> annotations, ModuleNode moduleNode) {
+        if (!isValidProvider(classNode)) {
+            return;
+        }
+
+        for (AnnotationNode annotation : annotations) {
+            for (Expression expr : findCollectionValueMember(annotation, "value")) {
+                if (!(expr instanceof ClassExpression)) {
+                    continue;
+                }
+                ClassNode serviceType = expr.getType();
+                if (isImplementation(classNode, serviceType).isError()) {
+                    continue;
+                }
+                data.addProvider(serviceType.getName(), classNode.getName());
+            }
+        }
+    }
+
+    @Override
+    protected void writeData() {
+        if (data.isModified()) {
+            String content = data.toList();
+            if (content.length() > 0) {
+                logger.note(LogLocation.LOG_FILE, "Writing output");
+                try {
+                    persistence.write(StartupIndexCollector.INDEX_NAME, content);
+                } catch (IOException e) {
+                    logger.warning(LogLocation.LOG_FILE, "An error occurred while writing data file");
+                }
+                persistence.writeLog();
+            } else {
+                logger.note(LogLocation.LOG_FILE, "Writing output");
+                try {
+                    persistence.delete();
+                } catch (IOException e) {
+                    logger.warning(LogLocation.LOG_FILE, "An error occurred while deleting data file");
+                }
+            }
+        }
+    }
+
+    private boolean isValidProvider(ClassNode classNode) {
+        return !classNode.isInterface() &&
+            !classNode.isEnum() &&
+            isPublic(classNode.getModifiers()) &&
+            !isAbstract(classNode.getModifiers());
+    }
+}
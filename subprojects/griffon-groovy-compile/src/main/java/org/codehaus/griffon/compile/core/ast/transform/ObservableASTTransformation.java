@@ -60,6 +60,7 @@ import static org.codehaus.griffon.compile.core.ast.GriffonASTUtils.constx;
 import static org.codehaus.griffon.compile.core.ast.GriffonASTUtils.ctor;
 import static org.codehaus.griffon.compile.core.ast.GriffonASTUtils.decls;
 import static org.codehaus.griffon.compile.core.ast.GriffonASTUtils.field;
+import static org.codehaus.griffon.compile.core.ast.GriffonASTUtils.ifs_no_return;
 import static org.codehaus.griffon.compile.core.ast.GriffonASTUtils.injectField;
 import static org.codehaus.griffon.compile.core.ast.GriffonASTUtils.injectInterface;
 import static org.codehaus.griffon.compile.core.ast.GriffonASTUtils.injectMethod;
@@ -69,6 +70,10 @@ import static org.codehaus.griffon.compile.core.ast.GriffonASTUtils.stmnt;
 import static org.codehaus.griffon.compile.core.ast.GriffonASTUtils.var;
 import static org.codehaus.griffon.compile.core.ast.transform.VetoableASTTransformation.hasVetoableAnnotation;
 import static org.codehaus.groovy.ast.ClassHelper.OBJECT_TYPE;
+import static org.codehaus.groovy.ast.ClassHelper.boolean_TYPE;
+import static org.codehaus.groovy.ast.ClassHelper.double_TYPE;
+import static org.codehaus.groovy.ast.ClassHelper.int_TYPE;
+import static org.codehaus.groovy.ast.ClassHelper.long_TYPE;
 import static org.codehaus.groovy.ast.ClassHelper.STRING_TYPE;
 import static org.codehaus.groovy.ast.ClassHelper.VOID_TYPE;
 
@@ -83,6 +88,7 @@ public class ObservableASTTransformation extends AbstractASTTransformation imple
     private static final Logger LOG = LoggerFactory.getLogger(ObservableASTTransformation.class);
     private static final ClassNode OBSERVABLE_CNODE = makeClassSafe(Observable.class);
     private static final ClassNode OBSERVABLE_ANNOTATION_CNODE = makeClassSafe(griffon.annotations.beans.Observable.class);
+    private static final ClassNode[] PRIMITIVE_FIRE_TYPES = {int_TYPE, long_TYPE, double_TYPE, boolean_TYPE};
 
     /**
      * Handles the bulk of the processing, mostly delegating to other methods.
@@ -283,8 +289,11 @@ public class ObservableASTTransformation extends AbstractASTTransformation imple
 
         // add method:
         // void firePropertyChange(String name, Object oldValue, Object newValue) {
-        //     this$propertyChangeSupport.firePropertyChange(name, oldValue, newValue)
+        //     if (this$propertyChangeSupport.hasListeners(name)) {
+        //         this$propertyChangeSupport.firePropertyChange(name, oldValue, newValue)
+        //     }
         //  }
+        // java.beans.PropertyChangeSupport creates an event for every change, even when nobody listens
         injectMethod(classNode,
             new MethodNode(
                 METHOD_FIRE_PROPERTY_CHANGE,
@@ -295,10 +304,28 @@ public class ObservableASTTransformation extends AbstractASTTransformation imple
                     param(makeClassSafe(OBJECT_TYPE), OLD_VALUE),
                     param(OBJECT_TYPE, NEW_VALUE)),
                 NO_EXCEPTIONS,
-                stmnt(call(
-                    field(pcsField),
+                fireIfListened(pcsField)));
+
+        // add methods:
+        // void firePropertyChange(String name, <primitive> oldValue, <primitive> newValue) {
+        //     if (this$propertyChangeSupport.hasListeners(name)) {
+        //         this$propertyChangeSupport.firePropertyChange(name, oldValue, newValue)
+        //     }
+        //  }
+        // setters of primitive properties resolve to these, values are only boxed when somebody listens
+        for (ClassNode type : PRIMITIVE_FIRE_TYPES) {
+            injectMethod(classNode,
+                new MethodNode(
                     METHOD_FIRE_PROPERTY_CHANGE,
-                    args(var(NAME), var(OLD_VALUE), var(NEW_VALUE))))));
+                    PROTECTED,
+                    VOID_TYPE,
+                    params(
+                        param(STRING_TYPE, NAME),
+                        param(type, OLD_VALUE),
+                        param(type, NEW_VALUE)),
+                    NO_EXCEPTIONS,
+                    fireIfListened(pcsField)));
+        }
 
         // add method:
         // void firePropertyChange(PropertyChangeEvent event) {
@@ -316,4 +343,13 @@ public class ObservableASTTransformation extends AbstractASTTransformation imple
                     METHOD_FIRE_PROPERTY_CHANGE,
                     args(var(EVENT))))));
     }
+
+    private static Statement fireIfListened(FieldNode pcsField) {
+        return ifs_no_return(
+            call(field(pcsField), METHOD_HAS_LISTENERS, args(var(NAME))),
+            stmnt(call(
+                field(pcsField),
+                METHOD_FIRE_PROPERTY_CHANGE,
+                args(var(NAME), var(OLD_VALUE), var(NEW_VALUE)))));
+    }
 }
\ No newline at end of file
@@ -17,11 +17,13 @@
  */
 package org.codehaus.griffon.compile.core.ast.transform;
 
+import griffon.core.properties.PropertyChangeEvent;
 import griffon.core.properties.PropertySource;
 import org.codehaus.griffon.compile.beans.PropertySourceConstants;
 import org.codehaus.griffon.compile.core.AnnotationHandler;
 import org.codehaus.griffon.compile.core.AnnotationHandlerFor;
 import org.codehaus.griffon.compile.core.ast.GriffonASTUtils;
+import org.codehaus.griffon.runtime.core.properties.PropertyChangeSupport;
 import org.codehaus.groovy.ast.ASTNode;
 import org.codehaus.groovy.ast.AnnotatedNode;
 import org.codehaus.groovy.ast.AnnotationNode;
@@ -42,8 +44,6 @@ import org.codehaus.groovy.transform.GroovyASTTransformation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.beans.PropertyChangeEvent;
-import java.beans.PropertyChangeSupport;
 import java.lang.reflect.Modifier;
 
 import static griffon.util.StringUtils.getGetterName;
@@ -69,6 +69,10 @@ import static org.codehaus.griffon.compile.core.ast.GriffonASTUtils.stmnt;
 import static org.codehaus.griffon.compile.core.ast.GriffonASTUtils.var;
 import static org.codehaus.griffon.compile.core.ast.transform.VetoableASTTransformation.hasVetoableAnnotation;
 import static org.codehaus.groovy.ast.ClassHelper.OBJECT_TYPE;
+import static org.codehaus.groovy.ast.ClassHelper.boolean_TYPE;
+import static org.codehaus.groovy.ast.ClassHelper.double_TYPE;
+import static org.codehaus.groovy.ast.ClassHelper.int_TYPE;
+import static org.codehaus.groovy.ast.ClassHelper.long_TYPE;
 import static org.codehaus.groovy.ast.ClassHelper.STRING_TYPE;
 import static org.codehaus.groovy.ast.ClassHelper.VOID_TYPE;
 
@@ -83,6 +87,7 @@ public class PropertySourceASTTransformation extends AbstractASTTransformation i
     private static final Logger LOG = LoggerFactory.getLogger(PropertySourceASTTransformation.class);
     private static final ClassNode PROPERTY_SOURCE_CNODE = makeClassSafe(PropertySource.class);
     private static final ClassNode PROPERTY_SOURCE_ANNOTATION_CNODE = makeClassSafe(griffon.annotations.beans.PropertySource.class);
+    private static final ClassNode[] PRIMITIVE_FIRE_TYPES = {int_TYPE, long_TYPE, double_TYPE, boolean_TYPE};
 
     /**
      * Handles the bulk of the processing, mostly delegating to other methods.
@@ -272,7 +277,7 @@ public class PropertySourceASTTransformation extends AbstractASTTransformation i
         ClassNode pceClassNode = makeClassSafe(PropertyChangeEvent.class);
 
         // add field:
-        // protected final PropertyChangeSupport this$propertyChangeSupport = new java.beans.PropertyChangeSupport(this)
+        // protected final PropertyChangeSupport this$propertyChangeSupport = new PropertyChangeSupport(this)
         FieldNode pcsField = injectField(classNode,
             PROPERTY_CHANGE_SUPPORT_FIELD_NAME,
             FINAL | PROTECTED,
@@ -315,5 +320,26 @@ public class PropertySourceASTTransformation extends AbstractASTTransformation i
                     field(pcsField),
                     METHOD_FIRE_PROPERTY_CHANGE,
                     args(var(EVENT))))));
+        // add methods:
+        // void firePropertyChange(String name, <primitive> oldValue, <primitive> newValue) {
+        //     this$propertyChangeSupport.firePropertyChange(name, oldValue, newValue)
+        //  }
+        // setters of primitive properties resolve to these, skipping boxing when nobody listens
+        for (ClassNode type : PRIMITIVE_FIRE_TYPES) {
+            injectMethod(classNode,
+                new MethodNode(
+                    METHOD_FIRE_PROPERTY_CHANGE,
+                    PROTECTED,
+                    VOID_TYPE,
+                    params(
+                        param(STRING_TYPE, NAME),
+                        param(type, OLD_VALUE),
+                        param(type, NEW_VALUE)),
+                    NO_EXCEPTIONS,
+                    stmnt(call(
+                        field(pcsField),
+                        METHOD_FIRE_PROPERTY_CHANGE,
+                        args(var(NAME), var(OLD_VALUE), var(NEW_VALUE))))));
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.compile.core.ast.startup
+
+import org.codehaus.groovy.control.CompilationUnit
+import org.codehaus.groovy.control.CompilerConfiguration
+import org.codehaus.groovy.control.Phases
+import spock.lang.Specification
+
+class StartupIndexASTTransformationSpec extends Specification {
+    File targetDirectory = File.createTempDir('startup-index', '')
+
+    void cleanup() {
+        targetDirectory.deleteDir()
+    }
+
+    def 'Providers annotated with @ServiceProviderFor are written to the startup index'() {
+        when:
+        compile('''
+            import org.kordamp.jipsy.annotations.ServiceProviderFor
+
+            @ServiceProviderFor(Runnable)
+            class RunnableProvider implements Runnable {
+                void run() { }
+            }
+
+            @ServiceProviderFor(Runnable)
+            abstract class AbstractRunnableProvider implements Runnable { }
+            ''')
+
+        then:
+        index().readLines().findAll { !it.startsWith('#') } == ['java.lang.Runnable=RunnableProvider']
+    }
+
+    def 'Providers that do not implement the service type are not indexed'() {
+        when:
+        compile('''
+            import org.kordamp.jipsy.annotations.ServiceProviderFor
+
+            @ServiceProviderFor(Runnable)
+            class NotARunnable { }
+            ''')
+
+        then:
+        !index().exists()
+    }
+
+    private void compile(String source) {
+        CompilerConfiguration configuration = new CompilerConfiguration()
+        configuration.targetDirectory = targetDirectory
+        CompilationUnit unit = new CompilationUnit(configuration)
+        unit.addSource('Providers.groovy', source)
+        unit.compile(Phases.OUTPUT)
+    }
+
+    private File index() {
+        new File(targetDirectory, 'META-INF/griffon/startup.index')
+    }
+}
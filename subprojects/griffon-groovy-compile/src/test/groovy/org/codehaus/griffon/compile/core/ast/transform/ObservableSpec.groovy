@@ -20,6 +20,7 @@ package org.codehaus.griffon.compile.core.ast.transform
 import griffon.beans.Observable
 import spock.lang.Specification
 
+import java.beans.PropertyChangeListener
 import java.lang.reflect.Method
 
 class ObservableSpec extends Specification {
@@ -45,4 +46,43 @@ class ObservableSpec extends Specification {
             }
         }
     }
+
+    def 'Setters notify listeners of the changed property only'() {
+        given:
+        GroovyShell shell = new GroovyShell()
+        def bean = shell.evaluate('''
+            @griffon.annotations.beans.Observable
+            class Bean {
+                int count
+                boolean flag
+                String name
+            }
+            new Bean()
+            ''')
+        List<String> events = []
+        bean.addPropertyChangeListener('count', { e -> events << "${e.propertyName}:${e.oldValue}:${e.newValue}".toString() } as PropertyChangeListener)
+
+        when:
+        bean.count = 1
+        bean.count = 1
+        bean.flag = true
+        bean.name = 'Griffon'
+
+        then:
+        bean.count == 1
+        bean.flag
+        bean.name == 'Griffon'
+        events == ['count:0:1']
+        [int, long, double, boolean].every { Class type ->
+            bean.class.declaredMethods.find { Method m -> m.name == 'firePropertyChange' && m.parameterTypes == [String, type, type] as Class[] }
+        }
+
+        when:
+        bean.addPropertyChangeListener({ e -> events << "${e.propertyName}:${e.oldValue}:${e.newValue}".toString() } as PropertyChangeListener)
+        bean.flag = false
+        bean.name = 'Griffon 3'
+
+        then:
+        events == ['count:0:1', 'flag:true:false', 'name:Griffon:Griffon 3']
+    }
 }
@@ -17,7 +17,10 @@
  */
 package org.codehaus.griffon.compile.core.ast.transform
 
+import griffon.core.properties.PropertyChangeEvent
+import griffon.core.properties.PropertyChangeListener
 import griffon.core.properties.PropertySource
+import org.codehaus.griffon.runtime.core.properties.PropertyChangeSupport
 import spock.lang.Specification
 
 import java.lang.reflect.Method
@@ -45,4 +48,62 @@ class PropertySourceSpec extends Specification {
             }
         }
     }
+
+    def 'Setters of primitive properties notify listeners'() {
+        given:
+        GroovyShell shell = new GroovyShell()
+        def bean = shell.evaluate('''
+            @griffon.annotations.beans.PropertySource
+            class Bean {
+                int count
+                boolean flag
+            }
+            new Bean()
+            ''')
+        List<String> events = []
+        bean.addPropertyChangeListener({ e -> events << "${e.propertyName}:${e.oldValue}:${e.newValue}".toString() } as PropertyChangeListener)
+
+        when:
+        bean.count = 1
+        bean.count = 1
+        bean.flag = true
+
+        then:
+        events == ['count:0:1', 'flag:false:true']
+        [int, long, double, boolean].every { Class type ->
+            bean.class.declaredMethods.find { Method m -> m.name == 'firePropertyChange' && m.parameterTypes == [String, type, type] as Class[] }
+        }
+    }
+
+    def 'Changes are delivered by the runtime PropertyChangeSupport'() {
+        given:
+        GroovyShell shell = new GroovyShell()
+        def bean = shell.evaluate('''
+            @griffon.annotations.beans.PropertySource
+            class Bean {
+                String name
+            }
+            new Bean()
+            ''')
+        List<PropertyChangeEvent> events = []
+        bean.addPropertyChangeListener('name', { e -> events << e } as PropertyChangeListener)
+
+        when:
+        bean.name = null
+        bean.name = 'Griffon'
+        bean.firePropertyChange('name', null, null)
+
+        then:
+        bean.this$propertyChangeSupport instanceof PropertyChangeSupport
+        events.size() == 1
+        events[0] instanceof PropertyChangeEvent
+        events[0].source.is(bean)
+        events[0].newValue == 'Griffon'
+
+        when:
+        bean.firePropertyChange(null, 'a', 'b')
+
+        then:
+        thrown(IllegalArgumentException)
+    }
 }
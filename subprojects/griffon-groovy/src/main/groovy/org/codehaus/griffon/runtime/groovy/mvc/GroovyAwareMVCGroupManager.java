@@ -84,6 +84,13 @@ public class GroovyAwareMVCGroupManager extends DefaultMVCGroupManager {
         super.initializeMembers(group, args);
     }
 
+    @Override
+    protected void reinitializeMembers(@Nonnull MVCGroup group, @Nonnull Map<String, Object> args) {
+        FactoryBuilderSupport builder = (FactoryBuilderSupport) group.getMember(BUILDER);
+        builder.setVariable(CURRENT_MVCGROUP, group);
+        super.reinitializeMembers(group, args);
+    }
+
     @Override
     protected void destroyMembers(@Nonnull MVCGroup group, boolean fireDestructionEvents) {
         super.destroyMembers(group, fireDestructionEvents);
@@ -39,12 +39,12 @@ import griffon.core.injection.Injector;
 import griffon.core.injection.InjectorFactory;
 import griffon.exceptions.FieldException;
 import griffon.exceptions.NewInstanceException;
+import org.codehaus.griffon.runtime.core.StartupIndex;
 import org.codehaus.griffon.runtime.core.injection.InjectorProvider;
 import org.kordamp.jipsy.annotations.ServiceProviderFor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.annotation.PostConstruct;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.beans.PropertyDescriptor;
@@ -59,12 +59,11 @@ import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.google.inject.util.Providers.guicify;
 import static griffon.core.util.GriffonClassUtils.getAllDeclaredFields;
 import static griffon.core.util.GriffonClassUtils.getPropertyDescriptors;
-import static griffon.core.util.GriffonClassUtils.invokeAnnotatedMethod;
 import static griffon.core.util.GriffonClassUtils.setFieldValue;
 import static griffon.util.AnnotationUtils.annotationsOfMethodParameter;
 import static griffon.util.AnnotationUtils.findAnnotation;
@@ -81,6 +80,8 @@ import static org.codehaus.griffon.runtime.injection.GuiceInjector.moduleFromBin
 public class GuiceInjectorFactory implements InjectorFactory {
     private static final Logger LOG = LoggerFactory.getLogger(GuiceInjectorFactory.class);
 
+    private final Map<Class<?>, LifecycleDescriptor> lifecycleDescriptors = new ConcurrentHashMap<>();
+
     @Nonnull
     @Override
     public GuiceInjector createInjector(@Nonnull GriffonApplication application, @Nonnull Iterable<Binding<?>> bindings) {
@@ -99,10 +100,10 @@ public class GuiceInjectorFactory implements InjectorFactory {
         final InjectionListener<Object> postConstructorInjectorListener = injectee -> {
             resolveContextualInjections(injectee, application);
             resolveConfigurationInjections(injectee, application);
-            invokeAnnotatedMethod(injectee, PostConstruct.class);
+            lifecycleDescriptorFor(injectee.getClass()).invokePostConstruct(injectee);
         };
 
-        final InstanceTracker instanceTracker = new InstanceTracker();
+        final InstanceTracker instanceTracker = new InstanceTracker(this::lifecycleDescriptorFor);
         Module injectorModule = new AbstractModule() {
             @Override
             protected void configure() {
@@ -147,8 +148,7 @@ public class GuiceInjectorFactory implements InjectorFactory {
         modules.add(moduleFromBindings(bindings));
 
         List<Module> loadedModules = new ArrayList<>();
-        ServiceLoader<Module> moduleLoader = ServiceLoader.load(Module.class, getClass().getClassLoader());
-        for (Module module : moduleLoader) {
+        for (Module module : StartupIndex.of(getClass().getClassLoader()).loadServices(Module.class)) {
             LOG.trace("Adding module {}", module);
             loadedModules.add(module);
         }
@@ -166,13 +166,31 @@ public class GuiceInjectorFactory implements InjectorFactory {
             return;
         }
 
+        for (InjectionPoint ip : lifecycleDescriptorFor(injectee.getClass()).getContextualInjectionPoints()) {
+            ip.apply(application.getContext(), injectee);
+        }
+    }
+
+    @Nonnull
+    LifecycleDescriptor lifecycleDescriptorFor(@Nonnull Class<?> type) {
+        return lifecycleDescriptors.computeIfAbsent(type, t -> new LifecycleDescriptor(t, resolveContextualInjectionPoints(t)));
+    }
+
+    /**
+     * Finds all properties and fields of the given type that should be injected from the application's {@code Context}.
+     * Results are cached per type.
+     *
+     * @since 3.0.0
+     */
+    @Nonnull
+    protected List<InjectionPoint> resolveContextualInjectionPoints(@Nonnull Class<?> klass) {
         Map<String, Field> fields = new LinkedHashMap<>();
-        for (Field field : getAllDeclaredFields(injectee.getClass())) {
+        for (Field field : getAllDeclaredFields(klass)) {
             fields.put(field.getName(), field);
         }
 
         Map<String, InjectionPoint> injectionPoints = new LinkedHashMap<>();
-        for (PropertyDescriptor descriptor : getPropertyDescriptors(injectee.getClass())) {
+        for (PropertyDescriptor descriptor : getPropertyDescriptors(klass)) {
             Method method = descriptor.getWriteMethod();
             if (method == null || isInjectable(method)) {
                 continue;
@@ -187,7 +205,7 @@ public class GuiceInjectorFactory implements InjectorFactory {
             injectionPoints.put(descriptor.getName(), new MethodInjectionPoint(descriptor.getName(), nullable, method, type));
         }
 
-        for (Field field : getAllDeclaredFields(injectee.getClass())) {
+        for (Field field : getAllDeclaredFields(klass)) {
             if (Modifier.isStatic(field.getModifiers()) || isInjectable(field)) {
                 continue;
             }
@@ -198,9 +216,14 @@ public class GuiceInjectorFactory implements InjectorFactory {
             }
         }
 
+        List<InjectionPoint> contextualInjectionPoints = new ArrayList<>();
         for (InjectionPoint ip : injectionPoints.values()) {
-            ip.apply(application.getContext(), injectee);
+            // only contextual injection points have something to apply
+            if (ip.type == InjectionPoint.Type.CONTEXTUAL) {
+                contextualInjectionPoints.add(ip);
+            }
         }
+        return contextualInjectionPoints;
     }
 
     @Nonnull
@@ -22,16 +22,15 @@ import com.google.inject.Injector;
 import griffon.annotations.core.Nonnull;
 import org.codehaus.griffon.runtime.core.injection.InjectionUnitOfWork;
 
-import javax.annotation.PreDestroy;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import static com.google.inject.Scopes.isSingleton;
-import static griffon.core.util.GriffonClassUtils.hasMethodAnnotatedwith;
-import static griffon.core.util.GriffonClassUtils.invokeAnnotatedMethod;
 import static java.util.Collections.synchronizedMap;
 import static java.util.Objects.requireNonNull;
 
@@ -45,8 +44,19 @@ class InstanceTracker {
 
     private final Map<Object, Binding<?>> instanceToKeyMap = synchronizedMap(new LinkedHashMap<Object, Binding<?>>());
 
+    private final Function<Class<?>, LifecycleDescriptor> lifecycleDescriptors;
+
     private com.google.inject.Injector injector;
 
+    InstanceTracker() {
+        Map<Class<?>, LifecycleDescriptor> descriptors = new ConcurrentHashMap<>();
+        this.lifecycleDescriptors = type -> descriptors.computeIfAbsent(type, t -> new LifecycleDescriptor(t, Collections.emptyList()));
+    }
+
+    InstanceTracker(@Nonnull Function<Class<?>, LifecycleDescriptor> lifecycleDescriptors) {
+        this.lifecycleDescriptors = requireNonNull(lifecycleDescriptors, "Argument 'lifecycleDescriptors' must not be null");
+    }
+
     @Nonnull
     public Injector getInjector() {
         return injector;
@@ -61,7 +71,7 @@ class InstanceTracker {
         requireNonNull(binding, ERROR_BINDING_NULL);
         requireNonNull(instance, ERROR_INSTANCE_NULL);
 
-        if (hasMethodAnnotatedwith(instance, PreDestroy.class)) {
+        if (lifecycleDescriptors.apply(instance.getClass()).hasPreDestroy()) {
             if (isSingleton(binding)) {
                 instanceToKeyMap.put(instance, binding);
             } else {
@@ -78,7 +88,7 @@ class InstanceTracker {
     public <T> void release(@Nonnull T instance) {
         requireNonNull(instance, ERROR_INSTANCE_NULL);
 
-        invokeAnnotatedMethod(instance, PreDestroy.class);
+        lifecycleDescriptors.apply(instance.getClass()).invokePreDestroy(instance);
 
         Binding<?> binding = instanceToKeyMap.get(instance);
         if (binding != null) {
@@ -93,7 +103,7 @@ class InstanceTracker {
         Collections.reverse(instances);
 
         for (Object instance : instances) {
-            invokeAnnotatedMethod(instance, PreDestroy.class);
+            lifecycleDescriptors.apply(instance.getClass()).invokePreDestroy(instance);
         }
 
         instances.clear();
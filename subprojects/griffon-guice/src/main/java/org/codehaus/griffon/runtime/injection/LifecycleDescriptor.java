@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.injection;
+
+import griffon.annotations.core.Nonnull;
+import griffon.exceptions.InstanceMethodInvocationException;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static griffon.core.util.GriffonClassUtils.invokeAnnotatedMethod;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Lifecycle metadata of a provisioned type, resolved once and shared by all of its instances.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+final class LifecycleDescriptor {
+    private final List<GuiceInjectorFactory.InjectionPoint> contextualInjectionPoints;
+    private final LifecycleMethods postConstructMethods;
+    private final LifecycleMethods preDestroyMethods;
+
+    LifecycleDescriptor(@Nonnull Class<?> type, @Nonnull List<GuiceInjectorFactory.InjectionPoint> contextualInjectionPoints) {
+        requireNonNull(type, "Argument 'type' must not be null");
+        this.contextualInjectionPoints = Collections.unmodifiableList(new ArrayList<>(requireNonNull(contextualInjectionPoints, "Argument 'contextualInjectionPoints' must not be null")));
+        this.postConstructMethods = new LifecycleMethods(type, PostConstruct.class);
+        this.preDestroyMethods = new LifecycleMethods(type, PreDestroy.class);
+    }
+
+    @Nonnull
+    List<GuiceInjectorFactory.InjectionPoint> getContextualInjectionPoints() {
+        return contextualInjectionPoints;
+    }
+
+    void invokePostConstruct(@Nonnull Object instance) {
+        postConstructMethods.invoke(instance);
+    }
+
+    boolean hasPreDestroy() {
+        return !preDestroyMethods.isEmpty();
+    }
+
+    void invokePreDestroy(@Nonnull Object instance) {
+        preDestroyMethods.invoke(instance);
+    }
+
+    /**
+     * Mirrors {@code GriffonClassUtils.invokeAnnotatedMethod()}: at most one no-arg method per class in the
+     * hierarchy, invoked from subclass to superclass.
+     */
+    private static final class LifecycleMethods {
+        private final Class<? extends Annotation> annotation;
+        private final Method[] methods;
+        // more than one annotated method in the same class, let GriffonClassUtils report the error
+        private final boolean invalid;
+
+        private LifecycleMethods(@Nonnull Class<?> type, @Nonnull Class<? extends Annotation> annotation) {
+            this.annotation = annotation;
+
+            List<Method> found = new ArrayList<>();
+            boolean duplicates = false;
+            for (Class<?> klass = type; klass != null && !duplicates; klass = klass.getSuperclass()) {
+                int count = 0;
+                for (Method method : klass.getDeclaredMethods()) {
+                    if (method.isAnnotationPresent(annotation) && method.getParameterTypes().length == 0) {
+                        found.add(method);
+                        count++;
+                    }
+                }
+                duplicates = count > 1;
+            }
+
+            this.invalid = duplicates;
+            this.methods = duplicates ? new Method[0] : found.toArray(new Method[0]);
+            if (!duplicates && methods.length > 0) {
+                AccessController.doPrivileged((PrivilegedAction<Object>) () -> {
+                    for (Method method : methods) {
+                        method.setAccessible(true);
+                    }
+                    return null;
+                });
+            }
+        }
+
+        private boolean isEmpty() {
+            return !invalid && methods.length == 0;
+        }
+
+        private void invoke(@Nonnull Object instance) {
+            if (invalid) {
+                invokeAnnotatedMethod(instance, annotation);
+                return;
+            }
+
+            for (Method method : methods) {
+                try {
+                    method.invoke(instance);
+                } catch (IllegalAccessException | IllegalArgumentException e) {
+                    throw new InstanceMethodInvocationException(instance, method.getName(), null, e);
+                } catch (InvocationTargetException e) {
+                    throw new InstanceMethodInvocationException(instance, method.getName(), null, e.getTargetException());
+                }
+            }
+        }
+    }
+}
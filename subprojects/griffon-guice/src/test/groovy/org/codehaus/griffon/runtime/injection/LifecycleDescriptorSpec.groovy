@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.codehaus.griffon.runtime.injection
+
+import griffon.annotations.inject.Contextual
+import griffon.exceptions.InstanceMethodInvocationException
+import spock.lang.Specification
+
+import javax.annotation.PostConstruct
+import javax.annotation.PreDestroy
+
+class LifecycleDescriptorSpec extends Specification {
+    def 'Descriptors are resolved once per type'() {
+        given:
+        GuiceInjectorFactory factory = new GuiceInjectorFactory()
+
+        when:
+        LifecycleDescriptor descriptor = factory.lifecycleDescriptorFor(Child)
+
+        then:
+        factory.lifecycleDescriptorFor(Child).is(descriptor)
+        descriptor.contextualInjectionPoints*.name == ['value']
+        descriptor.hasPreDestroy()
+        !factory.lifecycleDescriptorFor(Parent).hasPreDestroy()
+    }
+
+    def 'Lifecycle methods are invoked from subclass to superclass'() {
+        given:
+        LifecycleDescriptor descriptor = new LifecycleDescriptor(Child, [])
+        Child child = new Child()
+
+        when:
+        descriptor.invokePostConstruct(child)
+        descriptor.invokePreDestroy(child)
+
+        then:
+        child.calls == ['childInit', 'parentInit', 'childDestroy']
+    }
+
+    def 'Multiple lifecycle methods in the same class are rejected'() {
+        given:
+        LifecycleDescriptor descriptor = new LifecycleDescriptor(Invalid, [])
+
+        when:
+        descriptor.invokePostConstruct(new Invalid())
+
+        then:
+        thrown(InstanceMethodInvocationException)
+    }
+
+    static class Parent {
+        List<String> calls = []
+
+        @PostConstruct
+        private void parentInit() {
+            calls << 'parentInit'
+        }
+    }
+
+    static class Child extends Parent {
+        @Contextual
+        private String value
+
+        @PostConstruct
+        private void childInit() {
+            calls << 'childInit'
+        }
+
+        @PreDestroy
+        private void childDestroy() {
+            calls << 'childDestroy'
+        }
+    }
+
+    static class Invalid {
+        @PostConstruct
+        void init1() {}
+
+        @PostConstruct
+        void init2() {}
+    }
+}
@@ -0,0 +1,866 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.javafx.beans.binding;
+
+import griffon.annotations.core.Nonnull;
+import griffon.annotations.core.Nullable;
+import javafx.beans.binding.Binding;
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.binding.IntegerBinding;
+import javafx.beans.binding.LongBinding;
+import javafx.beans.binding.ObjectBinding;
+import javafx.beans.binding.StringBinding;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import javafx.collections.WeakListChangeListener;
+import javafx.collections.WeakMapChangeListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Aggregate bindings that are updated from the deltas reported by their source collection.<p>
+ * Bindings created with {@code ReducingBindings} and {@code CollectionBindings} traverse the whole collection every
+ * time a single element changes. The bindings created by this class keep the contribution of each element and a running
+ * aggregate instead, thus adding, removing, replacing or updating an element costs time proportional to the size of the
+ * change, not to the size of the collection. Reducers without an inverse function fall back to a full reduction.<p>
+ * Mapper functions are applied once per element when the element is added or updated, they must be non-interfering and
+ * stateless. Running sums of {@code double} values may accumulate rounding errors; the sum is computed again from the
+ * remaining elements whenever a {@code NaN} or infinite value is removed. Elements of {@code min}, {@code max} and
+ * {@code reduce} bindings may have been mutated by the time an update is reported, thus their aggregate is computed
+ * again from all elements after an update.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public final class IncrementalBindings {
+    private static final String ERROR_ITEMS_NULL = "Argument 'items' must not be null";
+    private static final String ERROR_MAPPER_NULL = "Argument 'mapper' must not be null";
+    private static final String ERROR_FILTER_NULL = "Argument 'filter' must not be null";
+    private static final String ERROR_COMPARATOR_NULL = "Argument 'comparator' must not be null";
+    private static final String ERROR_REDUCER_NULL = "Argument 'reducer' must not be null";
+
+    private IncrementalBindings() {
+        // prevent instantiation
+    }
+
+    /**
+     * Creates a double binding with the sum of the elements of the list.
+     *
+     * @param items  the observable list of items.
+     * @param mapper a non-interfering, stateless function that computes the value of each element.
+     *
+     * @return a double binding.
+     */
+    @Nonnull
+    public static <T> DoubleBinding sumAsDouble(@Nonnull final ObservableList<T> items, @Nonnull final ToDoubleFunction<? super T> mapper) {
+        requireNonNull(items, ERROR_ITEMS_NULL);
+        requireNonNull(mapper, ERROR_MAPPER_NULL);
+        DoubleAccumulator accumulator = new DoubleAccumulator();
+        IncrementalDoubleBinding binding = new IncrementalDoubleBinding(() -> accumulator.getSum());
+        ListTracker<T, Double> tracker = new ListTracker<>(items, mapper::applyAsDouble, accumulator, binding);
+        accumulator.source = tracker.contributions;
+        binding.tracker = tracker;
+        return binding;
+    }
+
+    /**
+     * Creates a double binding with the sum of the values of the map.
+     *
+     * @param items  the observable map of items.
+     * @param mapper a non-interfering, stateless function that computes the value of each entry.
+     *
+     * @return a double binding.
+     */
+    @Nonnull
+    public static <K, V> DoubleBinding sumAsDouble(@Nonnull final ObservableMap<K, V> items, @Nonnull final ToDoubleFunction<? super V> mapper) {
+        requireNonNull(items, ERROR_ITEMS_NULL);
+        requireNonNull(mapper, ERROR_MAPPER_NULL);
+        DoubleAccumulator accumulator = new DoubleAccumulator();
+        IncrementalDoubleBinding binding = new IncrementalDoubleBinding(() -> accumulator.getSum());
+        MapTracker<K, V, Double> tracker = new MapTracker<>(items, mapper::applyAsDouble, accumulator, binding);
+        accumulator.source = tracker.contributions.values();
+        binding.tracker = tracker;
+        return binding;
+    }
+
+    /**
+     * Creates a long binding with the sum of the elements of the list.
+     *
+     * @param items  the observable list of items.
+     * @param mapper a non-interfering, stateless function that computes the value of each element.
+     *
+     * @return a long binding.
+     */
+    @Nonnull
+    public static <T> LongBinding sumAsLong(@Nonnull final ObservableList<T> items, @Nonnull final ToLongFunction<? super T> mapper) {
+        requireNonNull(items, ERROR_ITEMS_NULL);
+        requireNonNull(mapper, ERROR_MAPPER_NULL);
+        LongAccumulator accumulator = new LongAccumulator();
+        IncrementalLongBinding binding = new IncrementalLongBinding(() -> accumulator.sum);
+        binding.tracker = new ListTracker<>(items, mapper::applyAsLong, accumulator, binding);
+        return binding;
+    }
+
+    /**
+     * Creates a long binding with the sum of the values of the map.
+     *
+     * @param items  the observable map of items.
+     * @param mapper a non-interfering, stateless function that computes the value of each entry.
+     *
+     * @return a long binding.
+     */
+    @Nonnull
+    public static <K, V> LongBinding sumAsLong(@Nonnull final ObservableMap<K, V> items, @Nonnull final ToLongFunction<? super V> mapper) {
+        requireNonNull(items, ERROR_ITEMS_NULL);
+        requireNonNull(mapper, ERROR_MAPPER_NULL);
+        LongAccumulator accumulator = new LongAccumulator();
+        IncrementalLongBinding binding = new IncrementalLongBinding(() -> accumulator.sum);
+        binding.tracker = new MapTracker<>(items, mapper::applyAsLong, accumulator, binding);
+        return binding;
+    }
+
+    /**
+     * Creates a double binding with the average of the elements of the list.
+     *
+     * @param items        the observable list of items.
+     * @param mapper       a non-interfering, stateless function that computes the value of each element.
+     * @param defaultValue the value of the binding when the list is empty.
+     *
+     * @return a double binding.
+     */
+    @Nonnull
+    public static <T> DoubleBinding averageAsDouble(@Nonnull final ObservableList<T> items, @Nonnull final ToDoubleFunction<? super T> mapper, final double defaultValue) {
+        requireNonNull(items, ERROR_ITEMS_NULL);
+        requireNonNull(mapper, ERROR_MAPPER_NULL);
+        DoubleAccumulator accumulator = new DoubleAccumulator();
+        IncrementalDoubleBinding binding = new IncrementalDoubleBinding(() -> accumulator.average(defaultValue));
+        ListTracker<T, Double> tracker = new ListTracker<>(items, mapper::applyAsDouble, accumulator, binding);
+        accumulator.source = tracker.contributions;
+        binding.tracker = tracker;
+        return binding;
+    }
+
+    /**
+     * Creates a double binding with the average of the values of the map.
+     *
+     * @param items        the observable map of items.
+     * @param mapper       a non-interfering, stateless function that computes the value of each entry.
+     * @param defaultValue the value of the binding when the map is empty.
+     *
+     * @return a double binding.
+     */
+    @Nonnull
+    public static <K, V> DoubleBinding averageAsDouble(@Nonnull final ObservableMap<K, V> items, @Nonnull final ToDoubleFunction<? super V> mapper, final double defaultValue) {
+        requireNonNull(items, ERROR_ITEMS_NULL);
+        requireNonNull(mapper, ERROR_MAPPER_NULL);
+        DoubleAccumulator accumulator = new DoubleAccumulator();
+        IncrementalDoubleBinding binding = new IncrementalDoubleBinding(() -> accumulator.average(defaultValue));
+        MapTracker<K, V, Double> tracker = new MapTracker<>(items, mapper::applyAsDouble, accumulator, binding);
+        accumulator.source = tracker.contributions.values();
+        binding.tracker = tracker;
+        return binding;
+    }
+
+    /**
+     * Creates an integer binding with the number of elements of the list that match the given filter.
+     *
+     * @param items  the observable list of items.
+     * @param filter a non-interfering, stateless predicate applied to each element.
+     *
+     * @return an integer binding.
+     */
+    @Nonnull
+    public static <T> IntegerBinding count(@Nonnull final ObservableList<T> items, @Nonnull final Predicate<? super T> filter) {
+        requireNonNull(items, ERROR_ITEMS_NULL);
+        requireNonNull(filter, ERROR_FILTER_NULL);
+        CountAccumulator accumulator = new CountAccumulator();
+        IncrementalIntegerBinding binding = new IncrementalIntegerBinding(accumulator);
+        binding.tracker = new ListTracker<>(items, filter::test, accumulator, binding);
+        return binding;
+    }
+
+    /**
+     * Creates an integer binding with the number of values of the map that match the given filter.
+     *
+     * @param items  the observable map of items.
+     * @param filter a non-interfering, stateless predicate applied to each value.
+     *
+     * @return an integer binding.
+     */
+    @Nonnull
+    public static <K, V> IntegerBinding count(@Nonnull final ObservableMap<K, V> items, @Nonnull final Predicate<? super V> filter) {
+        requireNonNull(items, ERROR_ITEMS_NULL);
+        requireNonNull(filter, ERROR_FILTER_NULL);
+        CountAccumulator accumulator = new CountAccumulator();
+        IncrementalIntegerBinding binding = new IncrementalIntegerBinding(accumulator);
+        binding.tracker = new MapTracker<>(items, filter::test, accumulator, binding);
+        return binding;
+    }
+
+    /**
+     * Creates an object binding with the smallest element of the list. {@code null} elements are ignored.
+     *
+     * @param items        the observable list of items.
+     * @param comparator   the comparator used to order elements.
+     * @param defaultValue the value of the binding when the list has no elements, may be null.
+     *
+     * @return an object binding.
+     */
+    @Nonnull
+    public static <T> ObjectBinding<T> min(@Nonnull final ObservableList<T> items, @Nonnull final Comparator<? super T> comparator, @Nullable final T defaultValue) {
+        requireNonNull(items, ERROR_ITEMS_NULL);
+        requireNonNull(comparator, ERROR_COMPARATOR_NULL);
+        OrderedAccumulator<T> accumulator = new OrderedAccumulator<>(comparator);
+        IncrementalObjectBinding<T> binding = new IncrementalObjectBinding<>(() -> accumulator.first(defaultValue));
+        ListTracker<T, T> tracker = new ListTracker<>(items, Function.identity(), accumulator, binding);
+        accumulator.source = tracker.contributions;
+        binding.tracker = tracker;
+        return binding;
+    }
+
+    /**
+     * Creates an object binding with the smallest value of the map. {@code null} values are ignored.
+     *
+     * @param items        the observable map of items.
+     * @param comparator   the comparator used to order values.
+     * @param defaultValue the value of the binding when the map has no values, may be null.
+     *
+     * @return an object binding.
+     */
+    @Nonnull
+    public static <K, V> ObjectBinding<V> min(@Nonnull final ObservableMap<K, V> items, @Nonnull final Comparator<? super V> comparator, @Nullable final V defaultValue) {
+        requireNonNull(items, ERROR_ITEMS_NULL);
+        requireNonNull(comparator, ERROR_COMPARATOR_NULL);
+        OrderedAccumulator<V> accumulator = new OrderedAccumulator<>(comparator);
+        IncrementalObjectBinding<V> binding = new IncrementalObjectBinding<>(() -> accumulator.first(defaultValue));
+        MapTracker<K, V, V> tracker = new MapTracker<>(items, Function.identity(), accumulator, binding);
+        accumulator.source = tracker.contributions.values();
+        binding.tracker = tracker;
+        return binding;
+    }
+
+    /**
+     * Creates an object binding with the greatest element of the list. {@code null} elements are ignored.
+     *
+     * @param items        the observable list of items.
+     * @param comparator   the comparator used to order elements.
+     * @param defaultValue the value of the binding when the list has no elements, may be null.
+     *
+     * @return an object binding.
+     */
+    @Nonnull
+    public static <T> ObjectBinding<T> max(@Nonnull final ObservableList<T> items, @Nonnull final Comparator<? super T> comparator, @Nullable final T defaultValue) {
+        requireNonNull(items, ERROR_ITEMS_NULL);
+        requireNonNull(comparator, ERROR_COMPARATOR_NULL);
+        OrderedAccumulator<T> accumulator = new OrderedAccumulator<>(comparator);
+        IncrementalObjectBinding<T> binding = new IncrementalObjectBinding<>(() -> accumulator.last(defaultValue));
+        ListTracker<T, T> tracker = new ListTracker<>(items, Function.identity(), accumulator, binding);
+        accumulator.source = tracker.contributions;
+        binding.tracker = tracker;
+        return binding;
+    }
+
+    /**
+     * Creates an object binding with the greatest value of the map. {@code null} values are ignored.
+     *
+     * @param items        the observable map of items.
+     * @param comparator   the comparator used to order values.
+     * @param defaultValue the value of the binding when the map has no values, may be null.
+     *
+     * @return an object binding.
+     */
+    @Nonnull
+    public static <K, V> ObjectBinding<V> max(@Nonnull final ObservableMap<K, V> items, @Nonnull final Comparator<? super V> comparator, @Nullable final V defaultValue) {
+        requireNonNull(items, ERROR_ITEMS_NULL);
+        requireNonNull(comparator, ERROR_COMPARATOR_NULL);
+        OrderedAccumulator<V> accumulator = new OrderedAccumulator<>(comparator);
+        IncrementalObjectBinding<V> binding = new IncrementalObjectBinding<>(() -> accumulator.last(defaultValue));
+        MapTracker<K, V, V> tracker = new MapTracker<>(items, Function.identity(), accumulator, binding);
+        accumulator.source = tracker.contributions.values();
+        binding.tracker = tracker;
+        return binding;
+    }
+
+    /**
+     * Creates an object binding with the reduction of all elements of the list.<p>
+     * When an {@code inverse} function is given the reduction is updated with each added and removed element, in which
+     * case the reducer must also be commutative and {@code inverse.apply(reducer.apply(a, b), b)} must be equal to
+     * {@code a}. Otherwise the list is reduced again after every change.
+     *
+     * @param items    the observable list of items.
+     * @param identity the identity value of the reducer.
+     * @param reducer  an associative, non-interfering, stateless function for combining two values.
+     * @param inverse  a function that removes a value from a reduction, may be null.
+     *
+     * @return an object binding.
+     */
+    @Nonnull
+    public static <T> ObjectBinding<T> reduce(@Nonnull final ObservableList<T> items, @Nullable final T identity, @Nonnull final BinaryOperator<T> reducer, @Nullable final BinaryOperator<T> inverse) {
+        requireNonNull(items, ERROR_ITEMS_NULL);
+        requireNonNull(reducer, ERROR_REDUCER_NULL);
+        ReducingAccumulator<T> accumulator = new ReducingAccumulator<>(identity, reducer, inverse);
+        IncrementalObjectBinding<T> binding = new IncrementalObjectBinding<>(accumulator::getValue);
+        ListTracker<T, T> tracker = new ListTracker<>(items, Function.identity(), accumulator, binding);
+        accumulator.source = tracker.contributions;
+        binding.tracker = tracker;
+        return binding;
+    }
+
+    /**
+     * Creates an object binding with the reduction of all values of the map.<p>
+     * When an {@code inverse} function is given the reduction is updated with each added and removed value, in which
+     * case the reducer must also be commutative and {@code inverse.apply(reducer.apply(a, b), b)} must be equal to
+     * {@code a}. Otherwise the map is reduced again after every change.
+     *
+     * @param items    the observable map of items.
+     * @param identity the identity value of the reducer.
+     * @param reducer  an associative, non-interfering, stateless function for combining two values.
+     * @param inverse  a function that removes a value from a reduction, may be null.
+     *
+     * @return an object binding.
+     */
+    @Nonnull
+    public static <K, V> ObjectBinding<V> reduce(@Nonnull final ObservableMap<K, V> items, @Nullable final V identity, @Nonnull final BinaryOperator<V> reducer, @Nullable final BinaryOperator<V> inverse) {
+        requireNonNull(items, ERROR_ITEMS_NULL);
+        requireNonNull(reducer, ERROR_REDUCER_NULL);
+        ReducingAccumulator<V> accumulator = new ReducingAccumulator<>(identity, reducer, inverse);
+        IncrementalObjectBinding<V> binding = new IncrementalObjectBinding<>(accumulator::getValue);
+        MapTracker<K, V, V> tracker = new MapTracker<>(items, Function.identity(), accumulator, binding);
+        accumulator.source = tracker.contributions.values();
+        binding.tracker = tracker;
+        return binding;
+    }
+
+    /**
+     * Creates a string binding that constructs a sequence of characters separated by a delimiter.
+     * The string value of each element is computed once, when the element is added or updated.
+     *
+     * @param items     the observable list of items.
+     * @param delimiter the sequence of characters to be used between each element.
+     *
+     * @return a string binding.
+     */
+    @Nonnull
+    public static StringBinding join(@Nonnull final ObservableList<?> items, @Nullable final String delimiter) {
+        return join(items, delimiter, String::valueOf);
+    }
+
+    /**
+     * Creates a string binding that constructs a sequence of characters separated by a delimiter.
+     * The mapper is applied once per element, when the element is added or updated.
+     *
+     * @param items     the observable list of items.
+     * @param delimiter the sequence of characters to be used between each element.
+     * @param mapper    a non-interfering, stateless function to apply to the each element.
+     *
+     * @return a string binding.
+     */
+    @Nonnull
+    public static <T> StringBinding join(@Nonnull final ObservableList<T> items, @Nullable final String delimiter, @Nonnull final Function<? super T, String> mapper) {
+        requireNonNull(items, ERROR_ITEMS_NULL);
+        requireNonNull(mapper, ERROR_MAPPER_NULL);
+        final String value = delimiter == null ? "" : delimiter;
+        IncrementalStringBinding binding = new IncrementalStringBinding();
+        ListTracker<T, String> tracker = new ListTracker<>(items, mapper, new NoopAccumulator<>(), binding);
+        binding.value = () -> String.join(value, tracker.contributions);
+        binding.tracker = tracker;
+        return binding;
+    }
+
+    private interface Accumulator<C> {
+        void add(@Nullable C contribution);
+
+        void remove(@Nullable C contribution);
+
+        /**
+         * Replaces the contribution of an element that was reported as updated. {@code previous} is the element itself
+         * when the contribution is not mapped, in which case it may no longer be equal to what was accumulated.
+         */
+        default void update(@Nullable C previous, @Nullable C contribution) {
+            remove(previous);
+            add(contribution);
+        }
+    }
+
+    private static final class NoopAccumulator<C> implements Accumulator<C> {
+        @Override
+        public void add(@Nullable C contribution) {
+            // empty
+        }
+
+        @Override
+        public void remove(@Nullable C contribution) {
+            // empty
+        }
+    }
+
+    private static final class DoubleAccumulator implements Accumulator<Double> {
+        private Iterable<Double> source;
+        private double sum;
+        private int count;
+        private boolean dirty;
+
+        @Override
+        public void add(@Nullable Double contribution) {
+            sum += contribution;
+            count++;
+        }
+
+        @Override
+        public void remove(@Nullable Double contribution) {
+            if (Double.isFinite(contribution)) {
+                sum -= contribution;
+            } else {
+                // subtracting NaN or an infinity would leave the sum as NaN for good
+                dirty = true;
+            }
+            count--;
+        }
+
+        private double getSum() {
+            if (dirty) {
+                double result = 0d;
+                for (Double item : source) {
+                    result += item;
+                }
+                sum = result;
+                dirty = false;
+            }
+            return sum;
+        }
+
+        private double average(double defaultValue) {
+            return count > 0 ? getSum() / count : defaultValue;
+        }
+    }
+
+    private static final class LongAccumulator implements Accumulator<Long> {
+        private long sum;
+
+        @Override
+        public void add(@Nullable Long contribution) {
+            sum += contribution;
+        }
+
+        @Override
+        public void remove(@Nullable Long contribution) {
+            sum -= contribution;
+        }
+    }
+
+    private static final class CountAccumulator implements Accumulator<Boolean> {
+        private int count;
+
+        @Override
+        public void add(@Nullable Boolean contribution) {
+            if (Boolean.TRUE.equals(contribution)) {
+                count++;
+            }
+        }
+
+        @Override
+        public void remove(@Nullable Boolean contribution) {
+            if (Boolean.TRUE.equals(contribution)) {
+                count--;
+            }
+        }
+    }
+
+    private static final class OrderedAccumulator<T> implements Accumulator<T> {
+        // elements grouped by the comparator, elements that compare equal are kept in insertion order
+        private final TreeMap<T, List<T>> elements;
+        private Iterable<T> source;
+        private boolean dirty;
+
+        private OrderedAccumulator(@Nonnull Comparator<? super T> comparator) {
+            this.elements = new TreeMap<>(comparator);
+        }
+
+        @Override
+        public void add(@Nullable T contribution) {
+            if (contribution != null && !dirty) {
+                elements.computeIfAbsent(contribution, k -> new ArrayList<>(1)).add(contribution);
+            }
+        }
+
+        @Override
+        public void remove(@Nullable T contribution) {
+            if (contribution != null && !dirty) {
+                List<T> group = elements.get(contribution);
+                if (group == null || !removeInstance(group, contribution)) {
+                    // the element was mutated after it was added, the tree can no longer be trusted
+                    dirty = true;
+                } else if (group.isEmpty()) {
+                    elements.remove(contribution);
+                }
+            }
+        }
+
+        @Override
+        public void update(@Nullable T previous, @Nullable T contribution) {
+            // the element may have been mutated in place, thus it can't be located by the comparator anymore
+            dirty = true;
+        }
+
+        private boolean removeInstance(@Nonnull List<T> group, @Nonnull T contribution) {
+            for (int i = 0; i < group.size(); i++) {
+                if (group.get(i) == contribution) {
+                    group.remove(i);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Nonnull
+        private TreeMap<T, List<T>> getElements() {
+            if (dirty) {
+                elements.clear();
+                dirty = false;
+                for (T item : source) {
+                    add(item);
+                }
+            }
+            return elements;
+        }
+
+        @Nullable
+        private T first(@Nullable T defaultValue) {
+            TreeMap<T, List<T>> ordered = getElements();
+            return ordered.isEmpty() ? defaultValue : ordered.firstEntry().getValue().get(0);
+        }
+
+        @Nullable
+        private T last(@Nullable T defaultValue) {
+            TreeMap<T, List<T>> ordered = getElements();
+            return ordered.isEmpty() ? defaultValue : ordered.lastEntry().getValue().get(0);
+        }
+    }
+
+    private static final class ReducingAccumulator<T> implements Accumulator<T> {
+        private final T identity;
+        private final BinaryOperator<T> reducer;
+        private final BinaryOperator<T> inverse;
+        private Iterable<T> source;
+        private T value;
+        private boolean dirty;
+
+        private ReducingAccumulator(@Nullable T identity, @Nonnull BinaryOperator<T> reducer, @Nullable BinaryOperator<T> inverse) {
+            this.identity = identity;
+            this.reducer = reducer;
+            this.inverse = inverse;
+            this.value = identity;
+        }
+
+        @Override
+        public void add(@Nullable T contribution) {
+            if (inverse != null) {
+                value = reducer.apply(value, contribution);
+            } else {
+                dirty = true;
+            }
+        }
+
+        @Override
+        public void remove(@Nullable T contribution) {
+            if (inverse != null) {
+                value = inverse.apply(value, contribution);
+            } else {
+                dirty = true;
+            }
+        }
+
+        @Override
+        public void update(@Nullable T previous, @Nullable T contribution) {
+            // the element may have been mutated in place, applying the inverse to it would not remove its old value
+            dirty = true;
+        }
+
+        @Nullable
+        private T getValue() {
+            if (dirty) {
+                T result = identity;
+                for (T item : source) {
+                    result = reducer.apply(result, item);
+                }
+                value = result;
+                dirty = false;
+            }
+            return value;
+        }
+    }
+
+    private abstract static class Tracker<C> {
+        protected final Function<Object, C> mapper;
+        protected final Accumulator<C> accumulator;
+        protected final Binding<?> binding;
+
+        @SuppressWarnings("unchecked")
+        private Tracker(@Nonnull Function<?, C> mapper, @Nonnull Accumulator<C> accumulator, @Nonnull Binding<?> binding) {
+            this.mapper = (Function<Object, C>) mapper;
+            this.accumulator = accumulator;
+            this.binding = binding;
+        }
+
+        @Nullable
+        protected C add(@Nullable Object item) {
+            C contribution = mapper.apply(item);
+            accumulator.add(contribution);
+            return contribution;
+        }
+
+        @Nonnull
+        protected abstract ObservableList<?> getDependencies();
+
+        protected abstract void dispose();
+    }
+
+    private static final class ListTracker<T, C> extends Tracker<C> implements ListChangeListener<T> {
+        private final ObservableList<T> items;
+        private final List<C> contributions;
+        private final WeakListChangeListener<T> listener = new WeakListChangeListener<>(this);
+
+        private ListTracker(@Nonnull ObservableList<T> items, @Nonnull Function<? super T, C> mapper, @Nonnull Accumulator<C> accumulator, @Nonnull Binding<?> binding) {
+            super(mapper, accumulator, binding);
+            this.items = items;
+            this.contributions = new ArrayList<>(items.size());
+            for (T item : items) {
+                contributions.add(add(item));
+            }
+            items.addListener(listener);
+        }
+
+        @Override
+        public void onChanged(Change<? extends T> change) {
+            while (change.next()) {
+                int from = change.getFrom();
+                if (change.wasPermutated()) {
+                    List<C> permuted = new ArrayList<>(contributions.subList(from, change.getTo()));
+                    for (int i = from; i < change.getTo(); i++) {
+                        contributions.set(change.getPermutation(i), permuted.get(i - from));
+                    }
+                } else if (change.wasUpdated()) {
+                    for (int i = from; i < change.getTo(); i++) {
+                        C contribution = mapper.apply(items.get(i));
+                        accumulator.update(contributions.set(i, contribution), contribution);
+                    }
+                } else {
+                    if (change.wasRemoved()) {
+                        List<C> removed = contributions.subList(from, from + change.getRemovedSize());
+                        for (C contribution : removed) {
+                            accumulator.remove(contribution);
+                        }
+                        removed.clear();
+                    }
+                    if (change.wasAdded()) {
+                        List<C> added = new ArrayList<>(change.getAddedSize());
+                        for (T item : change.getAddedSubList()) {
+                            added.add(add(item));
+                        }
+                        contributions.addAll(from, added);
+                    }
+                }
+            }
+            binding.invalidate();
+        }
+
+        @Nonnull
+        @Override
+        protected ObservableList<?> getDependencies() {
+            return FXCollections.singletonObservableList(items);
+        }
+
+        @Override
+        protected void dispose() {
+            items.removeListener(listener);
+        }
+    }
+
+    private static final class MapTracker<K, V, C> extends Tracker<C> implements MapChangeListener<K, V> {
+        private final ObservableMap<K, V> items;
+        private final Map<K, C> contributions;
+        private final WeakMapChangeListener<K, V> listener = new WeakMapChangeListener<>(this);
+
+        private MapTracker(@Nonnull ObservableMap<K, V> items, @Nonnull Function<? super V, C> mapper, @Nonnull Accumulator<C> accumulator, @Nonnull Binding<?> binding) {
+            super(mapper, accumulator, binding);
+            this.items = items;
+            this.contributions = new HashMap<>(items.size());
+            for (Map.Entry<K, V> entry : items.entrySet()) {
+                contributions.put(entry.getKey(), add(entry.getValue()));
+            }
+            items.addListener(listener);
+        }
+
+        @Override
+        public void onChanged(Change<? extends K, ? extends V> change) {
+            K key = change.getKey();
+            if (change.wasRemoved() && contributions.containsKey(key)) {
+                accumulator.remove(contributions.remove(key));
+            }
+            if (change.wasAdded()) {
+                contributions.put(key, add(change.getValueAdded()));
+            }
+            binding.invalidate();
+        }
+
+        @Nonnull
+        @Override
+        protected ObservableList<?> getDependencies() {
+            return FXCollections.singletonObservableList(items);
+        }
+
+        @Override
+        protected void dispose() {
+            items.removeListener(listener);
+        }
+    }
+
+    private static final class IncrementalDoubleBinding extends DoubleBinding {
+        private final DoubleSupplier value;
+        private Tracker<?> tracker;
+
+        private IncrementalDoubleBinding(@Nonnull DoubleSupplier value) {
+            this.value = value;
+        }
+
+        @Override
+        protected double computeValue() {
+            return value.getAsDouble();
+        }
+
+        @Override
+        public ObservableList<?> getDependencies() {
+            return tracker.getDependencies();
+        }
+
+        @Override
+        public void dispose() {
+            tracker.dispose();
+        }
+    }
+
+    private static final class IncrementalLongBinding extends LongBinding {
+        private final LongSupplier value;
+        private Tracker<?> tracker;
+
+        private IncrementalLongBinding(@Nonnull LongSupplier value) {
+            this.value = value;
+        }
+
+        @Override
+        protected long computeValue() {
+            return value.getAsLong();
+        }
+
+        @Override
+        public ObservableList<?> getDependencies() {
+            return tracker.getDependencies();
+        }
+
+        @Override
+        public void dispose() {
+            tracker.dispose();
+        }
+    }
+
+    private static final class IncrementalIntegerBinding extends IntegerBinding {
+        private final CountAccumulator accumulator;
+        private Tracker<?> tracker;
+
+        private IncrementalIntegerBinding(@Nonnull CountAccumulator accumulator) {
+            this.accumulator = accumulator;
+        }
+
+        @Override
+        protected int computeValue() {
+            return accumulator.count;
+        }
+
+        @Override
+        public ObservableList<?> getDependencies() {
+            return tracker.getDependencies();
+        }
+
+        @Override
+        public void dispose() {
+            tracker.dispose();
+        }
+    }
+
+    private static final class IncrementalObjectBinding<T> extends ObjectBinding<T> {
+        private final Supplier<T> value;
+        private Tracker<?> tracker;
+
+        private IncrementalObjectBinding(@Nonnull Supplier<T> value) {
+            this.value = value;
+        }
+
+        @Override
+        protected T computeValue() {
+            return value.get();
+        }
+
+        @Override
+        public ObservableList<?> getDependencies() {
+            return tracker.getDependencies();
+        }
+
+        @Override
+        public void dispose() {
+            tracker.dispose();
+        }
+    }
+
+    private static final class IncrementalStringBinding extends StringBinding {
+        private Supplier<String> value;
+        private Tracker<?> tracker;
+
+        @Override
+        protected String computeValue() {
+            return value.get();
+        }
+
+        @Override
+        public ObservableList<?> getDependencies() {
+            return tracker.getDependencies();
+        }
+
+        @Override
+        public void dispose() {
+            tracker.dispose();
+        }
+    }
+}
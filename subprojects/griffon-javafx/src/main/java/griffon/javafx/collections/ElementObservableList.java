@@ -19,23 +19,36 @@ package griffon.javafx.collections;
 
 import griffon.annotations.core.Nonnull;
 import griffon.annotations.core.Nullable;
+import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static java.util.Objects.requireNonNull;
 
 /**
+ * An {@code ObservableList} that reports changes made to the observable properties of its elements as
+ * {@code wasUpdated()} changes.<p>
+ * By default every property change results in its own list change. Setting the {@code UpdateMode} to
+ * {@link UpdateMode#PULSE} or {@link UpdateMode#MANUAL} accumulates updated elements instead, delivering them
+ * as a single change with compacted index ranges on the next pulse of the JavaFX Application Thread, or
+ * whenever {@link #flush()} is called.
+ *
  * @author Andres Almiray
  * @since 2.10.0
  */
@@ -50,8 +63,30 @@ public class ElementObservableList<E> extends DelegatingObservableList<E> {
         ObservableValue<?>[] observableValues(@Nullable E instance);
     }
 
+    /**
+     * @since 3.0.0
+     */
+    public enum UpdateMode {
+        /**
+         * Fire a change for every property change.
+         */
+        IMMEDIATE,
+        /**
+         * Accumulate updates and fire them with {@code Platform.runLater()}.
+         */
+        PULSE,
+        /**
+         * Accumulate updates until {@link ElementObservableList#flush()} is called.
+         */
+        MANUAL
+    }
+
     private final Map<E, List<ListenerSubscription>> subscriptions = new LinkedHashMap<>();
     private final ObservableValueExtractor<E> observableValueExtractor;
+    private final Object lock = new Object[0];
+    private final Set<E> pendingUpdates = new HashSet<>();
+    private volatile UpdateMode updateMode = UpdateMode.IMMEDIATE;
+    private boolean flushScheduled;
 
     public ElementObservableList() {
         this(FXCollections.observableArrayList(), new DefaultObservableValueExtractor<>());
@@ -68,6 +103,67 @@ public class ElementObservableList<E> extends DelegatingObservableList<E> {
     public ElementObservableList(@Nonnull ObservableList<E> delegate, @Nonnull ObservableValueExtractor<E> observableValueExtractor) {
         super(delegate);
         this.observableValueExtractor = requireNonNull(observableValueExtractor, "Argument 'observableValueExtractor' must not be null");
+        delegate.forEach(this::registerListeners);
+    }
+
+    /**
+     * @since 3.0.0
+     */
+    @Nonnull
+    public UpdateMode getUpdateMode() {
+        return updateMode;
+    }
+
+    /**
+     * Changes the way element updates are delivered. Pending updates are flushed when switching
+     * back to {@link UpdateMode#IMMEDIATE}.
+     *
+     * @since 3.0.0
+     */
+    public void setUpdateMode(@Nonnull UpdateMode updateMode) {
+        this.updateMode = requireNonNull(updateMode, "Argument 'updateMode' must not be null");
+        if (updateMode == UpdateMode.IMMEDIATE) {
+            flush();
+        }
+    }
+
+    /**
+     * Fires a single change covering all elements updated since the last flush, if any.
+     *
+     * @since 3.0.0
+     */
+    public void flush() {
+        Set<E> updated;
+        synchronized (lock) {
+            flushScheduled = false;
+            if (pendingUpdates.isEmpty()) {
+                return;
+            }
+            updated = new HashSet<>(pendingUpdates);
+            pendingUpdates.clear();
+        }
+
+        // a single pass over the list is cheaper than one indexOf() per updated element
+        List<int[]> ranges = new ArrayList<>();
+        int from = -1;
+        int size = size();
+        for (int i = 0; i < size; i++) {
+            if (updated.contains(get(i))) {
+                if (from < 0) {
+                    from = i;
+                }
+            } else if (from >= 0) {
+                ranges.add(new int[]{from, i});
+                from = -1;
+            }
+        }
+        if (from >= 0) {
+            ranges.add(new int[]{from, size});
+        }
+
+        if (!ranges.isEmpty()) {
+            fireChange(new UpdateChange(ranges));
+        }
     }
 
     @Override
@@ -97,58 +193,32 @@ public class ElementObservableList<E> extends DelegatingObservableList<E> {
     @Nonnull
     @SuppressWarnings("unchecked")
     private ListenerSubscription createChangeListener(@Nonnull final E element, @Nonnull final ObservableValue<?> observable) {
-        final ChangeListener listener = (value, oldValue, newValue) -> fireChange(changeFor(element));
+        final ChangeListener listener = (value, oldValue, newValue) -> elementUpdated(element);
         observable.addListener(listener);
         return () -> observable.removeListener(listener);
     }
 
-    @Nonnull
-    private ListChangeListener.Change<? extends E> changeFor(@Nonnull final E element) {
-        final int position = indexOf(element);
-        final int[] permutations = new int[0];
-
-        return new ListChangeListener.Change<E>(this) {
-            private boolean invalid = true;
-
-            @Override
-            public boolean next() {
-                if (invalid) {
-                    invalid = false;
-                    return true;
-                }
-                return false;
-            }
-
-            @Override
-            public void reset() {
-                invalid = true;
-            }
-
-            @Override
-            public int getFrom() {
-                return position;
-            }
-
-            @Override
-            public int getTo() {
-                return position + 1;
-            }
-
-            @Override
-            public List<E> getRemoved() {
-                return Collections.emptyList();
-            }
-
-            @Override
-            protected int[] getPermutation() {
-                return permutations;
+    private void elementUpdated(@Nonnull E element) {
+        UpdateMode mode = updateMode;
+        if (mode == UpdateMode.IMMEDIATE) {
+            int position = indexOf(element);
+            if (position > -1) {
+                fireChange(new UpdateChange(Collections.singletonList(new int[]{position, position + 1})));
             }
+            return;
+        }
 
-            @Override
-            public boolean wasUpdated() {
-                return true;
+        boolean schedule;
+        synchronized (lock) {
+            pendingUpdates.add(element);
+            schedule = mode == UpdateMode.PULSE && !flushScheduled;
+            if (schedule) {
+                flushScheduled = true;
             }
-        };
+        }
+        if (schedule) {
+            Platform.runLater(this::flush);
+        }
     }
 
     private void unregisterListeners(@Nonnull E element) {
@@ -156,52 +226,122 @@ public class ElementObservableList<E> extends DelegatingObservableList<E> {
         if (registeredSubscriptions != null) {
             registeredSubscriptions.forEach(ListenerSubscription::unsubscribe);
         }
+        synchronized (lock) {
+            pendingUpdates.remove(element);
+        }
     }
 
     private interface ListenerSubscription {
         void unsubscribe();
     }
 
+    private class UpdateChange extends ListChangeListener.Change<E> {
+        private final List<int[]> ranges;
+        private int cursor = -1;
+
+        private UpdateChange(@Nonnull List<int[]> ranges) {
+            super(ElementObservableList.this);
+            this.ranges = ranges;
+        }
+
+        @Override
+        public boolean next() {
+            if (cursor + 1 < ranges.size()) {
+                cursor++;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void reset() {
+            cursor = -1;
+        }
+
+        @Override
+        public int getFrom() {
+            return ranges.get(cursor)[0];
+        }
+
+        @Override
+        public int getTo() {
+            return ranges.get(cursor)[1];
+        }
+
+        @Override
+        public List<E> getRemoved() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        protected int[] getPermutation() {
+            return new int[0];
+        }
+
+        @Override
+        public boolean wasUpdated() {
+            return true;
+        }
+    }
+
     private static class DefaultObservableValueExtractor<T> implements ObservableValueExtractor<T> {
-        private final Map<Class<?>, List<Method>> observableValueMetadata = new LinkedHashMap<>();
+        private static final MethodType GETTER_TYPE = MethodType.methodType(ObservableValue.class, Object.class);
+        private static final ObservableValue<?>[] EMPTY = new ObservableValue<?>[0];
+        // ClassValue does not keep element classes, nor their class loaders, reachable
+        private static final ClassValue<MethodHandle[]> METADATA = new ClassValue<MethodHandle[]>() {
+            @Override
+            protected MethodHandle[] computeValue(Class<?> type) {
+                return harvestMetadata(type);
+            }
+        };
 
         @Nonnull
         @Override
         public ObservableValue<?>[] observableValues(@Nullable T instance) {
             if (instance == null) {
-                return new ObservableValue[0];
+                return EMPTY;
             }
 
             if (instance instanceof ElementObservableList.ObservableValueContainer) {
                 return ((ObservableValueContainer) instance).observableValues();
             }
 
-            List<Method> metadata = observableValueMetadata.computeIfAbsent(instance.getClass(), this::harvestMetadata);
+            MethodHandle[] metadata = METADATA.get(instance.getClass());
 
-            ObservableValue[] observableValues = new ObservableValue[metadata.size()];
+            ObservableValue<?>[] observableValues = new ObservableValue<?>[metadata.length];
             for (int i = 0; i < observableValues.length; i++) {
                 try {
-                    observableValues[i] = (ObservableValue) metadata.get(i).invoke(instance);
-                } catch (IllegalAccessException e) {
-                    throw new IllegalStateException(e);
-                } catch (InvocationTargetException e) {
-                    throw new IllegalStateException(e.getTargetException());
+                    observableValues[i] = (ObservableValue<?>) metadata[i].invokeExact((Object) instance);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw new IllegalStateException(t);
                 }
             }
             return observableValues;
         }
 
-        private List<Method> harvestMetadata(@Nonnull Class<?> klass) {
-            List<Method> metadata = new ArrayList<>();
+        @Nonnull
+        private static MethodHandle[] harvestMetadata(@Nonnull Class<?> klass) {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            List<MethodHandle> metadata = new ArrayList<>();
 
             for (Method method : klass.getMethods()) {
                 if (ObservableValue.class.isAssignableFrom(method.getReturnType()) &&
                     method.getParameterCount() == 0) {
-                    metadata.add(method);
+                    try {
+                        MethodHandle handle = lookup.unreflect(method);
+                        if (Modifier.isStatic(method.getModifiers())) {
+                            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+                        }
+                        metadata.add(handle.asType(GETTER_TYPE));
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
                 }
             }
 
-            return metadata;
+            return metadata.toArray(new MethodHandle[0]);
         }
     }
 }
@@ -18,6 +18,7 @@
 package griffon.javafx.converters;
 
 import griffon.converter.ConversionException;
+import griffon.javafx.support.JavaFXImageCache;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import org.codehaus.griffon.converter.AbstractConverter;
@@ -75,7 +76,7 @@ public class ImageConverter extends AbstractConverter<Image> {
 
     protected Image handleAsURL(URL url) {
         try {
-            return new Image(url.toString());
+            return JavaFXImageCache.getImage(url);
         } catch (Exception e) {
             throw illegalValue(url, URL.class, e);
         }
@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.javafx.support;
+
+import griffon.annotations.core.Nonnull;
+import javafx.scene.image.Image;
+import org.codehaus.griffon.runtime.core.resources.ImageCache;
+
+import java.net.URL;
+
+/**
+ * Holds the {@code ImageCache} shared by all JavaFX image converters.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public final class JavaFXImageCache {
+    private static final ImageCache<Image> INSTANCE = new ImageCache<>(JavaFXImageCache::weigh);
+
+    private JavaFXImageCache() {
+        // prevent instantiation
+    }
+
+    @Nonnull
+    public static ImageCache<Image> getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the cached image for the given URL, loading it if needed. Images that fail to load are returned
+     * but not cached, as {@code Image} reports errors with {@link Image#isError()} instead of throwing.
+     *
+     * @param url the location of the image.
+     *
+     * @return the image, never {@code null}.
+     */
+    @Nonnull
+    public static Image getImage(@Nonnull URL url) throws Exception {
+        Image[] failed = new Image[1];
+        Image image = INSTANCE.get(url, u -> {
+            Image loaded = new Image(u.toString());
+            if (loaded.isError()) {
+                // a null result is not cached
+                failed[0] = loaded;
+                return null;
+            }
+            return loaded;
+        });
+        return null != image ? image : failed[0];
+    }
+
+    private static long weigh(@Nonnull Image image) {
+        // decoded JavaFX images are stored as 32-bit pixels
+        return (long) image.getWidth() * (long) image.getHeight() * 4L;
+    }
+}
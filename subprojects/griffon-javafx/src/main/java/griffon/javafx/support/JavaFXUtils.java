@@ -1164,7 +1164,11 @@ public final class JavaFXUtils {
         } else {
             URL resource = Thread.currentThread().getContextClassLoader().getResource(iconUrl);
             if (resource != null) {
-                return new ImageView(new Image(resource.toString()));
+                try {
+                    return new ImageView(JavaFXImageCache.getImage(resource));
+                } catch (Exception e) {
+                    throw new IllegalArgumentException("Unable to load icon " + iconUrl, e);
+                }
             }
         }
         return null;
@@ -0,0 +1,200 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.javafx.beans.binding
+
+import javafx.beans.Observable
+import javafx.beans.binding.Binding
+import javafx.beans.property.SimpleIntegerProperty
+import javafx.collections.FXCollections
+import javafx.collections.ObservableList
+import javafx.collections.ObservableMap
+import javafx.util.Callback
+import spock.lang.Specification
+
+import java.util.function.BinaryOperator
+import java.util.function.Predicate
+import java.util.function.ToDoubleFunction
+import java.util.function.ToIntFunction
+import java.util.function.ToLongFunction
+
+class IncrementalBindingsSpec extends Specification {
+    def "Aggregates of a List follow additions, removals, replacements and permutations"() {
+        given:
+        ObservableList<Integer> items = FXCollections.observableArrayList(3, 1, 2)
+
+        when:
+        Binding sum = IncrementalBindings.sumAsLong(items, { it as long } as ToLongFunction)
+        Binding average = IncrementalBindings.averageAsDouble(items, { it as double } as ToDoubleFunction, -1d)
+        Binding count = IncrementalBindings.count(items, { it % 2 == 1 } as Predicate)
+        Binding min = IncrementalBindings.min(items, Comparator.naturalOrder(), null)
+        Binding max = IncrementalBindings.max(items, Comparator.naturalOrder(), null)
+        Binding join = IncrementalBindings.join(items, ',')
+
+        then:
+        [sum, average, count, min, max, join]*.get() == [6L, 2d, 2, 1, 3, '3,1,2']
+
+        when:
+        items.add(1, 5)
+        items.remove((Object) 3)
+        items.set(0, 4)
+        FXCollections.sort(items)
+
+        then:
+        items == [1, 2, 4]
+        [sum, average, count, min, max, join]*.get() == [7L, 7d / 3, 1, 1, 4, '1,2,4']
+
+        when:
+        items.clear()
+
+        then:
+        [sum, average, count, min, max, join]*.get() == [0L, -1d, 0, null, null, '']
+    }
+
+    def "Aggregates of a List follow updates reported by an extractor"() {
+        given:
+        ObservableList<SimpleIntegerProperty> items = FXCollections.observableArrayList({ [it] as Observable[] } as Callback)
+        items.addAll(new SimpleIntegerProperty(1), new SimpleIntegerProperty(2), new SimpleIntegerProperty(3))
+        Comparator<SimpleIntegerProperty> comparator = Comparator.comparingInt({ it.get() } as ToIntFunction)
+        Binding sum = IncrementalBindings.sumAsDouble(items, { it.get() as double } as ToDoubleFunction)
+        Binding min = IncrementalBindings.min(items, comparator, null)
+        Binding max = IncrementalBindings.max(items, comparator, null)
+        Binding total = IncrementalBindings.reduce(items, new SimpleIntegerProperty(0),
+            { a, b -> new SimpleIntegerProperty(a.get() + b.get()) } as BinaryOperator,
+            { a, b -> new SimpleIntegerProperty(a.get() - b.get()) } as BinaryOperator)
+
+        expect:
+        sum.get() == 6d
+        min.get().is(items[0])
+        max.get().is(items[2])
+        total.get().get() == 6
+
+        when:
+        items[1].set(10)
+
+        then:
+        sum.get() == 14d
+        min.get().is(items[0])
+        max.get().is(items[1])
+        total.get().get() == 14
+
+        when:
+        items[1].set(0)
+        items.remove(0)
+
+        then:
+        sum.get() == 3d
+        min.get().is(items[0])
+        max.get().is(items[1])
+        total.get().get() == 3
+
+        when:
+        items[0].set(5)
+        items.add(new SimpleIntegerProperty(4))
+
+        then:
+        sum.get() == 12d
+        min.get().is(items[1])
+        max.get().is(items[0])
+        total.get().get() == 12
+    }
+
+    def "Aggregates of a Map follow puts and removals"() {
+        given:
+        ObservableMap<String, Integer> items = FXCollections.observableHashMap()
+        items.putAll([a: 1, b: 2, c: 3])
+
+        when:
+        Binding sum = IncrementalBindings.sumAsDouble(items, { it as double } as ToDoubleFunction)
+        Binding count = IncrementalBindings.count(items, { it > 1 } as Predicate)
+        Binding max = IncrementalBindings.max(items, Comparator.naturalOrder(), 0)
+
+        then:
+        [sum, count, max]*.get() == [6d, 2, 3]
+
+        when:
+        items.put('a', 7)
+        items.remove('c')
+
+        then:
+        [sum, count, max]*.get() == [9d, 2, 7]
+    }
+
+    def "Reduce with and without an inverse function"() {
+        given:
+        ObservableList<Integer> items = FXCollections.observableArrayList(1, 2, 3)
+        int reductions = 0
+        BinaryOperator<Integer> reducer = { a, b -> reductions++; a + b } as BinaryOperator
+        BinaryOperator<Integer> inverse = { a, b -> a - b } as BinaryOperator
+
+        when:
+        Binding invertible = IncrementalBindings.reduce(items, 0, reducer, inverse)
+        Binding recomputed = IncrementalBindings.reduce(items, 0, { a, b -> a * 10 + b } as BinaryOperator, null)
+
+        then:
+        invertible.get() == 6
+        recomputed.get() == 123
+
+        when:
+        reductions = 0
+        items.add(0, 4)
+
+        then:
+        invertible.get() == 10
+        recomputed.get() == 4123
+        reductions == 1
+    }
+
+    def "Min and max keep distinct elements that compare equal"() {
+        given:
+        String first = new String('b')
+        String second = new String('B')
+        ObservableList<String> items = FXCollections.observableArrayList('c', first, second)
+        Binding min = IncrementalBindings.min(items, String.CASE_INSENSITIVE_ORDER, null)
+
+        expect:
+        min.get().is(first)
+
+        when:
+        items.remove(1)
+
+        then:
+        min.get().is(second)
+    }
+
+    def "Sums recover once a non finite value is removed"() {
+        given:
+        ObservableList<Double> items = FXCollections.observableArrayList(1d, Double.POSITIVE_INFINITY, 2d)
+        Binding sum = IncrementalBindings.sumAsDouble(items, { it as double } as ToDoubleFunction)
+        Binding average = IncrementalBindings.averageAsDouble(items, { it as double } as ToDoubleFunction, 0d)
+
+        expect:
+        sum.get() == Double.POSITIVE_INFINITY
+
+        when:
+        items.add(Double.NEGATIVE_INFINITY)
+
+        then:
+        Double.isNaN(sum.get())
+
+        when:
+        items.removeAll(Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY)
+
+        then:
+        [sum, average]*.get() == [3d, 1.5d]
+    }
+}
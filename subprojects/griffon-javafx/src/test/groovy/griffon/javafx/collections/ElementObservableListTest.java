@@ -28,9 +28,14 @@ import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static javafx.collections.FXCollections.observableArrayList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -131,6 +136,82 @@ public class ElementObservableListTest {
         assertFalse(changed.get());
     }
 
+    @Test
+    public void testCoalescedUpdatesWithManualFlush() {
+        // given:
+        ObservableList<ObservablePerson> source = observableArrayList();
+        for (int i = 0; i < 6; i++) {
+            source.add(new ObservablePerson(i, "name" + i, "lastname" + i));
+        }
+        ElementObservableList<ObservablePerson> target = new ElementObservableList<>(source);
+        target.setUpdateMode(ElementObservableList.UpdateMode.MANUAL);
+        final List<int[]> ranges = new ArrayList<>();
+        final AtomicInteger changes = new AtomicInteger();
+        ListChangeListener<ObservablePerson> listener = c -> {
+            changes.incrementAndGet();
+            while (c.next()) {
+                assertTrue(c.wasUpdated());
+                ranges.add(new int[]{c.getFrom(), c.getTo()});
+            }
+        };
+        target.addListener(listener);
+
+        // when:
+        source.get(0).setName("updated");
+        source.get(1).setLastname("updated");
+        source.get(1).setName("updated");
+        source.get(4).setId(40);
+
+        // then:
+        assertEquals(0, changes.get());
+
+        // when:
+        target.flush();
+
+        // then:
+        assertEquals(1, changes.get());
+        assertEquals(2, ranges.size());
+        assertArrayEquals(new int[]{0, 2}, ranges.get(0));
+        assertArrayEquals(new int[]{4, 5}, ranges.get(1));
+
+        // when:
+        target.flush();
+
+        // then:
+        assertEquals(1, changes.get());
+    }
+
+    @Test
+    public void testSwitchingToImmediateModeFlushesPendingUpdates() {
+        // given:
+        ObservableList<ObservablePerson> source = observableArrayList();
+        ObservablePerson person = new ObservablePerson(1, "Andres", "Almiray");
+        source.add(person);
+        ElementObservableList<ObservablePerson> target = new ElementObservableList<>(source);
+        target.setUpdateMode(ElementObservableList.UpdateMode.MANUAL);
+        final AtomicInteger changes = new AtomicInteger();
+        ListChangeListener<ObservablePerson> listener = c -> changes.incrementAndGet();
+        target.addListener(listener);
+
+        // when:
+        person.setLastname("Jaramillo");
+        source.remove(person);
+        target.setUpdateMode(ElementObservableList.UpdateMode.IMMEDIATE);
+
+        // then: only the removal is reported
+        assertEquals(1, changes.get());
+
+        // when:
+        source.add(person);
+        person.setLastname("Almiray");
+        target.setUpdateMode(ElementObservableList.UpdateMode.MANUAL);
+        person.setName("Andy");
+        target.setUpdateMode(ElementObservableList.UpdateMode.IMMEDIATE);
+
+        // then:
+        assertEquals(4, changes.get());
+    }
+
     public static class ObservablePerson {
         private final IntegerProperty id = new SimpleIntegerProperty(this, "id");
         private final StringProperty name = new SimpleStringProperty(this, "name");
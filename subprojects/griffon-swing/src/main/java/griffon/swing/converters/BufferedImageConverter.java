@@ -18,6 +18,7 @@
 package griffon.swing.converters;
 
 import griffon.converter.ConversionException;
+import griffon.swing.support.SwingImageCache;
 import org.codehaus.griffon.converter.AbstractConverter;
 
 import javax.imageio.ImageIO;
@@ -74,7 +75,7 @@ public class BufferedImageConverter extends AbstractConverter<BufferedImage> {
 
     protected BufferedImage handleAsURL(URL url) {
         try {
-            return ImageIO.read(url);
+            return SwingImageCache.getImageCopy(url);
         } catch (Exception e) {
             throw illegalValue(url, BufferedImage.class, e);
         }
@@ -18,6 +18,7 @@
 package griffon.swing.converters;
 
 import griffon.converter.ConversionException;
+import griffon.swing.support.SwingImageCache;
 import org.codehaus.griffon.converter.AbstractConverter;
 
 import javax.imageio.ImageIO;
@@ -113,7 +114,7 @@ public class IconConverter extends AbstractConverter<Icon> {
 
     protected Icon handleAsURL(URL url) {
         try {
-            return handleAsImage(ImageIO.read(url));
+            return handleAsImage(SwingImageCache.getImage(url));
         } catch (Exception e) {
             throw illegalValue(url, Icon.class, e);
         }
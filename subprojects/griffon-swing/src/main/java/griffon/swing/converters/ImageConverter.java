@@ -18,6 +18,7 @@
 package griffon.swing.converters;
 
 import griffon.converter.ConversionException;
+import griffon.swing.support.SwingImageCache;
 import org.codehaus.griffon.converter.AbstractConverter;
 
 import javax.imageio.ImageIO;
@@ -75,7 +76,7 @@ public class ImageConverter extends AbstractConverter<Image> {
 
     protected Image handleAsURL(URL url) {
         try {
-            return ImageIO.read(url);
+            return SwingImageCache.getImage(url);
         } catch (Exception e) {
             throw illegalValue(url, Image.class, e);
         }
@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.swing.support;
+
+import griffon.annotations.core.Nonnull;
+import griffon.annotations.core.Nullable;
+import org.codehaus.griffon.runtime.core.resources.ImageCache;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.net.URL;
+
+/**
+ * Holds the {@code ImageCache} shared by all Swing image converters.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public final class SwingImageCache {
+    private static final ImageCache<BufferedImage> INSTANCE = new ImageCache<>(SwingImageCache::weigh);
+
+    private SwingImageCache() {
+        // prevent instantiation
+    }
+
+    @Nonnull
+    public static ImageCache<BufferedImage> getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the cached image for the given URL, decoding it with {@code ImageIO} if needed.
+     * Cached images are shared, thus they must not be modified, see {@link #getImageCopy(URL)}.
+     *
+     * @param url the location of the image.
+     *
+     * @return the shared image or {@code null} if it could not be decoded.
+     */
+    @Nullable
+    public static BufferedImage getImage(@Nonnull URL url) throws Exception {
+        return INSTANCE.get(url, ImageIO::read);
+    }
+
+    /**
+     * Returns a copy of the cached image for the given URL, decoding it with {@code ImageIO} if needed.
+     * Callers get their own mutable copy.
+     *
+     * @param url the location of the image.
+     *
+     * @return a copy of the image or {@code null} if it could not be decoded.
+     */
+    @Nullable
+    public static BufferedImage getImageCopy(@Nonnull URL url) throws Exception {
+        BufferedImage image = getImage(url);
+        return null != image ? copy(image) : null;
+    }
+
+    @Nonnull
+    public static BufferedImage copy(@Nonnull BufferedImage image) {
+        WritableRaster raster = image.copyData(image.getRaster().createCompatibleWritableRaster());
+        return new BufferedImage(image.getColorModel(), raster, image.isAlphaPremultiplied(), null);
+    }
+
+    private static long weigh(@Nonnull BufferedImage image) {
+        return (long) image.getWidth() * image.getHeight() * Math.max(1, image.getColorModel().getPixelSize() / 8);
+    }
+}
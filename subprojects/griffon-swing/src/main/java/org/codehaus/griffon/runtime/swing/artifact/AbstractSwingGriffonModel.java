@@ -20,6 +20,7 @@ package org.codehaus.griffon.runtime.swing.artifact;
 import griffon.annotations.core.Nonnull;
 import griffon.annotations.core.Nullable;
 import griffon.beans.Vetoable;
+import org.codehaus.griffon.runtime.beans.PropertyChangeBatchSupport;
 import org.codehaus.griffon.runtime.core.artifact.AbstractGriffonModel;
 
 import java.beans.PropertyChangeEvent;
@@ -41,10 +42,12 @@ public abstract class AbstractSwingGriffonModel extends AbstractGriffonModel imp
     private static final String ERROR_PROPERTY_NAME_BLANK = "Argument 'propertyName' must not be blank";
     protected final PropertyChangeSupport pcs;
     protected final VetoableChangeSupport vcs;
+    private final PropertyChangeBatchSupport batchSupport;
 
     public AbstractSwingGriffonModel() {
         pcs = new PropertyChangeSupport(this);
         vcs = new VetoableChangeSupport(this);
+        batchSupport = new PropertyChangeBatchSupport(this, pcs);
     }
 
     @Override
@@ -111,12 +114,42 @@ public abstract class AbstractSwingGriffonModel extends AbstractGriffonModel imp
         return pcs.getPropertyChangeListeners(propertyName);
     }
 
+    /**
+     * Executes the given {@code Runnable} delivering all changes it makes once it completes.
+     *
+     * @param runnable the code that performs the changes.
+     *
+     * @see PropertyChangeBatchSupport#batch(Runnable)
+     * @since 3.0.0
+     */
+    public void batch(@Nonnull Runnable runnable) {
+        batchSupport.batch(runnable);
+    }
+
+    public void beginBatch() {
+        batchSupport.begin();
+    }
+
+    public void commitBatch() {
+        batchSupport.commit();
+    }
+
+    public boolean isBatching() {
+        return batchSupport.isBatching();
+    }
+
     protected void firePropertyChange(@Nonnull PropertyChangeEvent event) {
-        pcs.firePropertyChange(requireNonNull(event, ERROR_EVENT_NULL));
+        requireNonNull(event, ERROR_EVENT_NULL);
+        if (!batchSupport.record(event)) {
+            pcs.firePropertyChange(event);
+        }
     }
 
     protected void firePropertyChange(@Nonnull String propertyName, @Nullable Object oldValue, @Nullable Object newValue) {
-        pcs.firePropertyChange(requireNonBlank(propertyName, ERROR_PROPERTY_NAME_BLANK), oldValue, newValue);
+        requireNonBlank(propertyName, ERROR_PROPERTY_NAME_BLANK);
+        if (!batchSupport.record(propertyName, oldValue, newValue)) {
+            pcs.firePropertyChange(propertyName, oldValue, newValue);
+        }
     }
 
     protected void fireVetoableChange(@Nonnull PropertyChangeEvent event) throws PropertyVetoException {
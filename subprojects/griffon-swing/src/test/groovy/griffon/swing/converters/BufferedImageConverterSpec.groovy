@@ -21,6 +21,9 @@ import griffon.converter.ConversionException
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import javax.imageio.ImageIO
+import java.awt.image.BufferedImage
+
 @Unroll
 class BufferedImageConverterSpec extends Specification {
     void "BufferedImage format '#format' should be equal to #image"() {
@@ -65,4 +68,23 @@ class BufferedImageConverterSpec extends Specification {
             new Object(),
         ]
     }
+
+    void "BufferedImages read from the same URL are not shared"() {
+        setup:
+        File file = File.createTempFile('image', '.png')
+        ImageIO.write(new BufferedImage(2, 2, BufferedImage.TYPE_INT_ARGB), 'png', file)
+        def converter = new BufferedImageConverter()
+
+        when:
+        BufferedImage first = converter.fromObject(file.toURI().toURL())
+        first.setRGB(0, 0, 0x7FFF0000)
+        BufferedImage second = converter.fromObject(file.toURI().toURL())
+
+        then:
+        !first.is(second)
+        second.getRGB(0, 0) == 0
+
+        cleanup:
+        file.delete()
+    }
 }
@@ -21,6 +21,9 @@ import griffon.converter.ConversionException
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import javax.imageio.ImageIO
+import java.awt.image.BufferedImage
+
 @Unroll
 class ImageConverterSpec extends Specification {
     void "Image format '#format' should be equal to #image"() {
@@ -66,4 +69,21 @@ class ImageConverterSpec extends Specification {
             new Object(),
         ]
     }
+
+    void "Images read from the same URL are shared"() {
+        setup:
+        File file = File.createTempFile('image', '.png')
+        ImageIO.write(new BufferedImage(2, 2, BufferedImage.TYPE_INT_ARGB), 'png', file)
+        def converter = new ImageConverter()
+
+        when:
+        def first = converter.fromObject(file.toURI().toURL())
+        def second = converter.fromObject(file.toURI().toURL())
+
+        then:
+        first.is(second)
+
+        cleanup:
+        file.delete()
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.util;
+
+import griffon.annotations.core.Nonnull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static griffon.util.ObjectUtils.requireState;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Records property change events while a batch is open.
+ * <p>
+ * Batches belong to the thread that opened them; changes made by other threads are not recorded and should be
+ * delivered right away. Batches may be nested, recorded changes are returned when the outermost batch is committed,
+ * one event per key in the order in which keys were first changed. An event recorded once is returned as is, events
+ * recorded more than once for the same key are merged into one holding the first old value and the last new value.
+ * Events whose old and new values end up being equal are dropped.
+ * <p>
+ * This class does not deliver events, it is shared by the property change support classes of
+ * {@code java.beans} based observables and of {@code PropertySource}s.
+ *
+ * @param <E> the type of property change event.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public final class PropertyChangeBatch<E> {
+    private final Function<? super E, ?> keyFunction;
+    private final BinaryOperator<E> merger;
+    private final Predicate<? super E> unchanged;
+    private final ThreadLocal<Batch<E>> batches = new ThreadLocal<>();
+    private final AtomicInteger openBatches = new AtomicInteger();
+
+    /**
+     * @param keyFunction computes the key used to merge events, such as the property name. A {@code null} key
+     *                    means the event cannot be recorded.
+     * @param merger      merges the first and the last event recorded for the same key.
+     * @param unchanged   tests whether the old and new values of an event are equal.
+     */
+    public PropertyChangeBatch(@Nonnull Function<? super E, ?> keyFunction, @Nonnull BinaryOperator<E> merger, @Nonnull Predicate<? super E> unchanged) {
+        this.keyFunction = requireNonNull(keyFunction, "Argument 'keyFunction' must not be null");
+        this.merger = requireNonNull(merger, "Argument 'merger' must not be null");
+        this.unchanged = requireNonNull(unchanged, "Argument 'unchanged' must not be null");
+    }
+
+    /**
+     * Opens a batch on the current thread.
+     */
+    public void begin() {
+        Batch<E> batch = batches.get();
+        if (batch == null) {
+            batch = new Batch<>();
+            batches.set(batch);
+            openBatches.incrementAndGet();
+        }
+        batch.depth++;
+    }
+
+    /**
+     * Closes the current batch of the current thread.
+     *
+     * @return the events to be delivered if this was the outermost batch, an empty List otherwise.
+     *
+     * @throws IllegalStateException if the current thread has no open batch.
+     */
+    @Nonnull
+    public List<E> commit() {
+        Batch<E> batch = batches.get();
+        requireState(batch != null, "There is no open batch");
+        if (--batch.depth > 0) {
+            return Collections.emptyList();
+        }
+        batches.remove();
+        openBatches.decrementAndGet();
+
+        List<E> events = new ArrayList<>(batch.changes.size());
+        for (E event : batch.changes.values()) {
+            if (!unchanged.test(event)) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * @return {@code true} if the current thread has an open batch.
+     */
+    public boolean isBatching() {
+        return openBatches.get() > 0 && batches.get() != null;
+    }
+
+    /**
+     * Records an event if the current thread has an open batch.
+     *
+     * @param event the event to record.
+     *
+     * @return {@code true} if the event was recorded, {@code false} if it should be delivered right away.
+     */
+    public boolean record(@Nonnull E event) {
+        requireNonNull(event, "Argument 'event' must not be null");
+        if (openBatches.get() == 0) {
+            return false;
+        }
+        Batch<E> batch = batches.get();
+        Object key = batch != null ? keyFunction.apply(event) : null;
+        if (key == null) {
+            return false;
+        }
+        batch.changes.merge(key, event, merger);
+        return true;
+    }
+
+    private static final class Batch<E> {
+        private final Map<Object, E> changes = new LinkedHashMap<>();
+        private int depth;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2008-2023 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package griffon.util;
+
+import griffon.annotations.core.Nonnull;
+
+import java.util.List;
+
+/**
+ * A property change listener that may be notified once per batch of changes.
+ * <p>
+ * When a batch of changes is committed, listeners registered for all properties that also implement this
+ * interface receive a single call to {@link #propertiesChanged(List)} instead of one call per changed property.
+ * The type parameter must match the type of event handled by the listener, that is
+ * {@code java.beans.PropertyChangeEvent} for {@code java.beans.PropertyChangeListener}s and
+ * {@code griffon.core.properties.PropertyChangeEvent} for {@code griffon.core.properties.PropertyChangeListener}s.
+ *
+ * @param <E> the type of property change event.
+ *
+ * @author Andres Almiray
+ * @since 3.0.0
+ */
+public interface PropertyChangeBatchListener<E> {
+    /**
+     * This method gets called when a batch of changes is committed.
+     *
+     * @param events the coalesced changes, in the order in which properties were first changed.
+     */
+    void propertiesChanged(@Nonnull List<E> events);
+}